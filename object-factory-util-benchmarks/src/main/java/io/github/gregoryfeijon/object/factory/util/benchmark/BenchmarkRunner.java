@@ -0,0 +1,61 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks twice, single-threaded and with one thread per available processor, with the
+ * GC profiler ({@code -prof gc}) attached, so allocation rates are reported next to throughput.
+ * <p>
+ * Usage, after {@code mvn package}:
+ * </p>
+ * <pre>{@code
+ * java -jar target/benchmarks.jar                      # every benchmark
+ * java -jar target/benchmarks.jar CollectionCopy -f 1  # any regular JMH option
+ * }</pre>
+ * <p>
+ * An explicit {@code -t} runs only the requested thread count.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Entry point of the benchmark jar.
+     *
+     * @param args regular JMH command line options
+     * @throws RunnerException            if a benchmark fails
+     * @throws CommandLineOptionException if the options cannot be parsed
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.getThreads().hasValue()) {
+            run(commandLine, commandLine.getThreads().get());
+            return;
+        }
+        run(commandLine, 1);
+        run(commandLine, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static void run(CommandLineOptions commandLine, int threads) throws RunnerException {
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackageName() + ".*");
+        }
+        Options options = builder
+                .threads(threads)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark;
+
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.CollectionTestObject;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.MapTestObject;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies of {@code List}/{@code Map} fields and bulk collection copies, for growing collection sizes.
+ *
+ * @author gregory.feijon
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CollectionCopyBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private CollectionTestObject collectionTestObject;
+    private MapTestObject mapTestObject;
+    private List<PrimitiveFoo> primitiveFoos;
+    private List<FooWrapper> fooWrappers;
+
+    @Setup
+    public void setUp() {
+        SerializerProvider.initializeIfEmpty();
+        List<PrimitiveBar> primitiveBars = new ArrayList<>(size);
+        Map<Integer, PrimitiveBar> barMap = HashMap.newHashMap(size);
+        primitiveFoos = new ArrayList<>(size);
+        fooWrappers = new ArrayList<>(size);
+        ObjectFoo objectFoo = ObjectFoo.builder().integerValue(1).stringValue("foo").build();
+        for (int i = 0; i < size; i++) {
+            PrimitiveBar bar = new PrimitiveBar();
+            bar.setLongValue(i);
+            primitiveBars.add(bar);
+            barMap.put(i, bar);
+            PrimitiveFoo foo = PrimitiveFoo.builder().intValue(i).longValue(i).build();
+            primitiveFoos.add(foo);
+            fooWrappers.add(FooWrapper.builder().primitiveFoo(foo).objectFoo(objectFoo).build());
+        }
+        collectionTestObject = CollectionTestObject.builder().primitiveBars(primitiveBars).build();
+        mapTestObject = MapTestObject.builder().barMap(barMap).build();
+    }
+
+    @Benchmark
+    public CollectionTestObject listField() {
+        return ObjectFactoryUtil.createFromObject(collectionTestObject);
+    }
+
+    @Benchmark
+    public MapTestObject mapField() {
+        return ObjectFactoryUtil.createFromObject(mapTestObject);
+    }
+
+    @Benchmark
+    public List<PrimitiveBar> bulkFlat() {
+        return ObjectFactoryUtil.copyAllObjectsFromCollection(primitiveFoos, PrimitiveBar.class);
+    }
+
+    @Benchmark
+    public List<BarWrapper> bulkNested() {
+        return ObjectFactoryUtil.copyAllObjectsFromCollection(fooWrappers, BarWrapper.class);
+    }
+}
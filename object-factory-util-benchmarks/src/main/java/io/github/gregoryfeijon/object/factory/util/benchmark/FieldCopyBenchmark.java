@@ -0,0 +1,122 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark;
+
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.LargeFieldDest;
+import io.github.gregoryfeijon.object.factory.util.domain.LargeFieldSource;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestDest;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestSource;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies of single objects, one benchmark per copy path of a field value.
+ *
+ * @author gregory.feijon
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FieldCopyBenchmark {
+
+    /**
+     * Enum-only source, isolating the enum conversion path.
+     */
+    public static class StatusSource {
+        private StatusTestSource status = StatusTestSource.INACTIVE;
+    }
+
+    /**
+     * Enum-only destination with a different enum type of the same constants.
+     */
+    public static class StatusDest {
+        private StatusTestDest status;
+    }
+
+    private PrimitiveFoo primitiveFoo;
+    private LargeFieldSource largeFieldSource;
+    private ObjectFoo objectFoo;
+    private StatusSource statusSource;
+    private FooWrapper fooWrapper;
+    private FooWrapper proxiedFooWrapper;
+
+    @Setup
+    public void setUp() {
+        SerializerProvider.initializeIfEmpty();
+        primitiveFoo = PrimitiveFoo.builder().intValue(1).longValue(2L).boolValue(true).build();
+        largeFieldSource = LargeFieldSource.builder()
+                .field1("1").field2("2").field3("3").field4("4").field5("5").field6("6")
+                .field7("7").field8("8").field9("9").field10("10").field11("11")
+                .build();
+        objectFoo = ObjectFoo.builder().integerValue(42).stringValue("foo").bigDecimalValue(BigDecimal.TEN).build();
+        statusSource = new StatusSource();
+        fooWrapper = fooWrapper(primitiveFoo);
+        proxiedFooWrapper = fooWrapper(HibernateProxies.initializedProxy(primitiveFoo));
+    }
+
+    @Benchmark
+    public PrimitiveBar flatPrimitives() {
+        return ObjectFactoryUtil.createFromObject(primitiveFoo, PrimitiveBar.class);
+    }
+
+    @Benchmark
+    public LargeFieldDest flatStrings() {
+        return ObjectFactoryUtil.createFromObject(largeFieldSource, LargeFieldDest.class);
+    }
+
+    @Benchmark
+    public ObjectBar wrapperFields() {
+        return ObjectFactoryUtil.createFromObject(objectFoo, ObjectBar.class);
+    }
+
+    @Benchmark
+    public StatusDest enumConversion() {
+        return ObjectFactoryUtil.createFromObject(statusSource, StatusDest.class);
+    }
+
+    @Benchmark
+    public FooWrapper nestedSameClass() {
+        return ObjectFactoryUtil.createFromObject(fooWrapper);
+    }
+
+    @Benchmark
+    public BarWrapper nestedDifferentClass() {
+        return ObjectFactoryUtil.createFromObject(fooWrapper, BarWrapper.class);
+    }
+
+    @Benchmark
+    public BarWrapper hibernateProxy() {
+        return ObjectFactoryUtil.createFromObject(proxiedFooWrapper, BarWrapper.class);
+    }
+
+    private FooWrapper fooWrapper(PrimitiveFoo nested) {
+        return FooWrapper.builder()
+                .primitiveFoo(nested)
+                .objectFoo(objectFoo)
+                .primitiveFooList(List.of(primitiveFoo, primitiveFoo))
+                .objectFooMap(Map.of("foo", objectFoo))
+                .build();
+    }
+}
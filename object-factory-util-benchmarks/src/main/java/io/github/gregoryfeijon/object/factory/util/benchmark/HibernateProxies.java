@@ -0,0 +1,63 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark;
+
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Builds initialized Hibernate proxies without a session factory, for the proxy-unwrapping benchmarks.
+ *
+ * @author gregory.feijon
+ */
+final class HibernateProxies {
+
+    private HibernateProxies() {
+    }
+
+    /**
+     * Wraps an entity in an initialized proxy subclass, as returned by {@code Session.getReference}
+     * once the entity was loaded.
+     *
+     * @param implementation the loaded entity
+     * @return a proxy whose lazy initializer returns {@code implementation}
+     */
+    static PrimitiveFoo initializedProxy(PrimitiveFoo implementation) {
+        LazyInitializer initializer = (LazyInitializer) Proxy.newProxyInstance(
+                HibernateProxies.class.getClassLoader(),
+                new Class<?>[]{LazyInitializer.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "isUninitialized" -> false;
+                    case "getImplementation" -> implementation;
+                    case "getPersistentClass", "getImplementationClass" -> PrimitiveFoo.class;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "LazyInitializer[" + PrimitiveFoo.class.getName() + "]";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return new PrimitiveFooProxy(initializer);
+    }
+
+    /**
+     * Stand-in for the runtime proxy subclass Hibernate generates for an entity.
+     */
+    static final class PrimitiveFooProxy extends PrimitiveFoo implements HibernateProxy {
+
+        private final transient LazyInitializer initializer;
+
+        PrimitiveFooProxy(LazyInitializer initializer) {
+            this.initializer = initializer;
+        }
+
+        @Override
+        public Object writeReplace() {
+            return initializer.getImplementation();
+        }
+
+        @Override
+        public LazyInitializer getHibernateLazyInitializer() {
+            return initializer;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package io.github.gregoryfeijon.object.factory.util.micrometer;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CacheStatistics;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyMetricsListener;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyPath;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the copy metrics of {@code object-factory-util-spring-lib} to a Micrometer {@link MeterRegistry}.
+ * <p>
+ * In a Spring Boot application with Actuator, declaring the binder as a bean is enough:
+ * </p>
+ * <pre>{@code
+ * @Bean
+ * ObjectFactoryUtilMetrics objectFactoryUtilMetrics() {
+ *     return new ObjectFactoryUtilMetrics();
+ * }
+ * }</pre>
+ * <p>
+ * Binding installs the process-wide
+ * {@link ObjectFactoryUtilSettings#setMetricsListener(CopyMetricsListener) metrics listener}, so a binder
+ * should be bound to a single registry (use a composite registry to publish to several backends);
+ * {@link #close()} uninstalls it. The following meters are registered:
+ * </p>
+ * <ul>
+ *   <li>{@value #COPY} — timer per copied (source, destination) class pair, tagged {@code source} and
+ *       {@code destination}. Nested copies are timed too, and are part of their enclosing copy's time.</li>
+ *   <li>{@value #COPY_FIRST} — timer of the first copy of every class pair, tagged {@code warm}; compares
+ *       the first-copy latency of pairs warmed up at startup with that of cold ones.</li>
+ *   <li>{@value #COPY_PATH} — counter per {@link CopyPath}, tagged {@code path}.</li>
+ *   <li>{@value #COPY_SERIALIZED} — size in bytes of every binary or JSON round-trip, tagged {@code path}
+ *       and {@code type}; its count per type shows which classes fall into the slow JSON path.</li>
+ *   <li>{@value #CACHE_GETS} and {@value #CACHE_SIZE} — hits, misses and size of every internal
+ *       metadata cache, tagged {@code cache} (and {@code result}).</li>
+ * </ul>
+ * <p>
+ * Class tags grow with the number of copied class pairs; cap them with a
+ * {@link io.micrometer.core.instrument.config.MeterFilter#maximumAllowableTags MeterFilter} when the set
+ * of copied classes is open-ended.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public final class ObjectFactoryUtilMetrics implements MeterBinder, AutoCloseable {
+
+    /**
+     * Name of the copy latency timer.
+     */
+    public static final String COPY = "object.factory.copy";
+
+    /**
+     * Name of the first-copy latency timer.
+     */
+    public static final String COPY_FIRST = "object.factory.copy.first";
+
+    /**
+     * Name of the copy path counter.
+     */
+    public static final String COPY_PATH = "object.factory.copy.path";
+
+    /**
+     * Name of the serialized size distribution summary.
+     */
+    public static final String COPY_SERIALIZED = "object.factory.copy.serialized";
+
+    /**
+     * Name of the cache lookup counter.
+     */
+    public static final String CACHE_GETS = "object.factory.cache.gets";
+
+    /**
+     * Name of the cache size gauge.
+     */
+    public static final String CACHE_SIZE = "object.factory.cache.size";
+
+    private final Iterable<Tag> tags;
+
+    private volatile MeterListener listener;
+
+    /**
+     * Creates a binder without common tags.
+     */
+    public ObjectFactoryUtilMetrics() {
+        this(Tags.empty());
+    }
+
+    /**
+     * Creates a binder adding common tags to every meter.
+     *
+     * @param tags the tags to add
+     */
+    public ObjectFactoryUtilMetrics(Iterable<Tag> tags) {
+        this.tags = tags;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (CacheStatistics cache : CacheStatistics.all()) {
+            Tags cacheTags = Tags.of(tags).and("cache", cache.name());
+            FunctionCounter.builder(CACHE_GETS, cache, CacheStatistics::hitCount)
+                    .tags(cacheTags).tag("result", "hit")
+                    .description("Metadata cache lookups answered from the cache")
+                    .register(registry);
+            FunctionCounter.builder(CACHE_GETS, cache, CacheStatistics::missCount)
+                    .tags(cacheTags).tag("result", "miss")
+                    .description("Metadata cache lookups that computed their value")
+                    .register(registry);
+            Gauge.builder(CACHE_SIZE, cache, CacheStatistics::size)
+                    .tags(cacheTags)
+                    .description("Approximate number of entries in a metadata cache")
+                    .register(registry);
+        }
+        MeterListener bound = new MeterListener(registry, tags);
+        listener = bound;
+        ObjectFactoryUtilSettings.setMetricsListener(bound);
+    }
+
+    /**
+     * Uninstalls the metrics listener installed by {@link #bindTo(MeterRegistry)}, unless another one
+     * replaced it since.
+     */
+    @Override
+    public void close() {
+        MeterListener bound = listener;
+        if (bound != null && ObjectFactoryUtilSettings.getMetricsListener() == bound) {
+            ObjectFactoryUtilSettings.setMetricsListener(null);
+        }
+        listener = null;
+    }
+
+    /**
+     * Records copy events into meters, resolving each meter once per class (pair) through
+     * {@link ClassValue}s, so recording allocates nothing and does not pin unloaded classes.
+     */
+    private static final class MeterListener implements CopyMetricsListener {
+
+        private final Counter[] pathCounters;
+        private final Timer warmFirstCopies;
+        private final Timer coldFirstCopies;
+        private final ClassValue<ClassValue<Timer>> copyTimers;
+        private final ClassValue<DistributionSummary> binarySizes;
+        private final ClassValue<DistributionSummary> jsonSizes;
+
+        MeterListener(MeterRegistry registry, Iterable<Tag> tags) {
+            CopyPath[] paths = CopyPath.values();
+            pathCounters = new Counter[paths.length];
+            for (CopyPath path : paths) {
+                pathCounters[path.ordinal()] = Counter.builder(COPY_PATH)
+                        .tags(tags).tag("path", tagValue(path))
+                        .description("Values copied per copy path")
+                        .register(registry);
+            }
+            copyTimers = new ClassValue<>() {
+                @Override
+                protected ClassValue<Timer> computeValue(Class<?> sourceClass) {
+                    return new ClassValue<>() {
+                        @Override
+                        protected Timer computeValue(Class<?> destClass) {
+                            return Timer.builder(COPY)
+                                    .tags(tags).tag("source", sourceClass.getName())
+                                    .tag("destination", destClass.getName())
+                                    .description("Time to copy an object into a new or existing instance")
+                                    .register(registry);
+                        }
+                    };
+                }
+            };
+            warmFirstCopies = firstCopyTimer(registry, tags, true);
+            coldFirstCopies = firstCopyTimer(registry, tags, false);
+            binarySizes = sizeSummaries(registry, tags, CopyPath.BINARY_CLONE);
+            jsonSizes = sizeSummaries(registry, tags, CopyPath.JSON_CLONE);
+        }
+
+        @Override
+        public void copyCompleted(Class<?> sourceClass, Class<?> destClass, long nanos) {
+            copyTimers.get(sourceClass).get(destClass).record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void firstCopyCompleted(Class<?> sourceClass, Class<?> destClass, long nanos, boolean warmedUp) {
+            (warmedUp ? warmFirstCopies : coldFirstCopies).record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void pathTaken(CopyPath path) {
+            pathCounters[path.ordinal()].increment();
+        }
+
+        @Override
+        public void serialized(CopyPath path, Class<?> type, long bytes) {
+            ClassValue<DistributionSummary> sizes = path == CopyPath.JSON_CLONE ? jsonSizes : binarySizes;
+            sizes.get(type).record(bytes);
+        }
+
+        private static Timer firstCopyTimer(MeterRegistry registry, Iterable<Tag> tags, boolean warm) {
+            return Timer.builder(COPY_FIRST)
+                    .tags(tags).tag("warm", Boolean.toString(warm))
+                    .description("Time of the first copy of a class pair, with or without startup warm-up")
+                    .register(registry);
+        }
+
+        private static ClassValue<DistributionSummary> sizeSummaries(MeterRegistry registry, Iterable<Tag> tags,
+                                                                     CopyPath path) {
+            return new ClassValue<>() {
+                @Override
+                protected DistributionSummary computeValue(Class<?> type) {
+                    return DistributionSummary.builder(COPY_SERIALIZED)
+                            .tags(tags).tag("path", tagValue(path)).tag("type", type.getName())
+                            .baseUnit("bytes")
+                            .description("Size of the serialized form of values cloned through a serializer")
+                            .register(registry);
+                }
+            };
+        }
+
+        private static String tagValue(CopyPath path) {
+            return path.name().toLowerCase(Locale.ROOT).replace('_', '.');
+        }
+    }
+}
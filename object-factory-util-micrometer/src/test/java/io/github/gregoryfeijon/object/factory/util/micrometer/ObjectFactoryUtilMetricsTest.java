@@ -0,0 +1,134 @@
+package io.github.gregoryfeijon.object.factory.util.micrometer;
+
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectFactoryUtilMetricsTest {
+
+    public static class Address {
+        private String street;
+
+        public Address() {
+        }
+
+        Address(String street) {
+            this.street = street;
+        }
+    }
+
+    public static class Person {
+        private String name;
+        private int age;
+        private Address address;
+        private List<String> nicknames;
+    }
+
+    public static class PersonDto {
+        private String name;
+        private int age;
+        private Address address;
+        private List<String> nicknames;
+    }
+
+    public static class Order {
+        private long id;
+    }
+
+    public static class OrderDto {
+        private long id;
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ObjectFactoryUtilMetrics metrics = new ObjectFactoryUtilMetrics();
+
+    @AfterEach
+    void unbind() {
+        metrics.close();
+    }
+
+    @Test
+    void bindTo_shouldTimeCopiesPerClassPair() {
+        metrics.bindTo(registry);
+
+        ObjectFactoryUtil.createFromObject(person(), PersonDto.class);
+        ObjectFactoryUtil.createFromObject(person(), PersonDto.class);
+
+        Timer timer = registry.get(ObjectFactoryUtilMetrics.COPY)
+                .tag("source", Person.class.getName())
+                .tag("destination", PersonDto.class.getName())
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(registry.get(ObjectFactoryUtilMetrics.COPY)
+                .tag("source", Address.class.getName())
+                .timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void bindTo_shouldCountCopyPaths() {
+        metrics.bindTo(registry);
+
+        ObjectFactoryUtil.createFromObject(person(), PersonDto.class);
+
+        assertThat(registry.get(ObjectFactoryUtilMetrics.COPY_PATH).tag("path", "direct").counter().count())
+                .isPositive();
+        assertThat(registry.get(ObjectFactoryUtilMetrics.COPY_PATH).tag("path", "nested.copy").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get(ObjectFactoryUtilMetrics.COPY_PATH).tag("path", "collection.clone").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void bindTo_shouldPublishCacheStatistics() {
+        metrics.bindTo(registry);
+
+        ObjectFactoryUtil.createFromObject(person(), PersonDto.class);
+        ObjectFactoryUtil.createFromObject(person(), PersonDto.class);
+
+        assertThat(registry.get(ObjectFactoryUtilMetrics.CACHE_GETS)
+                .tag("cache", "copyPlan").tag("result", "hit")
+                .functionCounter().count()).isPositive();
+        assertThat(registry.get(ObjectFactoryUtilMetrics.CACHE_SIZE)
+                .tag("cache", "copyPlan")
+                .gauge().value()).isPositive();
+    }
+
+    @Test
+    void bindTo_shouldTimeFirstCopiesOfWarmedUpPairs() {
+        metrics.bindTo(registry);
+        ObjectFactoryUtil.warmUp(List.of(new ClassPairKey(Order.class, OrderDto.class))).join();
+
+        ObjectFactoryUtil.createFromObject(new Order(), OrderDto.class);
+        ObjectFactoryUtil.createFromObject(new Order(), OrderDto.class);
+
+        assertThat(registry.get(ObjectFactoryUtilMetrics.COPY_FIRST).tag("warm", "true").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void close_shouldUninstallTheListener() {
+        metrics.bindTo(registry);
+        assertThat(ObjectFactoryUtilSettings.getMetricsListener()).isNotNull();
+
+        metrics.close();
+
+        assertThat(ObjectFactoryUtilSettings.getMetricsListener()).isNull();
+    }
+
+    private static Person person() {
+        Person person = new Person();
+        person.name = "ana";
+        person.age = 30;
+        person.address = new Address("main street");
+        person.nicknames = List.of("an");
+        return person;
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.gregoryfeijon.object.factory.util.processor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Renders the Java source of a generated {@code ObjectCopier} for an analyzed pair.
+ * <p>
+ * The copier is placed in the destination's package and named after both types,
+ * e.g. {@code UserEntityToUserDtoCopier}, or {@code UserCopier} when a class is copied into itself.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+final class CopierSourceWriter {
+
+    private static final String SUPPORT = "io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopierSupport";
+
+    private final CopyPairAnalyzer.Result result;
+    private final String simpleName;
+
+    CopierSourceWriter(CopyPairAnalyzer.Result result) {
+        this.result = result;
+        String sourceName = flatName(result.source());
+        this.simpleName = result.source().equals(result.dest())
+                ? sourceName + "Copier"
+                : sourceName + "To" + flatName(result.dest()) + "Copier";
+    }
+
+    String qualifiedName() {
+        return result.packageName().isEmpty() ? simpleName : result.packageName() + "." + simpleName;
+    }
+
+    String write() {
+        String source = result.source().getQualifiedName().toString();
+        String dest = result.dest().getQualifiedName().toString();
+        List<CopyPairAnalyzer.FieldCopy> delegated = result.fields().stream()
+                .filter(CopyPairAnalyzer.FieldCopy::delegated)
+                .toList();
+
+        StringBuilder out = new StringBuilder();
+        if (!result.packageName().isEmpty()) {
+            out.append("package ").append(result.packageName()).append(";\n\n");
+        }
+        out.append("@javax.annotation.processing.Generated(\"")
+                .append(ObjectCopierProcessor.class.getName()).append("\")\n")
+                .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements ").append(ObjectCopierProcessor.OBJECT_COPIER)
+                .append("<").append(source).append(", ").append(dest).append("> {\n\n");
+
+        if (!delegated.isEmpty()) {
+            out.append("    private static final ").append(SUPPORT).append(".FieldDelegate DELEGATE =\n")
+                    .append("            ").append(SUPPORT).append(".delegate(")
+                    .append(source).append(".class, ").append(dest).append(".class")
+                    .append(delegated.stream()
+                            .map(field -> ", \"" + field.sourceName() + "\"")
+                            .collect(Collectors.joining()))
+                    .append(");\n\n");
+        }
+
+        out.append("    @Override\n")
+                .append("    public Class<").append(source).append("> sourceType() {\n")
+                .append("        return ").append(source).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(dest).append("> destType() {\n")
+                .append("        return ").append(dest).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void copy(").append(source).append(" source, ").append(dest).append(" dest) {\n");
+        for (CopyPairAnalyzer.FieldCopy field : result.fields()) {
+            if (!field.delegated()) {
+                out.append("        ").append(field.write().formatted(field.read())).append("\n");
+            }
+        }
+        if (!delegated.isEmpty()) {
+            out.append("        DELEGATE.copy(source, dest);\n");
+        }
+        out.append("    }\n")
+                .append("}\n");
+        return out.toString();
+    }
+
+    /**
+     * Simple name including enclosing types, joined with {@code _} (e.g. {@code Outer_Inner}).
+     */
+    private static String flatName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement typeElement;
+             enclosing = typeElement.getEnclosingElement()) {
+            name.insert(0, typeElement.getSimpleName() + "_");
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,381 @@
+package io.github.gregoryfeijon.object.factory.util.processor;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matches the fields of a (source, destination) pair at compile time, following the same rules
+ * as the library's runtime {@code FieldResolver}:
+ * <ul>
+ *   <li>fields of the whole class hierarchy, subclass first; {@code static final} source fields are skipped</li>
+ *   <li>fields match by {@code @FieldCopyName} value or name, case-insensitively</li>
+ *   <li>{@code @ObjectConstructor(exclude)} on the destination, {@code @ObjectCopyExclusions} on either side
+ *       and {@code @ObjectCopyExclude} on either side's fields remove source fields</li>
+ * </ul>
+ * Each matched field is either copied directly by the generated code (same-type primitives, enums,
+ * {@code String} and boxed primitives, reachable through a field or accessor) or delegated back to the
+ * library at runtime.
+ *
+ * @author gregory.feijon
+ */
+final class CopyPairAnalyzer {
+
+    private static final String FIELD_COPY_NAME = ObjectCopierProcessor.ANNOTATION_PACKAGE + "FieldCopyName";
+    private static final String OBJECT_COPY_EXCLUDE = ObjectCopierProcessor.ANNOTATION_PACKAGE + "ObjectCopyExclude";
+    private static final String OBJECT_COPY_EXCLUSIONS = ObjectCopierProcessor.ANNOTATION_PACKAGE + "ObjectCopyExclusions";
+
+    private static final Set<String> SIMPLE_TYPES = Set.of(
+            "java.lang.String", "java.lang.Boolean", "java.lang.Byte", "java.lang.Short", "java.lang.Character",
+            "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double");
+
+    private final Elements elements;
+    private final Types types;
+
+    CopyPairAnalyzer(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    /**
+     * A matched field pair. {@code read} and {@code write} are {@code null} when the field is delegated.
+     *
+     * @param sourceName the source field name
+     * @param read       expression reading the value from {@code source}
+     * @param write      statement template writing {@code %s} into {@code dest}
+     */
+    record FieldCopy(String sourceName, String read, String write) {
+
+        boolean delegated() {
+            return read == null;
+        }
+    }
+
+    /**
+     * Outcome of analyzing a pair.
+     *
+     * @param source      the source type
+     * @param dest        the destination type
+     * @param packageName the package of the generated copier
+     * @param fields      the matched fields, in source order
+     * @param skipReason  why no copier can be generated, or {@code null}
+     */
+    record Result(TypeElement source, TypeElement dest, String packageName, List<FieldCopy> fields,
+                  String skipReason) {
+
+        static Result skipped(TypeElement source, TypeElement dest, String reason) {
+            return new Result(source, dest, null, List.of(), reason);
+        }
+    }
+
+    Result analyze(TypeElement source, TypeElement dest) {
+        if (dest.getKind() != ElementKind.CLASS) {
+            return Result.skipped(source, dest, "destination is not a class");
+        }
+        String packageName = packageOf(dest);
+        if (!isTypeAccessible(source, packageName) || !isTypeAccessible(dest, packageName)) {
+            return Result.skipped(source, dest, "type is not accessible from package " + packageName);
+        }
+
+        List<VariableElement> sourceFields = fieldsHierarchy(source);
+        List<VariableElement> destFields = fieldsHierarchy(dest);
+        Set<VariableElement> excluded = collectExclusions(source, dest, sourceFields, destFields);
+
+        List<VariableElement> copyable = new ArrayList<>(sourceFields);
+        copyable.removeAll(excluded);
+        Map<String, VariableElement> sourceByKey = byKey(copyable);
+        Map<String, VariableElement> destByKey = byKey(destFields);
+
+        List<FieldCopy> copies = new ArrayList<>();
+        for (VariableElement sourceField : copyable) {
+            String key = fieldKey(sourceField);
+            VariableElement destField = destByKey.get(key);
+            if (destField != null && sourceByKey.get(key) == sourceField) {
+                copies.add(resolveCopy(source, dest, sourceField, destField, packageName));
+            }
+        }
+        return new Result(source, dest, packageName, copies, null);
+    }
+
+    private Set<VariableElement> collectExclusions(TypeElement source, TypeElement dest,
+                                                   List<VariableElement> sourceFields,
+                                                   List<VariableElement> destFields) {
+        Set<VariableElement> excluded = new HashSet<>();
+        Map<String, VariableElement> allSourceByKey = byKey(sourceFields);
+
+        for (VariableElement field : sourceFields) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if ((modifiers.contains(Modifier.STATIC) && modifiers.contains(Modifier.FINAL))
+                    || hasAnnotation(field, OBJECT_COPY_EXCLUDE)) {
+                excluded.add(field);
+            }
+        }
+
+        Set<String> listed = new HashSet<>(classExclusions(dest, true));
+        listed.addAll(classExclusions(source, false));
+        for (String name : listed) {
+            VariableElement field = allSourceByKey.get(name.toLowerCase(Locale.ROOT));
+            if (field != null) {
+                excluded.add(field);
+            }
+        }
+
+        for (VariableElement destField : destFields) {
+            if (hasAnnotation(destField, OBJECT_COPY_EXCLUDE)) {
+                VariableElement field = allSourceByKey.get(fieldKey(destField));
+                if (field != null) {
+                    excluded.add(field);
+                }
+            }
+        }
+        return excluded;
+    }
+
+    private List<String> classExclusions(TypeElement type, boolean includeObjectConstructor) {
+        List<String> exclusions = new ArrayList<>();
+        for (TypeElement current = type; current != null; current = superclassOf(current)) {
+            if (includeObjectConstructor) {
+                exclusions.addAll(stringArray(current, ObjectCopierProcessor.OBJECT_CONSTRUCTOR, "exclude"));
+            }
+            exclusions.addAll(stringArray(current, OBJECT_COPY_EXCLUSIONS, "value"));
+        }
+        return exclusions;
+    }
+
+    private FieldCopy resolveCopy(TypeElement source, TypeElement dest, VariableElement sourceField,
+                                  VariableElement destField, String packageName) {
+        String name = sourceField.getSimpleName().toString();
+        if (!isDirectlyCopyable(sourceField, destField)) {
+            return new FieldCopy(name, null, null);
+        }
+        String read = readExpression(source, sourceField, packageName);
+        String write = writeStatement(dest, destField, packageName);
+        if (read == null || write == null) {
+            return new FieldCopy(name, null, null);
+        }
+        return new FieldCopy(name, read, write);
+    }
+
+    private boolean isDirectlyCopyable(VariableElement sourceField, VariableElement destField) {
+        if (sourceField.getModifiers().contains(Modifier.STATIC) || destField.getModifiers().contains(Modifier.STATIC)
+                || destField.getModifiers().contains(Modifier.FINAL)) {
+            return false;
+        }
+        TypeMirror type = types.erasure(sourceField.asType());
+        if (!types.isSameType(type, types.erasure(destField.asType()))) {
+            return false;
+        }
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return element.getKind() == ElementKind.ENUM || SIMPLE_TYPES.contains(element.getQualifiedName().toString());
+    }
+
+    private String readExpression(TypeElement owner, VariableElement field, String packageName) {
+        if (isMemberAccessible(field, packageName)) {
+            return "source." + field.getSimpleName();
+        }
+        String getter = getterName(field);
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(owner))) {
+            if (method.getSimpleName().contentEquals(getter) && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && isMemberAccessible(method, packageName)
+                    && types.isSameType(types.erasure(method.getReturnType()), types.erasure(field.asType()))) {
+                return "source." + getter + "()";
+            }
+        }
+        return hasLombokAccessor(field, packageName, "lombok.Getter", "lombok.Data", "lombok.Value")
+                ? "source." + getter + "()"
+                : null;
+    }
+
+    private String writeStatement(TypeElement owner, VariableElement field, String packageName) {
+        if (isMemberAccessible(field, packageName)) {
+            return "dest." + field.getSimpleName() + " = %s;";
+        }
+        String setter = setterName(field);
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(owner))) {
+            if (method.getSimpleName().contentEquals(setter) && method.getParameters().size() == 1
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && isMemberAccessible(method, packageName)
+                    && types.isSameType(types.erasure(method.getParameters().getFirst().asType()),
+                    types.erasure(field.asType()))) {
+                return "dest." + setter + "(%s);";
+            }
+        }
+        return hasLombokAccessor(field, packageName, "lombok.Setter", "lombok.Data")
+                ? "dest." + setter + "(%s);"
+                : null;
+    }
+
+    /**
+     * Checks for a Lombok accessor annotation on the field, falling back to its declaring class.
+     * A field-level annotation always wins, so {@code @Getter(AccessLevel.NONE)} disables a class-level one.
+     */
+    private boolean hasLombokAccessor(VariableElement field, String packageName, String... annotations) {
+        AnnotationMirror mirror = findAnnotation(field, annotations[0]);
+        if (mirror == null) {
+            TypeElement declaring = (TypeElement) field.getEnclosingElement();
+            for (String annotation : annotations) {
+                mirror = findAnnotation(declaring, annotation);
+                if (mirror != null) {
+                    break;
+                }
+            }
+        }
+        if (mirror == null) {
+            return false;
+        }
+        Object level = annotationValue(mirror, "value");
+        String accessLevel = level == null ? "PUBLIC" : level.toString();
+        boolean samePackage = packageOf((TypeElement) field.getEnclosingElement()).equals(packageName);
+        return switch (accessLevel) {
+            case "PUBLIC" -> samePackage || isTypeAccessible((TypeElement) field.getEnclosingElement(), packageName);
+            case "PROTECTED", "PACKAGE" -> samePackage;
+            default -> false;
+        };
+    }
+
+    private static String getterName(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (field.asType().getKind() == TypeKind.BOOLEAN) {
+            return hasIsPrefix(name) ? name : "is" + capitalize(name);
+        }
+        return "get" + capitalize(name);
+    }
+
+    private static String setterName(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (field.asType().getKind() == TypeKind.BOOLEAN && hasIsPrefix(name)) {
+            return "set" + name.substring(2);
+        }
+        return "set" + capitalize(name);
+    }
+
+    private static boolean hasIsPrefix(String name) {
+        return name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private boolean isMemberAccessible(Element member, String packageName) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        TypeElement declaring = (TypeElement) member.getEnclosingElement();
+        if (packageOf(declaring).equals(packageName)) {
+            return true;
+        }
+        return modifiers.contains(Modifier.PUBLIC) && isTypeAccessible(declaring, packageName);
+    }
+
+    private boolean isTypeAccessible(TypeElement type, String packageName) {
+        for (Element current = type; current instanceof TypeElement typeElement;
+             current = current.getEnclosingElement()) {
+            Set<Modifier> modifiers = typeElement.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                    || (!modifiers.contains(Modifier.PUBLIC) && !packageOf(typeElement).equals(packageName))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<VariableElement> fieldsHierarchy(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        for (TypeElement current = type; current != null; current = superclassOf(current)) {
+            fields.addAll(ElementFilter.fieldsIn(current.getEnclosedElements()));
+        }
+        return fields;
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private Map<String, VariableElement> byKey(List<VariableElement> fields) {
+        Map<String, VariableElement> map = new LinkedHashMap<>();
+        for (VariableElement field : fields) {
+            map.putIfAbsent(fieldKey(field), field);
+        }
+        return map;
+    }
+
+    private String fieldKey(VariableElement field) {
+        AnnotationMirror mirror = findAnnotation(field, FIELD_COPY_NAME);
+        Object value = mirror == null ? null : annotationValue(mirror, "value");
+        String key = value != null && !value.toString().isBlank() ? value.toString() : field.getSimpleName().toString();
+        return key.toLowerCase(Locale.ROOT).trim();
+    }
+
+    private String packageOf(TypeElement type) {
+        PackageElement packageElement = elements.getPackageOf(type);
+        return packageElement.getQualifiedName().toString();
+    }
+
+    private List<String> stringArray(Element element, String annotation, String attribute) {
+        AnnotationMirror mirror = findAnnotation(element, annotation);
+        Object value = mirror == null ? null : annotationValue(mirror, attribute);
+        List<String> values = new ArrayList<>();
+        if (value instanceof List<?> list) {
+            for (Object item : list) {
+                values.add(((AnnotationValue) item).getValue().toString());
+            }
+        }
+        return values;
+    }
+
+    private static boolean hasAnnotation(Element element, String annotation) {
+        return findAnnotation(element, annotation) != null;
+    }
+
+    static AnnotationMirror findAnnotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    static Object annotationValue(AnnotationMirror mirror, String attribute) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,196 @@
+package io.github.gregoryfeijon.object.factory.util.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates plain-Java {@code ObjectCopier} implementations at build time.
+ * <p>
+ * A copier is generated for:
+ * </p>
+ * <ul>
+ *   <li>every class annotated with {@code @ObjectConstructor} (copying the class into itself)</li>
+ *   <li>every pair declared with {@code @CopyMapping(source = ..., dest = ...)}</li>
+ * </ul>
+ * <p>
+ * Generated copiers are listed in {@code META-INF/services}, so the library's
+ * {@code ObjectCopierRegistry} discovers them at runtime. Annotations are matched by name, so this
+ * processor has no dependency on the library itself.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public class ObjectCopierProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION_PACKAGE = "io.github.gregoryfeijon.object.factory.util.domain.annotation.";
+    static final String OBJECT_CONSTRUCTOR = ANNOTATION_PACKAGE + "ObjectConstructor";
+    static final String COPY_MAPPING = ANNOTATION_PACKAGE + "CopyMapping";
+    static final String COPY_MAPPINGS = ANNOTATION_PACKAGE + "CopyMappings";
+    static final String OBJECT_COPIER = "io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopier";
+    static final String SERVICE_FILE = "META-INF/services/" + OBJECT_COPIER;
+
+    private final Set<String> processedPairs = new HashSet<>();
+    private final Set<String> generatedCopiers = new LinkedHashSet<>();
+
+    private Filer filer;
+    private Messager messager;
+    private CopyPairAnalyzer analyzer;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+        this.analyzer = new CopyPairAnalyzer(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(OBJECT_CONSTRUCTOR, COPY_MAPPING, COPY_MAPPINGS);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                for (TypeElement[] pair : collectPairs(element)) {
+                    generate(pair[0], pair[1], element);
+                }
+            }
+        }
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+        }
+        return false;
+    }
+
+    private List<TypeElement[]> collectPairs(Element element) {
+        List<TypeElement[]> pairs = new ArrayList<>();
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            switch (name) {
+                case OBJECT_CONSTRUCTOR -> pairs.add(new TypeElement[]{(TypeElement) element, (TypeElement) element});
+                case COPY_MAPPING -> addMapping(pairs, mirror);
+                case COPY_MAPPINGS -> {
+                    if (CopyPairAnalyzer.annotationValue(mirror, "value") instanceof List<?> mappings) {
+                        for (Object value : mappings) {
+                            addMapping(pairs, (AnnotationMirror) ((AnnotationValue) value).getValue());
+                        }
+                    }
+                }
+                default -> {
+                    // not ours
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private void addMapping(List<TypeElement[]> pairs, AnnotationMirror mapping) {
+        TypeElement source = asTypeElement(CopyPairAnalyzer.annotationValue(mapping, "source"));
+        TypeElement dest = asTypeElement(CopyPairAnalyzer.annotationValue(mapping, "dest"));
+        if (source != null && dest != null) {
+            pairs.add(new TypeElement[]{source, dest});
+        }
+    }
+
+    private void generate(TypeElement source, TypeElement dest, Element origin) {
+        String pairKey = source.getQualifiedName() + "->" + dest.getQualifiedName();
+        if (!processedPairs.add(pairKey)) {
+            return;
+        }
+        CopyPairAnalyzer.Result result = analyzer.analyze(source, dest);
+        if (result.skipReason() != null) {
+            messager.printMessage(Diagnostic.Kind.NOTE,
+                    "No copier generated for " + pairKey + ": " + result.skipReason(), origin);
+            return;
+        }
+        CopierSourceWriter writer = new CopierSourceWriter(result);
+        try {
+            JavaFileObject file = filer.createSourceFile(writer.qualifiedName(), source, dest, origin);
+            try (Writer out = file.openWriter()) {
+                out.write(writer.write());
+            }
+            generatedCopiers.add(writer.qualifiedName());
+        } catch (IOException ex) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Could not write copier for " + pairKey + ": " + ex.getMessage(), origin);
+        }
+    }
+
+    /**
+     * Writes the service file, keeping entries from a previous incremental build.
+     */
+    private void writeServiceFile() {
+        if (generatedCopiers.isEmpty()) {
+            return;
+        }
+        Set<String> entries = new LinkedHashSet<>(readExistingServiceEntries());
+        entries.addAll(generatedCopiers);
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer out = file.openWriter()) {
+                for (String entry : entries) {
+                    out.write(entry);
+                    out.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + SERVICE_FILE + ": " + ex.getMessage());
+        }
+    }
+
+    private Set<String> readExistingServiceEntries() {
+        Set<String> entries = new LinkedHashSet<>();
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Reader reader = existing.openReader(true); BufferedReader lines = new BufferedReader(reader)) {
+                lines.lines()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .forEach(entries::add);
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            // first build: nothing to merge
+        }
+        return entries;
+    }
+
+    private static TypeElement asTypeElement(Object value) {
+        if (!(value instanceof DeclaredType type)) {
+            return null;
+        }
+        Element element = type.asElement();
+        return element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.RECORD
+                ? (TypeElement) element
+                : null;
+    }
+}
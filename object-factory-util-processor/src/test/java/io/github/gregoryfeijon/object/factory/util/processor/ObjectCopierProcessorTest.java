@@ -0,0 +1,178 @@
+package io.github.gregoryfeijon.object.factory.util.processor;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectCopierProcessorTest {
+
+    private static final String PERSON = """
+            package com.example;
+
+            import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectConstructor;
+            import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCopyExclude;
+
+            @ObjectConstructor(exclude = "secret")
+            public class Person {
+                String name;
+                private int age;
+                private boolean isActive;
+                private String secret;
+                @ObjectCopyExclude
+                private String token;
+                private static final String CONSTANT = "constant";
+
+                public int getAge() { return age; }
+                public void setAge(int age) { this.age = age; }
+                public boolean isActive() { return isActive; }
+                public void setActive(boolean active) { this.isActive = active; }
+                public String getSecret() { return secret; }
+                public void setSecret(String secret) { this.secret = secret; }
+                public String getToken() { return token; }
+                public void setToken(String token) { this.token = token; }
+                public String getName() { return name; }
+            }
+            """;
+
+    private static final String PERSON_DTO = """
+            package com.example.dto;
+
+            import io.github.gregoryfeijon.object.factory.util.domain.annotation.FieldCopyName;
+
+            public class PersonDto {
+                @FieldCopyName("name")
+                private String fullName;
+                private Integer age;
+
+                public String getFullName() { return fullName; }
+                public void setFullName(String fullName) { this.fullName = fullName; }
+                public Integer getAge() { return age; }
+                public void setAge(Integer age) { this.age = age; }
+            }
+            """;
+
+    private static final String MAPPINGS = """
+            package com.example;
+
+            import com.example.dto.PersonDto;
+            import io.github.gregoryfeijon.object.factory.util.domain.annotation.CopyMapping;
+
+            @CopyMapping(source = Person.class, dest = PersonDto.class)
+            public class Mappings {
+            }
+            """;
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void shouldGenerateSameClassCopierWithDirectAccessAndExclusions() throws Exception {
+        Path output = compile();
+
+        String generated = Files.readString(output.resolve("generated/com/example/PersonCopier.java"));
+        assertThat(generated)
+                .contains("implements io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopier<com.example.Person, com.example.Person>")
+                .contains("dest.name = source.name;")
+                .contains("dest.setAge(source.getAge());")
+                .contains("dest.setActive(source.isActive());")
+                .doesNotContain("Secret")
+                .doesNotContain("Token")
+                .doesNotContain("CONSTANT")
+                .doesNotContain("DELEGATE");
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.resolve("classes").toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> personClass = loader.loadClass("com.example.Person");
+            Object source = personClass.getDeclaredConstructor().newInstance();
+            personClass.getMethod("setAge", int.class).invoke(source, 30);
+            personClass.getMethod("setActive", boolean.class).invoke(source, true);
+            personClass.getMethod("setSecret", String.class).invoke(source, "secret");
+            Object dest = personClass.getDeclaredConstructor().newInstance();
+
+            copier(loader, "com.example.PersonCopier").copy(source, dest);
+
+            assertThat(personClass.getMethod("getAge").invoke(dest)).isEqualTo(30);
+            assertThat(personClass.getMethod("isActive").invoke(dest)).isEqualTo(true);
+            assertThat(personClass.getMethod("getSecret").invoke(dest)).isNull();
+        }
+    }
+
+    @Test
+    void shouldGenerateMappingCopierDelegatingConversions() throws Exception {
+        Path output = compile();
+
+        String generated = Files.readString(output.resolve("generated/com/example/dto/PersonToPersonDtoCopier.java"));
+        assertThat(generated)
+                .contains("package com.example.dto;")
+                .contains("dest.setFullName(source.getName());")
+                .contains(".delegate(com.example.Person.class, com.example.dto.PersonDto.class, \"age\")")
+                .doesNotContain("isActive");
+    }
+
+    @Test
+    void shouldListGeneratedCopiersInServiceFile() throws Exception {
+        Path output = compile();
+
+        List<String> services = Files.readAllLines(output.resolve("classes").resolve(ObjectCopierProcessor.SERVICE_FILE));
+        assertThat(services).containsExactlyInAnyOrder("com.example.PersonCopier", "com.example.dto.PersonToPersonDtoCopier");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectCopier<Object, Object> copier(ClassLoader loader, String name) throws Exception {
+        return (ObjectCopier<Object, Object>) loader.loadClass(name).getDeclaredConstructor().newInstance();
+    }
+
+    private Path compile() throws IOException {
+        Path sources = workDir.resolve("src");
+        write(sources.resolve("com/example/Person.java"), PERSON);
+        write(sources.resolve("com/example/dto/PersonDto.java"), PERSON_DTO);
+        write(sources.resolve("com/example/Mappings.java"), MAPPINGS);
+        Path classes = Files.createDirectories(workDir.resolve("out/classes"));
+        Path generated = Files.createDirectories(workDir.resolve("out/generated"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+             Stream<Path> files = Files.walk(sources)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(
+                    files.filter(path -> path.toString().endsWith(".java")).toList());
+            List<String> options = List.of(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", classes.toString(),
+                    "-s", generated.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, units);
+            task.setProcessors(List.of(new ObjectCopierProcessor()));
+
+            boolean success = task.call();
+            assertThat(success)
+                    .as(() -> diagnostics.getDiagnostics().stream()
+                            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                            .map(Object::toString)
+                            .toList()
+                            .toString())
+                    .isTrue();
+        }
+        return workDir.resolve("out");
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
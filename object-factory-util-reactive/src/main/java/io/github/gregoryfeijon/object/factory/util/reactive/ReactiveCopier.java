@@ -0,0 +1,103 @@
+package io.github.gregoryfeijon.object.factory.util.reactive;
+
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.exception.ErrorMessages;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reactive Streams operators copying every element of a {@link Publisher} with {@link ObjectFactoryUtil}.
+ * <p>
+ * The operators are meant for {@link Flux#transform(Function)}:
+ * </p>
+ * <pre>{@code
+ * Flux<PersonDto> dtos = people.transform(ReactiveCopier.copy(PersonDto.class));
+ * Flux<PersonDto> offloaded = people.transform(
+ *         ReactiveCopier.copyInBatches(PersonDto.class, 256, 2, Schedulers.parallel()));
+ * }</pre>
+ * <p>
+ * Every subscription gets its own {@link ObjectFactoryUtil#copyFunction(Class) copy function}, so the
+ * copy plan is resolved once per subscription (and again only when the element class changes). Both
+ * operators honor downstream demand: {@link #copy(Class)} requests exactly what is requested from it,
+ * and {@link #copyInBatches(Class, int, int, Scheduler)} keeps at most {@code prefetch} batches in flight.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public final class ReactiveCopier {
+
+    private ReactiveCopier() {
+    }
+
+    /**
+     * Creates an operator copying every element on the thread that emits it.
+     * <p>
+     * Suitable for small objects; prefer {@link #copyInBatches(Class, int, int, Scheduler)} to keep large
+     * copies off event-loop threads.
+     * </p>
+     *
+     * @param <T>        the target type
+     * @param returnType the class to copy every element into
+     * @return an operator emitting one copy per source element, in the source order
+     * @throws ApiException if the target type is null
+     */
+    public static <T> Function<Publisher<?>, Flux<T>> copy(Class<T> returnType) {
+        verify(returnType != null, ErrorMessages.RETURN_TYPE_NULL);
+        return source -> Flux.defer(() -> Flux.from(source).map(ObjectFactoryUtil.copyFunction(returnType)));
+    }
+
+    /**
+     * Creates an operator copying elements in batches on a scheduler.
+     * <p>
+     * Source elements are grouped into batches of up to {@code batchSize} elements (a partial batch is
+     * emitted when the source completes). Up to {@code prefetch} batches are requested ahead of
+     * downstream demand and copied concurrently on {@code scheduler}; their copies are emitted in the
+     * source order. At most {@code batchSize × prefetch} elements are buffered per subscription.
+     * Cancelling the subscription stops copying at the next batch.
+     * </p>
+     *
+     * @param <T>        the target type
+     * @param returnType the class to copy every element into
+     * @param batchSize  the maximum number of elements per batch
+     * @param prefetch   the maximum number of batches requested and copied ahead of demand
+     * @param scheduler  the scheduler batches are copied on (ideally bounded, e.g. {@code Schedulers.parallel()})
+     * @return an operator emitting one copy per source element, in the source order
+     * @throws ApiException if the target type or scheduler is null, or the batch size or prefetch is not positive
+     */
+    public static <T> Function<Publisher<?>, Flux<T>> copyInBatches(Class<T> returnType, int batchSize,
+                                                                     int prefetch, Scheduler scheduler) {
+        verify(returnType != null, ErrorMessages.RETURN_TYPE_NULL);
+        verify(batchSize > 0, ErrorMessages.CHUNK_SIZE_INVALID);
+        verify(prefetch > 0, ErrorMessages.PREFETCH_INVALID);
+        verify(scheduler != null, ErrorMessages.SCHEDULER_NULL);
+        return source -> Flux.defer(() -> {
+            Function<Object, T> copy = ObjectFactoryUtil.copyFunction(returnType);
+            return Flux.from(source)
+                    .buffer(batchSize)
+                    .flatMapSequential(batch -> Mono.fromCallable(() -> copyBatch(batch, copy))
+                            .subscribeOn(scheduler), prefetch, 1)
+                    .flatMapIterable(Function.identity());
+        });
+    }
+
+    private static void verify(boolean valid, String message) {
+        if (!valid) {
+            throw new ApiException(message);
+        }
+    }
+
+    private static <T> List<T> copyBatch(List<?> batch, Function<Object, T> copy) {
+        List<T> copies = new ArrayList<>(batch.size());
+        for (Object element : batch) {
+            copies.add(copy.apply(element));
+        }
+        return copies;
+    }
+}
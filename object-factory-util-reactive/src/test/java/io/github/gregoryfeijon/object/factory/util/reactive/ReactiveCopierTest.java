@@ -0,0 +1,121 @@
+package io.github.gregoryfeijon.object.factory.util.reactive;
+
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.exception.ErrorMessages;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReactiveCopierTest {
+
+    public static class Person {
+        private String name;
+        private int age;
+
+        public Person() {
+        }
+
+        Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    public static class PersonDto {
+        private String name;
+        private int age;
+    }
+
+    @Test
+    void copy_shouldCopyEveryElementInOrder() {
+        Person ana = new Person("ana", 30);
+        Person bob = new Person("bob", 40);
+
+        List<PersonDto> copies = Flux.just(ana, bob)
+                .transform(ReactiveCopier.copy(PersonDto.class))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(copies).extracting(dto -> dto.name).containsExactly("ana", "bob");
+        assertThat(copies).extracting(dto -> dto.age).containsExactly(30, 40);
+    }
+
+    @Test
+    void copy_shouldRequestOnlyWhatDownstreamRequests() {
+        AtomicLong requested = new AtomicLong();
+        Flux<Person> people = Flux.range(0, 100)
+                .map(i -> new Person("p" + i, i))
+                .doOnRequest(requested::addAndGet);
+
+        StepVerifier.create(people.transform(ReactiveCopier.copy(PersonDto.class)), 0)
+                .thenRequest(3)
+                .expectNextCount(3)
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+
+        assertThat(requested).hasValue(3);
+    }
+
+    @Test
+    void copyInBatches_shouldKeepOrderAcrossConcurrentBatches() {
+        Scheduler scheduler = Schedulers.newParallel("copy-test", 4);
+        try {
+            List<PersonDto> copies = Flux.range(0, 1_000)
+                    .map(i -> new Person("p" + i, i))
+                    .transform(ReactiveCopier.copyInBatches(PersonDto.class, 64, 4, scheduler))
+                    .collectList()
+                    .block(Duration.ofSeconds(30));
+
+            assertThat(copies).hasSize(1_000);
+            for (int i = 0; i < copies.size(); i++) {
+                assertThat(copies.get(i).age).isEqualTo(i);
+            }
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    void copyInBatches_shouldBoundElementsInFlight() {
+        AtomicLong requested = new AtomicLong();
+        Flux<Person> people = Flux.range(0, 10_000)
+                .map(i -> new Person("p" + i, i))
+                .doOnRequest(requested::addAndGet);
+
+        StepVerifier.create(people.transform(ReactiveCopier.copyInBatches(PersonDto.class, 10, 2,
+                        Schedulers.parallel())), 0)
+                .thenRequest(1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+
+        assertThat(requested.get()).isLessThanOrEqualTo(30);
+    }
+
+    @Test
+    void copyInBatches_shouldRejectInvalidBatchSize() {
+        assertThatThrownBy(() -> ReactiveCopier.copyInBatches(PersonDto.class, 0, 1, Schedulers.parallel()))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> ReactiveCopier.copy(null))
+                .isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void copyInBatches_shouldRejectInvalidPrefetchAndScheduler() {
+        assertThatThrownBy(() -> ReactiveCopier.copyInBatches(PersonDto.class, 16, 0, Schedulers.parallel()))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining(ErrorMessages.PREFETCH_INVALID);
+        assertThatThrownBy(() -> ReactiveCopier.copyInBatches(PersonDto.class, 16, 1, null))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining(ErrorMessages.SCHEDULER_NULL);
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.gregoryfeijon.object.factory.util.domain.annotation;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the constructor through which {@link ObjectFactoryUtil} creates copies of a destination class.
+ * <p>
+ * Instead of instantiating the class through its no-arg constructor and writing its fields afterwards,
+ * the copy computes the value of every field bound to a constructor parameter and invokes the
+ * constructor once, so classes with {@code final} fields and no no-arg constructor can be copied.
+ * Matched fields that are not constructor parameters are still written after construction.
+ * Records need no annotation: they are always created through their canonical constructor.
+ * </p>
+ * <p>
+ * Only one constructor of a class may be annotated. Example usage:
+ * <pre>
+ * public class Price {
+ *     private final String currency;
+ *     private final BigDecimal amount;
+ *
+ *     &#64;CopyConstructor({"currency", "amount"})
+ *     public Price(String currency, BigDecimal amount) {
+ *         this.currency = currency;
+ *         this.amount = amount;
+ *     }
+ * }
+ * </pre>
+ *
+ * @author gregory.feijon
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.CONSTRUCTOR)
+public @interface CopyConstructor {
+
+    /**
+     * Names of the destination fields passed as the constructor parameters, in parameter order.
+     * <p>
+     * When empty, the parameter names are used, which requires compiling with {@code -parameters}.
+     * </p>
+     *
+     * @return the field name of every constructor parameter
+     */
+    String[] value() default {};
+}
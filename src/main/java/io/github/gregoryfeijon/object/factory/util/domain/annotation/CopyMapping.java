@@ -0,0 +1,51 @@
+package io.github.gregoryfeijon.object.factory.util.domain.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a (source, destination) pair for which a copier should be generated at build time.
+ * <p>
+ * This annotation has no effect at runtime by itself. When the
+ * {@code object-factory-util-processor} annotation processor is on the compiler path, it emits
+ * a plain-Java {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopier}
+ * for every declared pair (and for every class annotated with {@link ObjectConstructor}), which
+ * {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil} then
+ * prefers over reflective copying.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>
+ * &#64;CopyMapping(source = UserEntity.class, dest = UserDto.class)
+ * &#64;CopyMapping(source = UserDto.class, dest = UserEntity.class)
+ * public class UserMappings {
+ * }
+ * </pre>
+ *
+ * @author gregory.feijon
+ * @see ObjectConstructor
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Repeatable(CopyMappings.class)
+public @interface CopyMapping {
+
+    /**
+     * The class copied from.
+     *
+     * @return the source class
+     */
+    Class<?> source();
+
+    /**
+     * The class copied into.
+     *
+     * @return the destination class
+     */
+    Class<?> dest();
+}
@@ -0,0 +1,26 @@
+package io.github.gregoryfeijon.object.factory.util.domain.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Container for repeated {@link CopyMapping} declarations.
+ *
+ * @author gregory.feijon
+ * @see CopyMapping
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface CopyMappings {
+
+    /**
+     * The declared mappings.
+     *
+     * @return the copy mappings
+     */
+    CopyMapping[] value();
+}
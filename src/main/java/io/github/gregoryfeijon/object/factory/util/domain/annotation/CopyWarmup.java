@@ -0,0 +1,50 @@
+package io.github.gregoryfeijon.object.factory.util.domain.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the base packages and class pairs of an
+ * {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilWarmup} bean.
+ * <p>
+ * Annotate the {@code @Bean} method creating the warm-up (or a warm-up subclass) and create it without
+ * arguments: the bean reads its configuration from the annotation, and the Spring AOT build reads the
+ * same annotation from the bean definition without instantiating any bean. The {@code pairs} are only
+ * read here: they do not trigger the copier generation of a class-level {@link CopyMapping}.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>
+ * &#64;Bean
+ * &#64;CopyWarmup(basePackages = "com.example.dto",
+ *         pairs = &#64;CopyMapping(source = OrderEntity.class, dest = OrderDto.class))
+ * ObjectFactoryUtilWarmup objectFactoryUtilWarmup() {
+ *     return new ObjectFactoryUtilWarmup();
+ * }
+ * </pre>
+ *
+ * @author gregory.feijon
+ * @see CopyMapping
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface CopyWarmup {
+
+    /**
+     * The packages scanned for annotated classes.
+     *
+     * @return the base packages
+     */
+    String[] basePackages() default {};
+
+    /**
+     * The (source, destination) pairs to warm up.
+     *
+     * @return the class pairs
+     */
+    CopyMapping[] pairs() default {};
+}
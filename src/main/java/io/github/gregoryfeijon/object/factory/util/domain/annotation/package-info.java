@@ -13,6 +13,8 @@
  *       Class-level field exclusion list</li>
  *   <li>{@link io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectConstructor} -
  *       Class-level configuration including exclusion support</li>
+ *   <li>{@link io.github.gregoryfeijon.object.factory.util.domain.annotation.CopyMapping} -
+ *       Source/destination pair declaration for build-time generated copiers</li>
  * </ul>
  *
  * @author gregory.feijon
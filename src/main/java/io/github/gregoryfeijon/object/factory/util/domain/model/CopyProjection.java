@@ -0,0 +1,155 @@
+package io.github.gregoryfeijon.object.factory.util.domain.model;
+
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.exception.ErrorMessages;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable set of field paths a projection copy is restricted to.
+ * <p>
+ * Paths are dot-separated field names, matched like the names of a regular copy (case-insensitively
+ * and through {@code @FieldCopyName}). A path ending at a field copies that field in full; a path going
+ * through a nested object, collection or array creates the intermediate objects with only the listed
+ * fields. A {@code []} suffix marks a collection or array segment whose elements are projected, e.g.
+ * {@code "lines[].sku"}; it is optional and documents the intent only. Example usage:
+ * <pre>
+ * private static final CopyProjection ORDER_ROW = CopyProjection.of("id", "status", "customer.name", "lines[].sku");
+ * </pre>
+ * <p>
+ * Projections are compared by structure, so equal projections share their compiled plans. Declaring
+ * them as constants avoids parsing the paths on every copy.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public final class CopyProjection {
+
+    private static final CopyProjection ALL = new CopyProjection(Map.of());
+
+    private static final String ELEMENTS_SUFFIX = "[]";
+
+    private final Map<String, CopyProjection> children;
+
+    private CopyProjection(Map<String, CopyProjection> children) {
+        this.children = children;
+    }
+
+    /**
+     * Compiles a projection from field paths.
+     *
+     * @param paths the field paths to copy
+     * @return the projection
+     * @throws ApiException if no path is given or a path has an empty segment
+     */
+    public static CopyProjection of(String... paths) {
+        return of(paths == null ? List.of() : Arrays.asList(paths));
+    }
+
+    /**
+     * Compiles a projection from field paths.
+     *
+     * @param paths the field paths to copy
+     * @return the projection
+     * @throws ApiException if no path is given or a path has an empty segment
+     */
+    public static CopyProjection of(Collection<String> paths) {
+        if (paths == null || paths.isEmpty()) {
+            throw invalid("no field path given");
+        }
+        Node root = new Node();
+        for (String path : paths) {
+            if (path == null) {
+                throw invalid("null field path");
+            }
+            Node node = root;
+            for (String segment : path.split("\\.", -1)) {
+                node = node.child(normalize(path, segment));
+            }
+            node.whole = true;
+        }
+        return root.freeze();
+    }
+
+    /**
+     * Checks whether this projection copies the whole value, i.e. names no nested fields.
+     *
+     * @return {@code true} if no nested path continues from here
+     */
+    public boolean isWhole() {
+        return children.isEmpty();
+    }
+
+    /**
+     * Returns the projections of the fields named at this level, keyed by their lower-case field name.
+     *
+     * @return an unmodifiable map in path declaration order
+     */
+    public Map<String, CopyProjection> fields() {
+        return children;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof CopyProjection projection && children.equals(projection.children);
+    }
+
+    @Override
+    public int hashCode() {
+        return children.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return children.entrySet().stream()
+                .map(entry -> entry.getValue().isWhole()
+                        ? entry.getKey()
+                        : entry.getKey() + entry.getValue().toString())
+                .collect(Collectors.joining(", ", isWhole() ? "" : "{", isWhole() ? "" : "}"));
+    }
+
+    private static String normalize(String path, String segment) {
+        String name = segment.trim();
+        if (name.endsWith(ELEMENTS_SUFFIX)) {
+            name = name.substring(0, name.length() - ELEMENTS_SUFFIX.length()).trim();
+        }
+        if (name.isEmpty()) {
+            throw invalid("empty segment in '" + path + "'");
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static ApiException invalid(String reason) {
+        return new ApiException(ErrorMessages.PROJECTION_PATH_INVALID, new IllegalArgumentException(reason));
+    }
+
+    /**
+     * Mutable tree built while parsing. A field listed on its own is copied whole, even when longer
+     * paths through it are listed too.
+     */
+    private static final class Node {
+
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private boolean whole;
+
+        private Node child(String name) {
+            return children.computeIfAbsent(name, key -> new Node());
+        }
+
+        private CopyProjection freeze() {
+            if (whole || children.isEmpty()) {
+                return ALL;
+            }
+            Map<String, CopyProjection> frozen = LinkedHashMap.newLinkedHashMap(children.size());
+            children.forEach((name, node) -> frozen.put(name, node.freeze()));
+            return new CopyProjection(Collections.unmodifiableMap(frozen));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.gregoryfeijon.object.factory.util.domain.model;
+
+import java.util.List;
+
+/**
+ * Outcome of an incremental merge: the destination field paths that were written.
+ * <p>
+ * Paths are dot-separated destination field names, e.g. {@code "customer.name"}; elements merged in
+ * place add their index or map key, e.g. {@code "lines[0].quantity"}. A replaced collection, map, array
+ * or nested object is reported as a whole, by the path of its field.
+ * </p>
+ *
+ * @param changedFields the paths of the written fields, in copy order
+ */
+public record MergeReport(List<String> changedFields) {
+
+    /**
+     * Creates a report.
+     *
+     * @param changedFields the paths of the written fields, in copy order
+     */
+    public MergeReport {
+        changedFields = List.copyOf(changedFields);
+    }
+
+    /**
+     * Checks whether the merge wrote any field.
+     *
+     * @return {@code true} if at least one destination field changed
+     */
+    public boolean hasChanges() {
+        return !changedFields.isEmpty();
+    }
+}
@@ -39,4 +39,79 @@ public final class ErrorMessages {
      * Error message when cloning a collection or map fails.
      */
     public static final String CLONE_COLLECTION_MAP_ERROR = "Error cloning collection/map during object copy.";
+
+    /**
+     * Error message when an array cannot be converted to the destination array type.
+     */
+    public static final String CLONE_ARRAY_ERROR = "Error converting array during object copy.";
+
+    /**
+     * Error message when a value cannot be cloned through its public {@code clone()} or Java serialization.
+     */
+    public static final String CLONE_BINARY_ERROR = "Error cloning value through Java serialization during object copy.";
+
+    /**
+     * Error message when the stream or iterator of a streaming copy is null.
+     */
+    public static final String STREAM_SOURCE_NULL = "The stream or iterator to be copied is null.";
+
+    /**
+     * Error message when the target type of a copy is null.
+     */
+    public static final String RETURN_TYPE_NULL = "The target type of the copy is null.";
+
+    /**
+     * Error message when the chunk size of a chunked streaming copy is not positive.
+     */
+    public static final String CHUNK_SIZE_INVALID = "The chunk size of the streaming copy must be positive.";
+
+    /**
+     * Error message when the sink of a streaming copy is null.
+     */
+    public static final String SINK_NULL = "The sink receiving the copies is null.";
+
+    /**
+     * Error message when the number of batches copied ahead of demand is not positive.
+     */
+    public static final String PREFETCH_INVALID = "The number of batches copied ahead of demand must be positive.";
+
+    /**
+     * Error message when the scheduler of a batched reactive copy is null.
+     */
+    public static final String SCHEDULER_NULL = "The scheduler copying the batches is null.";
+
+    /**
+     * Error message when the copy constructor of a destination class does not match its fields.
+     */
+    public static final String COPY_CONSTRUCTOR_INVALID =
+            "The copy constructor of the destination class does not match its fields.";
+
+    /**
+     * Error message when an object created through its constructor is reached again while its
+     * constructor arguments are being copied.
+     */
+    public static final String COPY_CONSTRUCTOR_CYCLE =
+            "An object created through its constructor references itself within the copied graph.";
+
+    /**
+     * Error message when a projection field path is malformed or does not match the copied classes.
+     */
+    public static final String PROJECTION_PATH_INVALID = "The projection field path is invalid for the copied classes.";
+
+    /**
+     * Error message when the projection of a projection copy is null.
+     */
+    public static final String PROJECTION_NULL = "The projection of the copy is null.";
+
+    /**
+     * Error message when a warm-up created without arguments is not declared by a {@code @CopyWarmup} annotation.
+     */
+    public static final String WARMUP_NOT_DECLARED =
+            "The warm-up bean is not declared by a @CopyWarmup annotation on its @Bean method or class.";
+
+    /**
+     * Error message when a warm-up is declared both by constructor arguments and a {@code @CopyWarmup} annotation.
+     */
+    public static final String WARMUP_DECLARED_TWICE =
+            "The warm-up bean is declared by a @CopyWarmup annotation; create it without constructor arguments.";
 }
@@ -1,5 +1,6 @@
 package io.github.gregoryfeijon.object.factory.util.utils.serialization;
 
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.Instantiator;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -107,7 +108,7 @@ public final class HibernateProxyChecker {
 
             if (isUninitialized) {
                 Class<?> persistentClass = (Class<?>) GET_PERSISTENT_CLASS_METHOD.invoke(lazyInitializer);
-                return org.springframework.beans.BeanUtils.instantiateClass(persistentClass);
+                return Instantiator.newInstance(persistentClass);
             }
 
             return GET_IMPLEMENTATION_METHOD.invoke(lazyInitializer);
@@ -0,0 +1,191 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.CopyCache;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of immutable types whose values are shared by reference instead of being deep copied.
+ * <p>
+ * Built-in immutable types:
+ * </p>
+ * <ul>
+ *   <li>Primitive wrappers and {@code String}</li>
+ *   <li>{@code BigDecimal} and {@code BigInteger} (exact classes only, since both can be subclassed)</li>
+ *   <li>Every class of the {@code java.time} package</li>
+ *   <li>{@code UUID}, {@code Locale}, {@code Currency}, {@code URI}, {@code Pattern} and {@code Class}</li>
+ *   <li>Enums</li>
+ *   <li>Records whose components are all of immutable, non-extensible types</li>
+ * </ul>
+ * <p>
+ * With {@link ObjectFactoryUtilSettings#setImmutableSharingEnabled(boolean) immutable sharing} enabled,
+ * classes whose instance fields (inherited ones included) are all {@code final} and of immutable,
+ * non-extensible types are immutable too, and {@link #isImmutableCollection(Class) immutable collections}
+ * whose elements are all immutable are shared by the copy instead of being rebuilt.
+ * </p>
+ * <p>
+ * Applications can register their own value types with {@link #register(Class[])}; a registered
+ * type also covers its subtypes. Registration is intended for application startup.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ImmutableTypeRegistry {
+
+    private static final Set<Class<?>> BUILT_IN_TYPES = Set.of(
+            Boolean.class, Byte.class, Short.class, Character.class, Integer.class, Long.class,
+            Float.class, Double.class, Void.class, String.class,
+            BigDecimal.class, BigInteger.class,
+            UUID.class, Locale.class, Currency.class, URI.class, Pattern.class, Class.class);
+
+    private static final String JAVA_TIME_PACKAGE = "java.time";
+
+    private static final String IMMUTABLE_COLLECTIONS = "java.util.ImmutableCollections";
+
+    /**
+     * Collections that cannot be modified through any reference, unlike the {@code Collections.unmodifiable*}
+     * views, whose backing collection may still change.
+     */
+    private static final Set<Class<?>> IMMUTABLE_COLLECTION_TYPES = Set.of(
+            Collections.emptyList().getClass(), Collections.emptySet().getClass(),
+            Collections.emptyMap().getClass(), Collections.singletonList(0).getClass(),
+            Collections.singleton(0).getClass(), Collections.singletonMap(0, 0).getClass());
+
+    private static final Set<Class<?>> REGISTERED_TYPES = new CopyOnWriteArraySet<>();
+
+    /**
+     * Incremented whenever the registry or the sharing mode changes; verdicts cached under an older
+     * generation are recomputed on their next use.
+     */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    /**
+     * Checks whether values of the given runtime class are immutable and can be shared by reference.
+     *
+     * @param type the runtime class of a value
+     * @return {@code true} if the type is immutable
+     */
+    public static boolean isImmutable(Class<?> type) {
+        return CopyCache.getOrComputeImmutability(type, GENERATION.get(), analyzed -> analyze(analyzed, new HashSet<>()));
+    }
+
+    /**
+     * Checks whether a collection or map class is structurally immutable: the classes returned by
+     * {@code List.of}, {@code Set.of}, {@code Map.of}, their {@code copyOf} variants and
+     * {@code Stream.toList()}, and the empty and singleton collections of {@link Collections}.
+     *
+     * @param type the runtime class of a collection or map
+     * @return {@code true} if no instance of the class can ever change
+     */
+    public static boolean isImmutableCollection(Class<?> type) {
+        Class<?> enclosing = type.getEnclosingClass();
+        return (enclosing != null && IMMUTABLE_COLLECTIONS.equals(enclosing.getName()))
+                || IMMUTABLE_COLLECTION_TYPES.contains(type);
+    }
+
+    /**
+     * Discards the cached verdicts, e.g. after the sharing mode changed.
+     */
+    static void clearVerdicts() {
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Registers application types (and their subtypes) as immutable.
+     *
+     * @param types the immutable types
+     */
+    public static void register(Class<?>... types) {
+        REGISTERED_TYPES.addAll(Set.of(types));
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Removes a type previously added with {@link #register(Class[])}.
+     *
+     * @param type the type to remove
+     */
+    public static void unregister(Class<?> type) {
+        REGISTERED_TYPES.remove(type);
+        GENERATION.incrementAndGet();
+    }
+
+    private static boolean analyze(Class<?> type, Set<Class<?>> visiting) {
+        if (type.isPrimitive() || type.isEnum() || Enum.class.isAssignableFrom(type)
+                || BUILT_IN_TYPES.contains(type) || JAVA_TIME_PACKAGE.equals(type.getPackageName())) {
+            return true;
+        }
+        for (Class<?> registered : REGISTERED_TYPES) {
+            if (registered.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        if (type.isRecord()) {
+            if (!visiting.add(type)) {
+                return true;
+            }
+            for (var component : type.getRecordComponents()) {
+                if (!isClosedImmutableType(component.getType(), visiting)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return ObjectFactoryUtilSettings.isImmutableSharingEnabled() && hasOnlyFinalImmutableFields(type, visiting);
+    }
+
+    /**
+     * Analyzes a plain class: every instance field must be {@code final} and declared with a type whose
+     * every possible value is immutable, so a subclass cannot smuggle mutable state in.
+     */
+    private static boolean hasOnlyFinalImmutableFields(Class<?> type, Set<Class<?>> visiting) {
+        if (type == Object.class || type.isArray() || type.isInterface()
+                || Modifier.isAbstract(type.getModifiers())) {
+            return false;
+        }
+        if (!visiting.add(type)) {
+            return true;
+        }
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers)) {
+                    continue;
+                }
+                if (!Modifier.isFinal(modifiers) || !isClosedImmutableType(field.getType(), visiting)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks a declared field or component type: it must be immutable and admit no mutable subclass.
+     * {@code BigDecimal} and {@code BigInteger} are not closed, since both can be subclassed.
+     */
+    private static boolean isClosedImmutableType(Class<?> type, Set<Class<?>> visiting) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        boolean closed = Modifier.isFinal(type.getModifiers()) || Enum.class.isAssignableFrom(type)
+                || REGISTERED_TYPES.stream().anyMatch(registered -> registered.isAssignableFrom(type));
+        return closed && analyze(type, visiting);
+    }
+}
@@ -1,21 +1,29 @@
 package io.github.gregoryfeijon.object.factory.util.utils.serialization;
 
 
-import io.github.gregoryfeijon.object.factory.commons.utils.FieldUtil;
-import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.CopyOrchestrator;
-import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.FieldResolver;
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyProjection;
+import io.github.gregoryfeijon.object.factory.util.domain.model.MergeReport;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopierRegistry;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.AsyncCopier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.BulkCopier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.CopyContext;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.CopyRoutes;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.IncrementalMerger;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.MetadataWarmer;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.ProjectionCopier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.StreamCopier;
 import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.ValidationUtil;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
-import org.springframework.beans.BeanUtils;
 
-import java.lang.reflect.Field;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -31,9 +39,21 @@ import java.util.stream.Stream;
  * <ul>
  *   <li>Deep copying with support for nested objects and collections</li>
  *   <li>Hibernate proxy unwrapping to avoid lazy initialization issues</li>
+ *   <li>Identity-preserving graph copy: shared references stay shared and cycles are supported</li>
  *   <li>Field-level exclusion via annotations</li>
+ *   <li>Projection copies restricted to selected field paths (see {@link CopyProjection})</li>
+ *   <li>Incremental merges into existing objects that write only changed fields (see {@link MergeReport})</li>
  *   <li>Custom field name mapping via {@code @FieldCopyName}</li>
- *   <li>Performance optimization through reflection caching</li>
+ *   <li>Performance optimization through compiled, cached copy plans per class pair</li>
+ *   <li>Cost-based parallel field copying on a configurable pool (see {@link ObjectFactoryUtilSettings})</li>
+ *   <li>Ordered, presized bulk copies of collections, split into parallel chunks when large enough</li>
+ *   <li>Lazy streaming copies of {@link Stream}s and {@link Iterator}s, optionally in parallel chunks</li>
+ *   <li>Asynchronous variants returning {@link CompletableFuture}, on virtual threads by default,
+ *       with cooperative cancellation and timeouts</li>
+ *   <li>Optional runtime-generated copier classes (see {@link ObjectFactoryUtilSettings})</li>
+ *   <li>Metadata warm-up of known class pairs at startup (see {@link ObjectFactoryUtilWarmup})</li>
+ *   <li>Build-time generated copiers discovered through {@link ObjectCopierRegistry}</li>
+ *   <li>GraalVM native-image support through Spring AOT hints (see {@link ObjectFactoryUtilRuntimeHints})</li>
  *   <li>Type conversion support (e.g., enum to string, wrapper to primitive)</li>
  * </ul>
  * <p>
@@ -47,15 +67,6 @@ import java.util.stream.Stream;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ObjectFactoryUtil {
 
-    /**
-     * Minimum number of fields required to use parallel stream processing.
-     * <p>
-     * For objects with fewer fields than this threshold, sequential processing
-     * is used to avoid the overhead of the ForkJoinPool.
-     * </p>
-     */
-    private static final int PARALLEL_STREAM_THRESHOLD = 10;
-
     /**
      * Creates deep copies of all objects in a collection.
      *
@@ -65,7 +76,7 @@ public final class ObjectFactoryUtil {
      */
     public static <T> List<T> copyAllObjectsFromCollection(Collection<T> entitiesToCopy) {
         ValidationUtil.verifyCollection(entitiesToCopy);
-        return entitiesToCopy.stream().map(createCopy()).collect(Collectors.toList());
+        return inBatchScope(() -> BulkCopier.copyAll(entitiesToCopy, null));
     }
 
     /**
@@ -78,7 +89,7 @@ public final class ObjectFactoryUtil {
      */
     public static <T> List<T> copyAllObjectsFromCollection(Collection<?> entitiesToCopy, Class<T> returnType) {
         ValidationUtil.verifyCollection(entitiesToCopy);
-        return entitiesToCopy.stream().map(createCopy(returnType)).collect(Collectors.toList());
+        return inBatchScope(() -> BulkCopier.copyAll(entitiesToCopy, returnType));
     }
 
     /**
@@ -93,7 +104,7 @@ public final class ObjectFactoryUtil {
     public static <T, U extends Collection<T>> U copyAllObjectsFromCollection(Collection<T> entitiesToCopy,
                                                                               Supplier<U> supplier) {
         ValidationUtil.verifyCollectionAndSupplier(entitiesToCopy, supplier);
-        return entitiesToCopy.stream().map(createCopy()).collect(Collectors.toCollection(supplier));
+        return inBatchScope(() -> BulkCopier.copyAll(entitiesToCopy, null, supplier.get()));
     }
 
     /**
@@ -111,7 +122,105 @@ public final class ObjectFactoryUtil {
     public static <T, S, U extends Collection<T>> U copyAllObjectsFromCollection(Collection<S> entitiesToCopy,
                                                                                  Supplier<U> supplier, Class<T> returnType) {
         ValidationUtil.verifyCollectionAndSupplier(entitiesToCopy, supplier);
-        return entitiesToCopy.stream().map(createCopy(returnType)).collect(Collectors.toCollection(supplier));
+        return inBatchScope(() -> BulkCopier.copyAll(entitiesToCopy, returnType, supplier.get()));
+    }
+
+    /**
+     * Lazily creates deep copies of the elements of a stream, converting them to a different type.
+     * <p>
+     * Elements are copied one at a time as the result is consumed, so neither the source nor the
+     * copies are materialized. Closing the returned stream closes the source stream.
+     * </p>
+     *
+     * @param <T>        the target type
+     * @param <S>        the source type of the stream elements
+     * @param sources    the stream of objects to copy
+     * @param returnType the class of the target type
+     * @return a stream of deep copies, in the source order
+     */
+    public static <T, S> Stream<T> copyStream(Stream<S> sources, Class<T> returnType) {
+        ValidationUtil.verifyStreamSource(sources, returnType);
+        return StreamCopier.copyStream(sources, returnType);
+    }
+
+    /**
+     * Lazily creates deep copies of the elements of a stream in chunks, converting them to a different type.
+     * <p>
+     * Up to {@code chunkSize} elements are read and copied at a time, so memory stays proportional to the
+     * chunk size. Chunks expensive enough to pass {@link ObjectFactoryUtilSettings#getBulkParallelCostThreshold()}
+     * are copied in parallel, while the result keeps the source order. Closing the returned stream closes
+     * the source stream.
+     * </p>
+     *
+     * @param <T>        the target type
+     * @param <S>        the source type of the stream elements
+     * @param sources    the stream of objects to copy
+     * @param returnType the class of the target type
+     * @param chunkSize  the maximum number of elements read and copied at once
+     * @return a sequential stream of deep copies, in the source order
+     */
+    public static <T, S> Stream<T> copyStream(Stream<S> sources, Class<T> returnType, int chunkSize) {
+        ValidationUtil.verifyStreamSource(sources, returnType);
+        ValidationUtil.verifyChunkSize(chunkSize);
+        return StreamCopier.copyStream(sources, returnType, chunkSize);
+    }
+
+    /**
+     * Lazily creates deep copies of the elements of an iterator, converting them to a different type.
+     *
+     * @param <T>        the target type
+     * @param <S>        the source type of the iterator elements
+     * @param sources    the iterator of objects to copy
+     * @param returnType the class of the target type
+     * @return an iterator copying one source element per call to {@link Iterator#next()}
+     */
+    public static <T, S> Iterator<T> copyIterator(Iterator<S> sources, Class<T> returnType) {
+        ValidationUtil.verifyStreamSource(sources, returnType);
+        return StreamCopier.copyIterator(sources, returnType);
+    }
+
+    /**
+     * Creates a reusable function that deep copies objects into a target type.
+     * <p>
+     * The function resolves the copy plan once per run of objects of the same class, which makes it
+     * cheaper than calling {@link #createFromObject(Object, Class)} per element when mapping streams or
+     * reactive publishers. It is safe to share between threads.
+     * </p>
+     *
+     * @param <T>        the target type
+     * @param returnType the class of the target type
+     * @return a function returning a new instance of the target type with copied fields
+     */
+    public static <T> Function<Object, T> copyFunction(Class<T> returnType) {
+        ValidationUtil.verifyReturnType(returnType);
+        return StreamCopier.copyFunction(returnType);
+    }
+
+    /**
+     * Copies every element of a stream in chunks and hands each copy to a sink, in the source order.
+     * The source stream is closed once it is exhausted or the copy fails.
+     *
+     * @param <T>        the target type
+     * @param <S>        the source type of the stream elements
+     * @param sources    the stream of objects to copy
+     * @param returnType the class of the target type
+     * @param chunkSize  the maximum number of elements read and copied at once
+     * @param sink       the consumer receiving every copy
+     * @return the number of copies handed to the sink
+     * @see #copyStream(Stream, Class, int)
+     */
+    public static <T, S> long copyStreamTo(Stream<S> sources, Class<T> returnType, int chunkSize,
+                                           Consumer<? super T> sink) {
+        ValidationUtil.verifySink(sink);
+        long count = 0;
+        try (Stream<T> copies = copyStream(sources, returnType, chunkSize)) {
+            Iterator<T> iterator = copies.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -125,9 +234,7 @@ public final class ObjectFactoryUtil {
      */
     public static <T, S> T createFromObject(S source, Class<T> returnType) {
         ValidationUtil.verifySourceObject(source);
-        T dest = BeanUtils.instantiateClass(returnType);
-        createFromObject(source, dest);
-        return dest;
+        return CopyContext.within(() -> CopyRoutes.copyToNewInstance(source, returnType, null));
     }
 
     /**
@@ -140,9 +247,7 @@ public final class ObjectFactoryUtil {
     @SuppressWarnings("unchecked")
     public static <T> T createFromObject(T source) {
         ValidationUtil.verifySourceObject(source);
-        Object dest = BeanUtils.instantiateClass(source.getClass());
-        createFromObject(source, dest);
-        return (T) dest;
+        return CopyContext.within(() -> CopyRoutes.copyToNewInstance(source, (Class<T>) source.getClass(), null));
     }
 
     /**
@@ -155,23 +260,167 @@ public final class ObjectFactoryUtil {
      */
     public static <T, S> void createFromObject(S source, T dest) {
         ValidationUtil.verifySourceAndDestObjects(source, dest);
-        Map<Field, Field> sourceDestFieldsMap = FieldResolver.createSourceDestFieldMaps(source, dest);
-
-        Stream<Map.Entry<Field, Field>> stream = sourceDestFieldsMap.size() >= PARALLEL_STREAM_THRESHOLD
-                ? sourceDestFieldsMap.entrySet().parallelStream()
-                : sourceDestFieldsMap.entrySet().stream();
+        CopyContext.within(() -> {
+            CopyContext.current().register(source, dest.getClass(), dest);
+            CopyRoutes.copy(source, dest);
+            return dest;
+        });
+    }
 
-        stream.forEach(fieldsEntry -> {
-            Object sourceValue = CopyOrchestrator.verifyValue(fieldsEntry.getKey(), fieldsEntry.getValue(), source);
-            FieldUtil.setProtectedFieldValue(fieldsEntry.getValue(), dest, sourceValue);
+    /**
+     * Incrementally merges a source object into an existing destination object, writing only the
+     * fields whose value changed.
+     * <p>
+     * Intended for re-synchronizing a previous copy: source values are compared with the destination's
+     * current values through the compiled copy plan. Equal scalars, equal immutable values and identical
+     * references are skipped, nested objects are merged in place so only changed subgraphs are visited,
+     * and collections, maps and arrays are deep copied again only when their contents differ. Values
+     * that are written are copied exactly as by {@link #createFromObject(Object, Object)}.
+     * </p>
+     *
+     * @param <S>    the source type
+     * @param <T>    the destination type
+     * @param source the source object
+     * @param dest   the destination object to update
+     * @return the report of the destination field paths written
+     */
+    public static <T, S> MergeReport mergeFromObject(S source, T dest) {
+        ValidationUtil.verifySourceAndDestObjects(source, dest);
+        return CopyContext.within(() -> {
+            CopyContext.current().register(source, dest.getClass(), dest);
+            return IncrementalMerger.merge(source, dest);
         });
     }
 
-    private static <T> Function<T, T> createCopy() {
-        return ObjectFactoryUtil::createFromObject;
+    /**
+     * Creates a copy of an object restricted to the field paths of a projection, converting it to a
+     * different type.
+     * <p>
+     * Only the projected fields are read and copied; the other destination fields keep their default
+     * values, and nested objects, collections and arrays along a projected path are rebuilt with their
+     * projected fields only. The projection is compiled into a plan cached per class pair.
+     * </p>
+     *
+     * @param <T>        the target type
+     * @param <S>        the source type
+     * @param source     the source object to copy
+     * @param returnType the class of the target type
+     * @param projection the field paths to copy, e.g. {@code CopyProjection.of("id", "customer.name")}
+     * @return a new instance of the target type with the projected fields copied
+     */
+    public static <T, S> T createFromObject(S source, Class<T> returnType, CopyProjection projection) {
+        ValidationUtil.verifySourceObject(source);
+        ValidationUtil.verifyReturnType(returnType);
+        ValidationUtil.verifyProjection(projection);
+        return CopyContext.within(() -> ProjectionCopier.copy(source, returnType, projection));
+    }
+
+    /**
+     * Creates copies of all objects in a collection restricted to the field paths of a projection,
+     * converting them to a different type.
+     *
+     * @param <T>            the type of the resulting collection elements
+     * @param entitiesToCopy the collection of objects to copy
+     * @param returnType     the class of the target type
+     * @param projection     the field paths to copy
+     * @return a list containing the projected copies, in encounter order
+     * @see #createFromObject(Object, Class, CopyProjection)
+     */
+    public static <T> List<T> copyAllObjectsFromCollection(Collection<?> entitiesToCopy, Class<T> returnType,
+                                                           CopyProjection projection) {
+        ValidationUtil.verifyCollection(entitiesToCopy);
+        ValidationUtil.verifyReturnType(returnType);
+        ValidationUtil.verifyProjection(projection);
+        return inBatchScope(() -> ProjectionCopier.copyAll(entitiesToCopy, returnType, projection));
+    }
+
+    /**
+     * Asynchronously creates a deep copy of an object, converting it to a different type.
+     * <p>
+     * The copy runs on {@link ObjectFactoryUtilSettings#getAsyncCopyExecutor()}. Cancelling the returned
+     * future, or completing it through {@link CompletableFuture#orTimeout}, stops the copy at the next
+     * nested object. The source object must not be modified until the future completes.
+     * </p>
+     *
+     * @param <T>        the target type
+     * @param <S>        the source type
+     * @param source     the source object to copy
+     * @param returnType the class of the target type
+     * @return a future completed with a new instance of the target type
+     */
+    public static <T, S> CompletableFuture<T> createFromObjectAsync(S source, Class<T> returnType) {
+        ValidationUtil.verifySourceObject(source);
+        return AsyncCopier.supplyAsync(() -> createFromObject(source, returnType));
+    }
+
+    /**
+     * Asynchronously creates a deep copy of an object of the same type.
+     *
+     * @param <T>    the type of the object
+     * @param source the object to copy
+     * @return a future completed with a deep copy of the source object
+     * @see #createFromObjectAsync(Object, Class)
+     */
+    public static <T> CompletableFuture<T> createFromObjectAsync(T source) {
+        ValidationUtil.verifySourceObject(source);
+        return AsyncCopier.supplyAsync(() -> createFromObject(source));
+    }
+
+    /**
+     * Asynchronously creates deep copies of all objects in a collection.
+     * <p>
+     * The copy runs on {@link ObjectFactoryUtilSettings#getAsyncCopyExecutor()}; large collections are
+     * still split into parallel chunks as in {@link #copyAllObjectsFromCollection(Collection)}. Cancelling
+     * the returned future, or completing it through {@link CompletableFuture#orTimeout}, stops every chunk
+     * at its next element. The collection must not be modified until the future completes.
+     * </p>
+     *
+     * @param <T>            the type of objects in the collection
+     * @param entitiesToCopy the collection of objects to copy
+     * @return a future completed with a list containing deep copies of the original objects
+     */
+    public static <T> CompletableFuture<List<T>> copyAllObjectsFromCollectionAsync(Collection<T> entitiesToCopy) {
+        ValidationUtil.verifyCollection(entitiesToCopy);
+        return AsyncCopier.supplyAsync(() -> copyAllObjectsFromCollection(entitiesToCopy));
     }
 
-    private static <T, S> Function<S, T> createCopy(Class<T> returnType) {
-        return i -> createFromObject(i, returnType);
+    /**
+     * Asynchronously creates deep copies of all objects in a collection, converting them to a different type.
+     *
+     * @param <T>            the type of the resulting collection elements
+     * @param entitiesToCopy the collection of objects to copy
+     * @param returnType     the class of the target type
+     * @return a future completed with a list containing deep copies converted to the target type
+     * @see #copyAllObjectsFromCollectionAsync(Collection)
+     */
+    public static <T> CompletableFuture<List<T>> copyAllObjectsFromCollectionAsync(Collection<?> entitiesToCopy,
+                                                                                   Class<T> returnType) {
+        ValidationUtil.verifyCollection(entitiesToCopy);
+        return AsyncCopier.supplyAsync(() -> copyAllObjectsFromCollection(entitiesToCopy, returnType));
+    }
+
+    /**
+     * Builds the copy metadata of class pairs before their first copy, so the first copy of each pair
+     * does not pay for field scanning, exclusion annotations and plan compilation.
+     * <p>
+     * Pairs are warmed concurrently on {@link ObjectFactoryUtilSettings#getCopyPool()}, together with the
+     * pairs of their nested objects and collection elements. Pairs that cannot be warmed are logged and
+     * skipped.
+     * </p>
+     *
+     * @param pairs the (source class, destination class) pairs to warm up
+     * @return a future completed with the number of pairs warmed, nested pairs included
+     */
+    public static CompletableFuture<Integer> warmUp(Collection<ClassPairKey> pairs) {
+        ValidationUtil.verifyCollection(pairs);
+        return MetadataWarmer.warmUp(pairs, ObjectFactoryUtilSettings.getCopyPool());
+    }
+
+    /**
+     * Runs a collection copy inside a single {@link CopyContext} when batch-scoped identity is
+     * enabled, so objects shared between elements are copied only once.
+     */
+    private static <R> R inBatchScope(Supplier<R> batch) {
+        return ObjectFactoryUtilSettings.isBatchIdentityScopeEnabled() ? CopyContext.within(batch) : batch.get();
     }
 }
@@ -0,0 +1,172 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.CopyWarmup;
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.config.TypedStringValue;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.type.MethodMetadata;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Prepares the {@link ObjectFactoryUtilWarmup} beans of an application for a native image at build time.
+ * <p>
+ * The warm-up configuration is read from the bean definitions, without instantiating any bean: from
+ * the constructor argument values of a definition that declares them, and from the {@link CopyWarmup}
+ * annotation of the {@code @Bean} method or bean class otherwise, which stays readable in the native
+ * image for the warm-up bean to configure itself. The declared pairs are resolved
+ * during the Spring AOT build, classpath scanning included, and their copy plans are built to derive
+ * the reflection, serialization and JSON binding hints of every class they copy. The scanned class
+ * names are written to {@value ObjectFactoryUtilWarmup#AOT_SCANNED_CLASSES}, since the native image
+ * cannot scan its class path.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Slf4j
+class ObjectFactoryUtilAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        String[] beanNames = beanFactory.getBeanNamesForType(ObjectFactoryUtilWarmup.class, false, false);
+        if (beanNames.length == 0) {
+            return null;
+        }
+        ClassLoader classLoader = beanFactory.getBeanClassLoader();
+        Set<ClassPairKey> pairs = new LinkedHashSet<>();
+        Set<String> scannedClassNames = new LinkedHashSet<>();
+        Set<AnnotatedElement> declarations = new LinkedHashSet<>();
+        for (String beanName : beanNames) {
+            BeanDefinition definition = beanFactory.getMergedBeanDefinition(beanName);
+            ObjectFactoryUtilWarmup warmup = declaredWarmup(definition);
+            if (warmup == null) {
+                log.warn("Warm-up bean '{}' declares no packages or pairs readable at build time; "
+                        + "annotate its @Bean method with @CopyWarmup", beanName);
+                continue;
+            }
+            pairs.addAll(warmup.resolvePairs(classLoader));
+            scannedClassNames.addAll(warmup.scanAnnotatedClassNames());
+            if (warmupAnnotation(definition).getSource() instanceof AnnotatedElement declaration) {
+                declarations.add(declaration);
+            }
+        }
+        return new WarmupContribution(pairs, scannedClassNames, declarations);
+    }
+
+    /**
+     * Rebuilds the warm-up declared by a bean definition, without instantiating the bean.
+     *
+     * @param definition the merged bean definition of an {@link ObjectFactoryUtilWarmup} bean
+     * @return the declared warm-up, or {@code null} if the definition declares no readable configuration
+     */
+    private static ObjectFactoryUtilWarmup declaredWarmup(BeanDefinition definition) {
+        ConstructorArgumentValues arguments = definition.getConstructorArgumentValues();
+        if (!arguments.isEmpty()) {
+            List<Object> values = argumentValues(arguments);
+            if (values.size() == 2) {
+                return new ObjectFactoryUtilWarmup(elements(values.get(0), String.class),
+                        elements(values.get(1), ClassPairKey.class));
+            }
+        }
+        MergedAnnotation<CopyWarmup> annotation = warmupAnnotation(definition);
+        if (!annotation.isPresent()) {
+            return null;
+        }
+        return new ObjectFactoryUtilWarmup(ObjectFactoryUtilWarmup.declaredPackages(annotation),
+                ObjectFactoryUtilWarmup.declaredPairs(annotation));
+    }
+
+    private static List<Object> argumentValues(ConstructorArgumentValues arguments) {
+        List<Object> values = new ArrayList<>();
+        for (int index = 0; index < arguments.getArgumentCount(); index++) {
+            ConstructorArgumentValues.ValueHolder holder = arguments.getIndexedArgumentValue(index, null);
+            if (holder == null) {
+                break;
+            }
+            values.add(holder.getValue());
+        }
+        if (values.isEmpty()) {
+            arguments.getGenericArgumentValues().forEach(holder -> values.add(holder.getValue()));
+        }
+        return values;
+    }
+
+    private static <E> List<E> elements(Object value, Class<E> elementType) {
+        Collection<?> raw = value instanceof Collection<?> collection ? collection
+                : value instanceof Object[] array ? Arrays.asList(array)
+                : value == null ? List.of() : List.of(value);
+        List<E> elements = new ArrayList<>(raw.size());
+        for (Object element : raw) {
+            Object resolved = element instanceof TypedStringValue typed ? typed.getValue() : element;
+            if (elementType.isInstance(resolved)) {
+                elements.add(elementType.cast(resolved));
+            }
+        }
+        return elements;
+    }
+
+    private static MergedAnnotation<CopyWarmup> warmupAnnotation(BeanDefinition definition) {
+        if (definition instanceof RootBeanDefinition root) {
+            Method factoryMethod = root.getResolvedFactoryMethod();
+            if (factoryMethod != null) {
+                return MergedAnnotations.from(factoryMethod).get(CopyWarmup.class);
+            }
+        }
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            return factoryMethod != null
+                    ? factoryMethod.getAnnotations().get(CopyWarmup.class)
+                    : annotated.getMetadata().getAnnotations().get(CopyWarmup.class);
+        }
+        if (definition instanceof RootBeanDefinition root && root.getFactoryMethodName() == null
+                && root.hasBeanClass()) {
+            return MergedAnnotations.from(root.getBeanClass()).get(CopyWarmup.class);
+        }
+        return MergedAnnotation.missing();
+    }
+
+    private record WarmupContribution(Set<ClassPairKey> pairs, Set<String> scannedClassNames,
+                                      Set<AnnotatedElement> declarations)
+            implements BeanFactoryInitializationAotContribution {
+
+        @Override
+        public void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode code) {
+            RuntimeHints hints = generationContext.getRuntimeHints();
+            ObjectFactoryUtilRuntimeHints.registerCopyHints(hints, pairs);
+            for (AnnotatedElement declaration : declarations) {
+                if (declaration instanceof Method factoryMethod) {
+                    hints.reflection().registerMethod(factoryMethod, ExecutableMode.INTROSPECT);
+                } else if (declaration instanceof Class<?> warmupClass) {
+                    hints.reflection().registerType(warmupClass);
+                }
+            }
+            if (!scannedClassNames.isEmpty()) {
+                String content = String.join("\n", scannedClassNames) + "\n";
+                generationContext.getGeneratedFiles().addResourceFile(ObjectFactoryUtilWarmup.AOT_SCANNED_CLASSES,
+                        new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+    }
+}
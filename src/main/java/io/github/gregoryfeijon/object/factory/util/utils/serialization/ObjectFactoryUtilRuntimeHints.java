@@ -0,0 +1,54 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.CopyHints;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.Collection;
+
+/**
+ * Native-image hints of {@code object-factory-util-spring-lib}, registered automatically by Spring AOT
+ * through {@code META-INF/spring/aot.factories}.
+ * <p>
+ * The library hints cover the reflective Hibernate proxy lookups of {@link HibernateProxyChecker}
+ * (ignored when Hibernate is not on the class path), the service file {@code ObjectCopier}s are
+ * discovered from, and the class list recorded for {@link ObjectFactoryUtilWarmup}. The hints of the
+ * copied classes themselves are derived from their copy plans: pairs known to an
+ * {@link ObjectFactoryUtilWarmup} bean are registered by {@link ObjectFactoryUtilAotProcessor}, other
+ * pairs through {@link #registerCopyHints(RuntimeHints, Collection)} from an application
+ * {@link RuntimeHintsRegistrar}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public class ObjectFactoryUtilRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String[] HIBERNATE_TYPES = {
+            "org.hibernate.proxy.HibernateProxy",
+            "org.hibernate.proxy.LazyInitializer"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String hibernateType : HIBERNATE_TYPES) {
+            hints.reflection().registerType(TypeReference.of(hibernateType), MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/" + ObjectCopier.class.getName());
+        hints.resources().registerPattern(ObjectFactoryUtilWarmup.AOT_SCANNED_CLASSES);
+    }
+
+    /**
+     * Registers the hints needed to copy class pairs, and the pairs of their nested objects and
+     * collection elements, in a native image.
+     *
+     * @param hints the runtime hints to contribute to
+     * @param pairs the (source class, destination class) pairs copied by the application
+     */
+    public static void registerCopyHints(RuntimeHints hints, Collection<ClassPairKey> pairs) {
+        CopyHints.register(hints, pairs);
+    }
+}
@@ -0,0 +1,353 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyMetricsListener;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Global, runtime-adjustable switches for {@link ObjectFactoryUtil}.
+ * <p>
+ * All settings are process-wide and read on every copy, so they can be changed
+ * at any time (e.g. at application startup or from tests).
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ObjectFactoryUtilSettings {
+
+    /**
+     * Default estimated plan cost from which the fields of one object are copied in parallel.
+     * Roughly eight nested objects or four collections; plain DTOs with tens of simple fields stay sequential.
+     */
+    public static final int DEFAULT_PARALLEL_COST_THRESHOLD = 128;
+
+    /**
+     * Default estimated cost of a whole collection copy (elements × plan cost) from which it is split
+     * into chunks copied in parallel. Roughly 4k flat DTOs or 1k objects with a few nested fields.
+     */
+    public static final int DEFAULT_BULK_PARALLEL_COST_THRESHOLD = 16_384;
+
+    private static final Set<Class<?>> JSON_COPIED_TYPES = new CopyOnWriteArraySet<>();
+
+    private static volatile boolean generatedCopiersEnabled;
+
+    private static volatile boolean immutableSharingEnabled;
+
+    private static volatile boolean batchIdentityScopeEnabled;
+
+    private static volatile int parallelCostThreshold = DEFAULT_PARALLEL_COST_THRESHOLD;
+
+    private static volatile int bulkParallelCostThreshold = DEFAULT_BULK_PARALLEL_COST_THRESHOLD;
+
+    private static volatile Executor bulkCopyExecutor;
+
+    private static volatile ForkJoinPool copyPool;
+
+    private static volatile Executor asyncCopyExecutor;
+
+    private static volatile int metadataCacheMaxEntries;
+
+    private static volatile CopyMetricsListener metricsListener;
+
+    /**
+     * Checks whether object-to-object copies use runtime-generated copier classes.
+     *
+     * @return {@code true} if generated copiers are enabled; {@code false} by default
+     */
+    public static boolean isGeneratedCopiersEnabled() {
+        return generatedCopiersEnabled;
+    }
+
+    /**
+     * Enables or disables runtime-generated copier classes.
+     * <p>
+     * When enabled, a dedicated hidden class with straight-line field reads and writes is
+     * generated per (source class, destination class) pair on its first copy. Pairs the
+     * generator cannot handle keep using the compiled copy plan.
+     * </p>
+     *
+     * @param enabled {@code true} to generate copier classes
+     */
+    public static void setGeneratedCopiersEnabled(boolean enabled) {
+        generatedCopiersEnabled = enabled;
+    }
+
+    /**
+     * Checks whether deep copies share provably immutable subgraphs by reference.
+     *
+     * @return {@code true} if immutable sharing is enabled; {@code false} by default
+     */
+    public static boolean isImmutableSharingEnabled() {
+        return immutableSharingEnabled;
+    }
+
+    /**
+     * Enables or disables sharing of provably immutable subgraphs.
+     * <p>
+     * When enabled, {@link ImmutableTypeRegistry} also classifies classes whose fields are all
+     * {@code final} and immutable, and copies keep immutable collections ({@code List.of(...)} and the
+     * like) of immutable elements by reference, so only the mutable parts of a graph are copied.
+     * Copies then no longer return distinct instances for those values. The setting is intended for
+     * application startup, before the first copy of the affected classes.
+     * </p>
+     *
+     * @param enabled {@code true} to share immutable subgraphs
+     */
+    public static void setImmutableSharingEnabled(boolean enabled) {
+        immutableSharingEnabled = enabled;
+        ImmutableTypeRegistry.clearVerdicts();
+    }
+
+    /**
+     * Returns the estimated plan cost from which the fields of one object are copied in parallel.
+     *
+     * @return the parallel cost threshold; {@link #DEFAULT_PARALLEL_COST_THRESHOLD} by default
+     */
+    public static int getParallelCostThreshold() {
+        return parallelCostThreshold;
+    }
+
+    /**
+     * Sets the estimated plan cost from which the fields of one object are copied in parallel.
+     * <p>
+     * Each field contributes the cost of its copy strategy: {@code 1}-{@code 2} for primitives,
+     * wrappers and enums, {@code 8} for arrays, {@code 16} for nested objects and {@code 32} for
+     * collections and maps. Nested copies running inside a parallel copy always stay sequential.
+     * Use {@link Integer#MAX_VALUE} to disable parallel field copying.
+     * </p>
+     *
+     * @param threshold the minimum estimated plan cost that triggers a parallel copy
+     */
+    public static void setParallelCostThreshold(int threshold) {
+        parallelCostThreshold = threshold;
+    }
+
+    /**
+     * Returns the pool parallel copies run on.
+     *
+     * @return the configured pool, or a dedicated pool (created on first use) sized to the available processors
+     */
+    public static ForkJoinPool getCopyPool() {
+        ForkJoinPool pool = copyPool;
+        return pool != null ? pool : DefaultCopyPool.INSTANCE;
+    }
+
+    /**
+     * Sets the pool parallel copies run on. The pool is not shut down by this library.
+     *
+     * @param pool the pool to use, or {@code null} to restore the dedicated default pool
+     */
+    public static void setCopyPool(ForkJoinPool pool) {
+        copyPool = pool;
+    }
+
+    /**
+     * Returns the estimated collection copy cost from which {@code copyAllObjectsFromCollection}
+     * copies chunks of the collection in parallel.
+     *
+     * @return the bulk parallel cost threshold; {@link #DEFAULT_BULK_PARALLEL_COST_THRESHOLD} by default
+     */
+    public static int getBulkParallelCostThreshold() {
+        return bulkParallelCostThreshold;
+    }
+
+    /**
+     * Sets the estimated collection copy cost from which {@code copyAllObjectsFromCollection} copies
+     * chunks of the collection in parallel.
+     * <p>
+     * The cost of a collection copy is its size times the estimated cost of the first element's copy
+     * plan. Only {@link java.util.RandomAccess} lists are split; the result keeps the input order.
+     * Use {@link Integer#MAX_VALUE} to always copy collections on the calling thread.
+     * </p>
+     *
+     * @param threshold the minimum estimated collection copy cost that triggers a parallel copy
+     */
+    public static void setBulkParallelCostThreshold(int threshold) {
+        bulkParallelCostThreshold = threshold;
+    }
+
+    /**
+     * Returns the executor parallel collection copies run their chunks on.
+     *
+     * @return the configured executor, or {@link #getCopyPool()} when none is set
+     */
+    public static Executor getBulkCopyExecutor() {
+        Executor executor = bulkCopyExecutor;
+        return executor != null ? executor : getCopyPool();
+    }
+
+    /**
+     * Sets the executor parallel collection copies run their chunks on. The executor is not shut down
+     * by this library.
+     *
+     * @param executor the executor to use, or {@code null} to use {@link #getCopyPool()}
+     */
+    public static void setBulkCopyExecutor(Executor executor) {
+        bulkCopyExecutor = executor;
+    }
+
+    /**
+     * Returns the executor the {@code *Async} methods of {@link ObjectFactoryUtil} run copies on.
+     *
+     * @return the configured executor, or a shared virtual-thread-per-task executor (created on first use)
+     */
+    public static Executor getAsyncCopyExecutor() {
+        Executor executor = asyncCopyExecutor;
+        return executor != null ? executor : DefaultAsyncExecutor.INSTANCE;
+    }
+
+    /**
+     * Sets the executor the {@code *Async} methods of {@link ObjectFactoryUtil} run copies on
+     * (e.g. a bounded platform pool, or Spring's {@code applicationTaskExecutor}). The executor is not
+     * shut down by this library.
+     *
+     * @param executor the executor to use, or {@code null} to restore the default virtual-thread executor
+     */
+    public static void setAsyncCopyExecutor(Executor executor) {
+        asyncCopyExecutor = executor;
+    }
+
+    /**
+     * Checks whether {@code copyAllObjectsFromCollection} shares one copy context across all elements.
+     *
+     * @return {@code true} if the batch identity scope is enabled; {@code false} by default
+     */
+    public static boolean isBatchIdentityScopeEnabled() {
+        return batchIdentityScopeEnabled;
+    }
+
+    /**
+     * Enables or disables a copy context spanning a whole {@code copyAllObjectsFromCollection} call.
+     * <p>
+     * Each copied object graph always preserves shared references and cycles. With the batch scope
+     * enabled, objects referenced from several elements (e.g. the same customer from many orders)
+     * are also copied once for the whole batch, and the copies keep sharing them.
+     * </p>
+     *
+     * @param enabled {@code true} to share one copy context per collection copy
+     */
+    public static void setBatchIdentityScopeEnabled(boolean enabled) {
+        batchIdentityScopeEnabled = enabled;
+    }
+
+    /**
+     * Returns the approximate maximum number of entries kept by each internal metadata cache
+     * (copy plans, field accessors, constructor bindings, ...).
+     *
+     * @return the maximum number of entries per cache; {@code 0} (unbounded) by default
+     */
+    public static int getMetadataCacheMaxEntries() {
+        return metadataCacheMaxEntries;
+    }
+
+    /**
+     * Bounds each internal metadata cache to approximately {@code maxEntries} entries.
+     * <p>
+     * Entries are always released together with the classes they describe. A bound additionally
+     * evicts entries not used recently (CLOCK, an approximation of LRU), which suits applications
+     * copying an open-ended set of class pairs, such as generated proxies. Evicted entries are
+     * rebuilt on their next use. Generated and registered copiers are never evicted, since rebuilding
+     * a generated copier defines a new class. Use {@code 0} or a negative value for unbounded caches.
+     * </p>
+     *
+     * @param maxEntries the maximum number of entries per cache, or {@code 0} for no bound
+     */
+    public static void setMetadataCacheMaxEntries(int maxEntries) {
+        metadataCacheMaxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the listener receiving copy metrics.
+     *
+     * @return the installed listener, or {@code null} (the default) when metrics are disabled
+     */
+    public static CopyMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Installs the listener receiving copy latencies, copy paths and serialized sizes, and enables the
+     * hit/miss counters of {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CacheStatistics}.
+     * Without a listener, copies skip all measurements.
+     *
+     * @param listener the listener to install, or {@code null} to disable metrics
+     */
+    public static void setMetricsListener(CopyMetricsListener listener) {
+        metricsListener = listener;
+    }
+
+    /**
+     * Forces nested objects of the given type (and its subtypes) to be deep copied through a JSON
+     * round-trip with the configured serializer instead of the reflective copy.
+     * <p>
+     * Useful for types whose copy semantics depend on serializer annotations (e.g. Jackson's
+     * {@code @JsonIgnore}). JDK types and classes without a no-arg constructor always use JSON.
+     * </p>
+     *
+     * @param type the type to copy through JSON
+     */
+    public static void addJsonCopiedType(Class<?> type) {
+        JSON_COPIED_TYPES.add(type);
+    }
+
+    /**
+     * Removes a type previously added with {@link #addJsonCopiedType(Class)}.
+     *
+     * @param type the type to copy reflectively again
+     */
+    public static void removeJsonCopiedType(Class<?> type) {
+        JSON_COPIED_TYPES.remove(type);
+    }
+
+    /**
+     * Checks whether a type was forced to be copied through JSON, directly or through a supertype.
+     *
+     * @param type the type to check
+     * @return {@code true} if the type must be copied through JSON
+     */
+    public static boolean isJsonCopiedType(Class<?> type) {
+        if (JSON_COPIED_TYPES.isEmpty()) {
+            return false;
+        }
+        for (Class<?> jsonType : JSON_COPIED_TYPES) {
+            if (jsonType.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lazily created default pool, so applications that never copy in parallel start no threads.
+     */
+    private static final class DefaultCopyPool {
+
+        private static final ForkJoinPool INSTANCE = new ForkJoinPool(
+                Runtime.getRuntime().availableProcessors(),
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("object-factory-copy-" + thread.getPoolIndex());
+                    return thread;
+                },
+                null,
+                false);
+    }
+
+    /**
+     * Lazily created default async executor: one virtual thread per copy.
+     */
+    private static final class DefaultAsyncExecutor {
+
+        private static final ExecutorService INSTANCE = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("object-factory-async-", 0).factory());
+    }
+}
@@ -0,0 +1,220 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.CopyMapping;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.CopyWarmup;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectConstructor;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCopyExclusions;
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.exception.ErrorMessages;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.SimpleInstantiationStrategy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Warms up the copy metadata of known class pairs once the application is ready.
+ * <p>
+ * Classes annotated with {@link ObjectConstructor} or {@link ObjectCopyExclusions} under the configured
+ * base packages are warmed as same-class copies, together with the declared (source, destination)
+ * pairs. The warm-up runs in the background through {@link ObjectFactoryUtil#warmUp(Collection)}, so
+ * it never delays readiness. Register it as a bean declared by {@link CopyWarmup}:
+ * </p>
+ * <pre>{@code
+ * @Bean
+ * @CopyWarmup(basePackages = "com.example.dto",
+ *         pairs = @CopyMapping(source = OrderEntity.class, dest = OrderDto.class))
+ * ObjectFactoryUtilWarmup objectFactoryUtilWarmup() {
+ *     return new ObjectFactoryUtilWarmup();
+ * }
+ * }</pre>
+ * <p>
+ * The annotation is the single declaration of the warm-up: the bean reads it at runtime and the
+ * Spring AOT build reads it from the bean definition, without instantiating the bean. A bean defined
+ * with constructor argument values needs no annotation. In a GraalVM native image the
+ * class path cannot be scanned: the annotated classes found during the AOT build are recorded in
+ * {@value #AOT_SCANNED_CLASSES} and read back instead (see {@link ObjectFactoryUtilAotProcessor}).
+ * </p>
+ * <p>
+ * With a {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyMetricsListener}
+ * installed, the first copy of every pair is reported as warmed up or cold.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Slf4j
+public class ObjectFactoryUtilWarmup implements ApplicationListener<ApplicationReadyEvent> {
+
+    /**
+     * Resource listing the annotated classes scanned during the AOT build, one class name per line.
+     */
+    static final String AOT_SCANNED_CLASSES = "META-INF/object-factory-util/aot-scanned-classes";
+
+    private final List<String> basePackages;
+    private final List<ClassPairKey> pairs;
+
+    /**
+     * Creates the warm-up declared by the {@link CopyWarmup} annotation of the {@code @Bean} method
+     * creating it, or of its own class.
+     *
+     * @throws ApiException if no {@link CopyWarmup} annotation declares the warm-up
+     */
+    public ObjectFactoryUtilWarmup() {
+        MergedAnnotation<CopyWarmup> declaration = declaration(getClass());
+        if (!declaration.isPresent()) {
+            throw new ApiException(ErrorMessages.WARMUP_NOT_DECLARED);
+        }
+        this.basePackages = declaredPackages(declaration);
+        this.pairs = declaredPairs(declaration);
+    }
+
+    /**
+     * Creates a warm-up for annotated classes under base packages and explicitly declared pairs.
+     *
+     * @param basePackages the packages scanned for annotated classes (may be empty)
+     * @param pairs        the (source class, destination class) pairs to warm up (may be empty)
+     */
+    public ObjectFactoryUtilWarmup(Collection<String> basePackages, Collection<ClassPairKey> pairs) {
+        if (declaration(getClass()).isPresent()) {
+            throw new ApiException(ErrorMessages.WARMUP_DECLARED_TWICE);
+        }
+        this.basePackages = List.copyOf(basePackages);
+        this.pairs = List.copyOf(pairs);
+    }
+
+    /**
+     * Finds the {@link CopyWarmup} annotation of the {@code @Bean} method being invoked, or of the
+     * warm-up class.
+     *
+     * @param warmupClass the class of the warm-up being created
+     * @return the declaring annotation, possibly missing
+     */
+    private static MergedAnnotation<CopyWarmup> declaration(Class<?> warmupClass) {
+        Method factoryMethod = SimpleInstantiationStrategy.getCurrentlyInvokedFactoryMethod();
+        if (factoryMethod != null && ObjectFactoryUtilWarmup.class.isAssignableFrom(factoryMethod.getReturnType())) {
+            MergedAnnotation<CopyWarmup> declaration = MergedAnnotations.from(factoryMethod).get(CopyWarmup.class);
+            if (declaration.isPresent()) {
+                return declaration;
+            }
+        }
+        return MergedAnnotations.from(warmupClass).get(CopyWarmup.class);
+    }
+
+    static List<String> declaredPackages(MergedAnnotation<CopyWarmup> declaration) {
+        return List.of(declaration.getStringArray("basePackages"));
+    }
+
+    static List<ClassPairKey> declaredPairs(MergedAnnotation<CopyWarmup> declaration) {
+        List<ClassPairKey> declared = new ArrayList<>();
+        for (MergedAnnotation<CopyMapping> pair : declaration.getAnnotationArray("pairs", CopyMapping.class)) {
+            declared.add(new ClassPairKey(pair.getClass("source"), pair.getClass("dest")));
+        }
+        return List.copyOf(declared);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        warmUp(event.getApplicationContext().getClassLoader());
+    }
+
+    /**
+     * Scans the base packages and warms up the resulting pairs.
+     *
+     * @param classLoader the class loader annotated classes are loaded with
+     * @return a future completed with the number of pairs warmed, nested pairs included
+     */
+    public CompletableFuture<Integer> warmUp(ClassLoader classLoader) {
+        Set<ClassPairKey> toWarmUp = resolvePairs(classLoader);
+        if (toWarmUp.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        long start = System.nanoTime();
+        return ObjectFactoryUtil.warmUp(toWarmUp).whenComplete((warmed, ex) -> {
+            if (ex != null) {
+                log.warn("Copy metadata warm-up failed: {}", ex.getMessage());
+            } else {
+                log.info("Warmed up copy metadata for {} class pairs in {} ms", warmed,
+                        (System.nanoTime() - start) / 1_000_000);
+            }
+        });
+    }
+
+    /**
+     * Resolves the declared pairs and the same-class pairs of the annotated classes.
+     *
+     * @param classLoader the class loader annotated classes are loaded with
+     * @return the pairs to warm up
+     */
+    Set<ClassPairKey> resolvePairs(ClassLoader classLoader) {
+        Set<ClassPairKey> resolved = new LinkedHashSet<>(pairs);
+        Collection<String> annotatedClassNames = NativeDetector.inNativeImage()
+                ? readScannedClassNames(classLoader)
+                : scanAnnotatedClassNames();
+        for (String className : annotatedClassNames) {
+            try {
+                Class<?> annotated = ClassUtils.forName(className, classLoader);
+                resolved.add(new ClassPairKey(annotated, annotated));
+            } catch (ClassNotFoundException | LinkageError ex) {
+                log.debug("Skipping warm-up of {}: {}", className, ex.getMessage());
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Scans the base packages for classes annotated with {@link ObjectConstructor} or
+     * {@link ObjectCopyExclusions}.
+     *
+     * @return the names of the annotated classes
+     */
+    Set<String> scanAnnotatedClassNames() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(ObjectConstructor.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(ObjectCopyExclusions.class));
+        Set<String> annotated = new LinkedHashSet<>();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                annotated.add(candidate.getBeanClassName());
+            }
+        }
+        return annotated;
+    }
+
+    private Set<String> readScannedClassNames(ClassLoader classLoader) {
+        Set<String> annotated = new LinkedHashSet<>();
+        ClassPathResource resource = new ClassPathResource(AOT_SCANNED_CLASSES, classLoader);
+        if (!resource.exists()) {
+            return annotated;
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            reader.lines()
+                    .filter(className -> basePackages.stream()
+                            .anyMatch(basePackage -> className.startsWith(basePackage + ".")))
+                    .forEach(annotated::add);
+        } catch (IOException ex) {
+            log.warn("Could not read {}: {}", AOT_SCANNED_CLASSES, ex.getMessage());
+        }
+        return annotated;
+    }
+}
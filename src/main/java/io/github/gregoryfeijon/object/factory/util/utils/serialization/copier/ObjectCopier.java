@@ -0,0 +1,40 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.copier;
+
+/**
+ * Dedicated copier for one (source class, destination class) pair.
+ * <p>
+ * Implementations are usually generated at build time by the {@code object-factory-util-processor}
+ * annotation processor and discovered through {@link java.util.ServiceLoader}, but they can also be
+ * written by hand and registered with {@link ObjectCopierRegistry#register(ObjectCopier)}.
+ * A registered copier is used instead of the reflective copy whenever the runtime classes of the
+ * source and destination objects match {@link #sourceType()} and {@link #destType()} exactly.
+ * </p>
+ *
+ * @param <S> the source type
+ * @param <T> the destination type
+ * @author gregory.feijon
+ */
+public interface ObjectCopier<S, T> {
+
+    /**
+     * The exact class this copier reads from.
+     *
+     * @return the source class
+     */
+    Class<S> sourceType();
+
+    /**
+     * The exact class this copier writes into.
+     *
+     * @return the destination class
+     */
+    Class<T> destType();
+
+    /**
+     * Copies every matched field from the source into the destination.
+     *
+     * @param source the source object instance
+     * @param dest   the destination object instance
+     */
+    void copy(S source, T dest);
+}
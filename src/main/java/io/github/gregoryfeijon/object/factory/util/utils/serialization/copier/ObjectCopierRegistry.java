@@ -0,0 +1,158 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.copier;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.CopyCache;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Registry of {@link ObjectCopier}s, keyed by their exact (source class, destination class) pair.
+ * <p>
+ * Copiers declared in
+ * {@code META-INF/services/io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopier}
+ * are discovered lazily, per class loader: the first lookup of a source class scans the services
+ * visible to that class's loader, so copiers packaged with a restarted DevTools loader, a plugin or
+ * a web application are found as soon as their classes are copied. Providers that fail to load
+ * (e.g. stale entries left by an incremental build) are logged and skipped, once per loader.
+ * Copiers registered programmatically take precedence over discovered ones for the same pair.
+ * </p>
+ * <p>
+ * Copiers, and the absence of one, are cached on the classes of their pair, so a lookup allocates
+ * nothing and the registry releases them together with their class loader.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ObjectCopierRegistry {
+
+    /**
+     * Marks a class pair without a copier.
+     */
+    private static final ObjectCopier<Object, Object> NO_COPIER = new ObjectCopier<>() {
+
+        @Override
+        public Class<Object> sourceType() {
+            return Object.class;
+        }
+
+        @Override
+        public Class<Object> destType() {
+            return Object.class;
+        }
+
+        @Override
+        public void copy(Object source, Object dest) {
+            throw new IllegalStateException("No copier registered");
+        }
+    };
+
+    /**
+     * Provider class names declared to each scanned class loader, by source class name. Only names
+     * are kept, so the weakly held loaders stay collectable.
+     */
+    private static final Map<ClassLoader, Map<String, List<String>>> PROVIDERS = new WeakHashMap<>();
+    private static final Lock DISCOVERY_LOCK = new ReentrantLock();
+
+    /**
+     * Retrieves the copier registered for an exact class pair.
+     *
+     * @param sourceClass the runtime class of the source object
+     * @param destClass   the runtime class of the destination object
+     * @return the registered copier, or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public static ObjectCopier<Object, Object> find(Class<?> sourceClass, Class<?> destClass) {
+        ObjectCopier<?, ?> copier = CopyCache.getOrComputeObjectCopier(sourceClass, destClass,
+                ObjectCopierRegistry::discover);
+        return copier == NO_COPIER ? null : (ObjectCopier<Object, Object>) copier;
+    }
+
+    /**
+     * Registers a copier, replacing any copier previously registered or discovered for the same pair.
+     *
+     * @param copier the copier to register
+     */
+    public static void register(ObjectCopier<?, ?> copier) {
+        CopyCache.putObjectCopier(copier);
+    }
+
+    /**
+     * Removes the copier registered for a class pair, if any. A copier declared as a service for the
+     * pair is discovered again on the next lookup.
+     *
+     * @param sourceClass the source class
+     * @param destClass   the destination class
+     */
+    public static void unregister(Class<?> sourceClass, Class<?> destClass) {
+        CopyCache.removeObjectCopier(sourceClass, destClass);
+    }
+
+    private static ObjectCopier<?, ?> discover(Class<?> sourceClass, Class<?> destClass) {
+        ClassLoader classLoader = sourceClass.getClassLoader();
+        if (classLoader == null) {
+            return NO_COPIER;
+        }
+        for (String providerName : providers(classLoader).getOrDefault(sourceClass.getName(), List.of())) {
+            ObjectCopier<?, ?> copier = instantiate(providerName, classLoader);
+            if (copier != null && copier.sourceType() == sourceClass && copier.destType() == destClass) {
+                log.debug("Registered generated copier {}", providerName);
+                return copier;
+            }
+        }
+        return NO_COPIER;
+    }
+
+    /**
+     * Scans the services of a class loader on its first use. Guarded by a {@link Lock} rather than a
+     * monitor, since scanning the class path is I/O that would otherwise pin a virtual thread's carrier.
+     */
+    private static Map<String, List<String>> providers(ClassLoader classLoader) {
+        DISCOVERY_LOCK.lock();
+        try {
+            return PROVIDERS.computeIfAbsent(classLoader, ObjectCopierRegistry::scan);
+        } finally {
+            DISCOVERY_LOCK.unlock();
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Map<String, List<String>> scan(ClassLoader classLoader) {
+        Map<String, List<String>> providers = new HashMap<>();
+        Iterator<ObjectCopier> iterator = ServiceLoader.load(ObjectCopier.class, classLoader).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    return providers;
+                }
+                ObjectCopier<?, ?> copier = iterator.next();
+                providers.computeIfAbsent(copier.sourceType().getName(), name -> new ArrayList<>())
+                        .add(copier.getClass().getName());
+            } catch (ServiceConfigurationError | LinkageError ex) {
+                log.warn("Skipping object copier that could not be loaded: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private static ObjectCopier<?, ?> instantiate(String providerName, ClassLoader classLoader) {
+        try {
+            Object provider = Class.forName(providerName, true, classLoader).getConstructor().newInstance();
+            return provider instanceof ObjectCopier<?, ?> copier ? copier : null;
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            log.warn("Skipping object copier that could not be loaded: {}", ex.toString());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.copier;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.CopyOrchestrator;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.CopyPlan;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.FieldResolver;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Runtime support for generated {@link ObjectCopier}s.
+ * <p>
+ * Generated copiers assign primitives, enums and simple immutable values directly. Fields that
+ * need a deep copy or a type conversion (nested objects, collections, maps, wrapper/primitive or
+ * enum conversions) are delegated back to the library through a {@link FieldDelegate}, so they
+ * behave exactly as in a reflective copy.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ObjectCopierSupport {
+
+    /**
+     * Creates a delegate that copies the given source fields through the library's copy plan.
+     * <p>
+     * Intended to be called once per generated class, from a static initializer.
+     * </p>
+     *
+     * @param sourceClass      the source class
+     * @param destClass        the destination class
+     * @param sourceFieldNames the names of the source fields to delegate
+     * @return a delegate bound to the matching positions of the copy plan
+     */
+    public static FieldDelegate delegate(Class<?> sourceClass, Class<?> destClass, String... sourceFieldNames) {
+        CopyPlan plan = FieldResolver.resolveCopyPlan(sourceClass, destClass);
+        Set<String> names = Set.of(sourceFieldNames);
+        int[] indexes = IntStream.range(0, plan.size())
+                .filter(index -> names.contains(plan.sourceField(index).getName()))
+                .toArray();
+        return new FieldDelegate(plan, indexes);
+    }
+
+    /**
+     * A fixed subset of a {@link CopyPlan}, copied through {@link CopyOrchestrator}.
+     */
+    public static final class FieldDelegate {
+
+        private final CopyPlan plan;
+        private final int[] indexes;
+
+        private FieldDelegate(CopyPlan plan, int[] indexes) {
+            this.plan = plan;
+            this.indexes = indexes;
+        }
+
+        /**
+         * Copies the delegated fields from the source into the destination.
+         *
+         * @param source the source object instance
+         * @param dest   the destination object instance
+         */
+        public void copy(Object source, Object dest) {
+            for (int index : indexes) {
+                CopyOrchestrator.copyField(plan, index, source, dest);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * Extension point for dedicated, non-reflective copiers.
+ * <p>
+ * {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopier}
+ * implementations, generated at build time by the {@code object-factory-util-processor} annotation
+ * processor or written by hand, are collected by
+ * {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopierRegistry}
+ * and preferred by {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil}
+ * for their exact class pair.
+ * {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopierSupport}
+ * lets generated code delegate complex fields back to the library.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.copier;
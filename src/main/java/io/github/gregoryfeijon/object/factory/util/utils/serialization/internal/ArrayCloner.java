@@ -0,0 +1,229 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.exception.ErrorMessages;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ImmutableTypeRegistry;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.defaultValueFor;
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isClassMapCollection;
+
+/**
+ * Deep copies arrays without serialization.
+ * <p>
+ * Supported cases:
+ * </p>
+ * <ul>
+ *   <li>Primitive arrays (including large {@code byte[]} payloads) and arrays of final immutable
+ *       types: bulk copy through {@link System#arraycopy}</li>
+ *   <li>Primitive ↔ wrapper arrays of the same kind (e.g. {@code int[]} ↔ {@code Integer[]}):
+ *       typed boxing/unboxing loops; {@code null} wrappers become the primitive default</li>
+ *   <li>Multi-dimensional arrays: copied recursively, one dimension at a time</li>
+ *   <li>Other object arrays: element-wise deep copy, with the {@link ElementStrategy} resolved once
+ *       per run of elements of the same class</li>
+ * </ul>
+ *
+ * @author gregory.feijon
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ArrayCloner {
+
+    /**
+     * Creates a deep copy of an array, converting it to the destination array type.
+     *
+     * @param sourceArray the array to clone
+     * @param destType    the declared destination array type
+     * @return a deep copy of the source array, or null if the source array is null
+     */
+    public static Object cloneArray(Object sourceArray, Class<?> destType) {
+        if (sourceArray == null) {
+            return null;
+        }
+        CopyContext context = CopyContext.current();
+        if (context == null) {
+            return copyArray(sourceArray, destType);
+        }
+        Object existing = context.lookup(sourceArray, destType);
+        if (existing != null) {
+            return existing;
+        }
+        Object copy = copyArray(sourceArray, destType);
+        Object registered = context.register(sourceArray, destType, copy);
+        return registered != null ? registered : copy;
+    }
+
+    /**
+     * Copies an array without consulting the copy context.
+     *
+     * @param sourceArray the non-null array to copy
+     * @param destType    the declared destination array type (or {@code Object})
+     * @return the copied array
+     */
+    static Object copyArray(Object sourceArray, Class<?> destType) {
+        Class<?> sourceType = sourceArray.getClass();
+        Class<?> targetType = destType.isAssignableFrom(sourceType) ? sourceType : destType;
+        Class<?> sourceComponent = sourceType.getComponentType();
+        Class<?> targetComponent = targetType.getComponentType();
+        int length = Array.getLength(sourceArray);
+
+        if (sourceComponent == targetComponent && isBulkCopyable(sourceComponent)) {
+            Object copy = Array.newInstance(targetComponent, length);
+            System.arraycopy(sourceArray, 0, copy, 0, length);
+            return copy;
+        }
+        if (sourceComponent.isPrimitive() && targetComponent == ClassUtils.primitiveToWrapper(sourceComponent)) {
+            return box(sourceArray, targetComponent, length);
+        }
+        if (targetComponent.isPrimitive() && sourceComponent == ClassUtils.primitiveToWrapper(targetComponent)) {
+            return unbox(sourceArray, targetComponent, length);
+        }
+        if (sourceComponent.isPrimitive() || targetComponent.isPrimitive()) {
+            return convertPrimitives(sourceArray, targetComponent, length);
+        }
+        return copyElements((Object[]) sourceArray, targetComponent, length);
+    }
+
+    private static boolean isBulkCopyable(Class<?> component) {
+        return component.isPrimitive()
+                || ((component.isEnum() || Modifier.isFinal(component.getModifiers()))
+                && ImmutableTypeRegistry.isImmutable(component));
+    }
+
+    private static Object[] copyElements(Object[] source, Class<?> targetComponent, int length) {
+        Object[] copy = (Object[]) Array.newInstance(targetComponent, length);
+        Class<?> lastClass = null;
+        ElementStrategy strategy = null;
+
+        for (int i = 0; i < length; i++) {
+            Object element = source[i];
+            if (element == null) {
+                continue;
+            }
+            if (targetComponent.isArray() && element.getClass().isArray()) {
+                copy[i] = cloneArray(element, targetComponent);
+                continue;
+            }
+            if (element.getClass() != lastClass) {
+                lastClass = element.getClass();
+                strategy = lastClass.isArray() ? null : elementStrategy(lastClass, targetComponent);
+            }
+            copy[i] = strategy != null
+                    ? strategy.apply(element)
+                    : CollectionMapCloner.cloneElement(element, targetComponent);
+        }
+
+        return copy;
+    }
+
+    private static ElementStrategy elementStrategy(Class<?> elementClass, Class<?> targetComponent) {
+        if (isClassMapCollection(elementClass)) {
+            return null;
+        }
+        return CopyCache.getOrComputeElementStrategy(elementClass, targetComponent, ElementStrategy::resolve);
+    }
+
+    private static Object box(Object source, Class<?> wrapperComponent, int length) {
+        return switch (source) {
+            case int[] values -> {
+                Integer[] copy = new Integer[length];
+                for (int i = 0; i < length; i++) {
+                    copy[i] = values[i];
+                }
+                yield copy;
+            }
+            case long[] values -> {
+                Long[] copy = new Long[length];
+                for (int i = 0; i < length; i++) {
+                    copy[i] = values[i];
+                }
+                yield copy;
+            }
+            case double[] values -> {
+                Double[] copy = new Double[length];
+                for (int i = 0; i < length; i++) {
+                    copy[i] = values[i];
+                }
+                yield copy;
+            }
+            case boolean[] values -> {
+                Boolean[] copy = new Boolean[length];
+                for (int i = 0; i < length; i++) {
+                    copy[i] = values[i];
+                }
+                yield copy;
+            }
+            case byte[] values -> {
+                Byte[] copy = new Byte[length];
+                for (int i = 0; i < length; i++) {
+                    copy[i] = values[i];
+                }
+                yield copy;
+            }
+            default -> convertPrimitives(source, wrapperComponent, length);
+        };
+    }
+
+    private static Object unbox(Object source, Class<?> primitiveComponent, int length) {
+        return switch (source) {
+            case Integer[] values -> {
+                int[] copy = new int[length];
+                for (int i = 0; i < length; i++) {
+                    copy[i] = values[i] != null ? values[i] : 0;
+                }
+                yield copy;
+            }
+            case Long[] values -> {
+                long[] copy = new long[length];
+                for (int i = 0; i < length; i++) {
+                    copy[i] = values[i] != null ? values[i] : 0L;
+                }
+                yield copy;
+            }
+            case Double[] values -> {
+                double[] copy = new double[length];
+                for (int i = 0; i < length; i++) {
+                    copy[i] = values[i] != null ? values[i] : 0D;
+                }
+                yield copy;
+            }
+            case Boolean[] values -> {
+                boolean[] copy = new boolean[length];
+                for (int i = 0; i < length; i++) {
+                    copy[i] = values[i] != null && values[i];
+                }
+                yield copy;
+            }
+            case Byte[] values -> {
+                byte[] copy = new byte[length];
+                for (int i = 0; i < length; i++) {
+                    copy[i] = values[i] != null ? values[i] : 0;
+                }
+                yield copy;
+            }
+            default -> convertPrimitives(source, primitiveComponent, length);
+        };
+    }
+
+    /**
+     * Element-by-element conversion for the remaining primitive cases (less common wrapper kinds and
+     * widening such as {@code int[]} → {@code long[]}).
+     */
+    private static Object convertPrimitives(Object source, Class<?> targetComponent, int length) {
+        Object copy = Array.newInstance(targetComponent, length);
+        Object defaultValue = targetComponent.isPrimitive() ? defaultValueFor(targetComponent) : null;
+        try {
+            for (int i = 0; i < length; i++) {
+                Object value = Array.get(source, i);
+                Array.set(copy, i, value != null ? value : defaultValue);
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException(ErrorMessages.CLONE_ARRAY_ERROR, ex);
+        }
+        return copy;
+    }
+}
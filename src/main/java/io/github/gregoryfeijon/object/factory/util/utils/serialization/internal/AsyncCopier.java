@@ -0,0 +1,103 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Runs copy operations asynchronously on {@link ObjectFactoryUtilSettings#getAsyncCopyExecutor()}.
+ * <p>
+ * Cancellation is cooperative: once the returned future completes before the copy does (through
+ * {@link CompletableFuture#cancel(boolean)}, {@link CompletableFuture#orTimeout} or any other
+ * external completion), the copy stops at the next object it starts, or at the next element of a
+ * collection copy, including chunks running on other threads. Copies are never interrupted, so
+ * pooled executor threads are not left with a pending interrupt.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AsyncCopier {
+
+    private static final ThreadLocal<CompletableFuture<?>> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Starts a copy operation on the async copy executor.
+     *
+     * @param <R>  the result type
+     * @param copy the copy operation
+     * @return a future completed with the result of the copy, or exceptionally with its failure
+     */
+    public static <R> CompletableFuture<R> supplyAsync(Supplier<R> copy) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        Executor executor = ObjectFactoryUtilSettings.getAsyncCopyExecutor();
+        try {
+            executor.execute(() -> run(future, copy));
+        } catch (RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    private static <R> void run(CompletableFuture<R> future, Supplier<R> copy) {
+        if (future.isDone()) {
+            return;
+        }
+        try {
+            runBound(future, () -> future.complete(copy.get()));
+        } catch (Throwable ex) {
+            future.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Returns the future of the async copy running on the current thread.
+     *
+     * @return the future, or {@code null} when the current thread is not running an async copy
+     */
+    static CompletableFuture<?> current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs a task on behalf of an async copy, so {@link #checkCancelled()} observes its cancellation.
+     *
+     * @param future the future of the async copy, may be {@code null}
+     * @param task   the task to run
+     */
+    static void runBound(CompletableFuture<?> future, Runnable task) {
+        CompletableFuture<?> previous = CURRENT.get();
+        if (previous == future) {
+            task.run();
+            return;
+        }
+        CURRENT.set(future);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Stops the current copy if it runs on behalf of an async copy whose future already completed.
+     *
+     * @throws CancellationException if the async copy was cancelled or timed out
+     */
+    static void checkCancelled() {
+        CompletableFuture<?> future = CURRENT.get();
+        if (future != null && future.isDone()) {
+            throw new CancellationException("Asynchronous copy was cancelled or timed out");
+        }
+    }
+}
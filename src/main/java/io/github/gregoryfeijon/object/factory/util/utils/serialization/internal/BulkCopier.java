@@ -0,0 +1,216 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Copies whole collections of objects, in encounter order, into presized lists or caller-provided
+ * collections.
+ * <p>
+ * The copy route is resolved once per run of elements of the same class, so homogeneous input
+ * performs a single plan lookup per chunk. When the estimated work (size × plan cost) reaches
+ * {@link ObjectFactoryUtilSettings#getBulkParallelCostThreshold()}, {@link RandomAccess} lists are
+ * split into chunks copied on {@link ObjectFactoryUtilSettings#getBulkCopyExecutor()}; the calling
+ * thread copies the first chunk itself. Smaller collections stay on the calling thread.
+ * </p>
+ * <p>
+ * Chunks inherit the batch {@link CopyContext} and the cancellation of the {@link AsyncCopier}
+ * copy they belong to, so a cancelled async collection copy stops at the next element in every chunk.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BulkCopier {
+
+    /**
+     * Minimum number of elements per parallel chunk.
+     */
+    static final int MIN_CHUNK_SIZE = 64;
+
+    /**
+     * Number of chunks created per unit of executor parallelism, to balance uneven elements.
+     */
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    /**
+     * Number of elements sampled to estimate the plan cost of a list.
+     */
+    private static final int COST_SAMPLES = 4;
+
+    /**
+     * Copies every element of a collection into a new list, preserving order.
+     * <p>
+     * Runs in the {@link CopyContext} bound to the calling thread, if any (batch identity scope);
+     * otherwise every element is copied in its own context.
+     * </p>
+     *
+     * @param <T>        the type of the resulting elements
+     * @param sources    the elements to copy
+     * @param returnType the class to copy every element into, or {@code null} to keep each element's class
+     * @return a mutable list with the copies
+     */
+    public static <T> List<T> copyAll(Collection<?> sources, Class<T> returnType) {
+        return copyAll(sources, returnType, new ArrayList<>(sources.size()));
+    }
+
+    /**
+     * Copies every element of a collection into a caller-provided collection, preserving order, so
+     * the copies are never staged in an intermediate list.
+     * <p>
+     * Runs in the {@link CopyContext} bound to the calling thread, if any (batch identity scope);
+     * otherwise every element is copied in its own context.
+     * </p>
+     *
+     * @param <T>        the type of the resulting elements
+     * @param <C>        the type of the target collection
+     * @param sources    the elements to copy
+     * @param returnType the class to copy every element into, or {@code null} to keep each element's class
+     * @param target     the collection the copies are added to
+     * @return the target collection
+     */
+    public static <T, C extends Collection<? super T>> C copyAll(Collection<?> sources, Class<T> returnType,
+                                                                 C target) {
+        if (sources instanceof List<?> list && sources instanceof RandomAccess && shouldSplit(list, returnType)) {
+            copyInChunks(list, returnType, target);
+            return target;
+        }
+        RouteCache routes = new RouteCache();
+        for (Object element : sources) {
+            target.add(copyElement(element, returnType, routes));
+        }
+        return target;
+    }
+
+    /**
+     * Decides whether a list is worth splitting into parallel chunks.
+     * <p>
+     * The plan cost is averaged over a few evenly spaced elements rather than measured on every
+     * element, so a heterogeneous list whose samples miss its expensive classes may still be copied
+     * sequentially.
+     * </p>
+     *
+     * @param sources    the elements to copy
+     * @param returnType the target class, or {@code null} to keep each element's class
+     * @return {@code true} if the list should be copied in parallel chunks
+     */
+    static boolean shouldSplit(List<?> sources, Class<?> returnType) {
+        int size = sources.size();
+        if (size < 2 * MIN_CHUNK_SIZE || !FieldCopyScheduler.mayFork()) {
+            return false;
+        }
+        long totalCost = 0;
+        int sampled = 0;
+        for (int sample = 0; sample < COST_SAMPLES; sample++) {
+            Object element = sources.get((int) ((long) size * sample / COST_SAMPLES));
+            if (element != null) {
+                Class<?> targetType = returnType != null ? returnType : element.getClass();
+                totalCost += Math.max(1, FieldResolver.resolveCopyPlan(element.getClass(), targetType).estimatedCost());
+                sampled++;
+            }
+        }
+        return sampled > 0 && size * totalCost / sampled >= ObjectFactoryUtilSettings.getBulkParallelCostThreshold();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> void copyInChunks(List<?> sources, Class<T> returnType, Collection<? super T> target) {
+        int size = sources.size();
+        Executor executor = ObjectFactoryUtilSettings.getBulkCopyExecutor();
+        int chunkCount = Math.min(Math.ceilDiv(size, MIN_CHUNK_SIZE), parallelismOf(executor) * CHUNKS_PER_WORKER);
+        int chunkSize = Math.ceilDiv(size, chunkCount);
+        Object[] results = new Object[size];
+        CopyContext batchContext = CopyContext.current();
+        if (batchContext != null) {
+            batchContext.share();
+        }
+        CompletableFuture<?> asyncCopy = AsyncCopier.current();
+
+        List<CompletableFuture<Void>> chunks = new ArrayList<>(chunkCount);
+        for (int from = chunkSize; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, size);
+            chunks.add(CompletableFuture.runAsync(
+                    () -> copyChunk(sources, start, end, returnType, results, batchContext, asyncCopy), executor));
+        }
+        try {
+            copyChunk(sources, 0, Math.min(chunkSize, size), returnType, results, batchContext, asyncCopy);
+            CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : new ApiException(ex.getCause());
+        } finally {
+            chunks.forEach(chunk -> chunk.cancel(false));
+        }
+        for (Object copy : results) {
+            target.add((T) copy);
+        }
+    }
+
+    private static void copyChunk(List<?> sources, int from, int to, Class<?> returnType,
+                                  Object[] results, CopyContext batchContext, CompletableFuture<?> asyncCopy) {
+        Runnable chunk = () -> {
+            RouteCache routes = new RouteCache();
+            for (int i = from; i < to; i++) {
+                results[i] = copyElement(sources.get(i), returnType, routes);
+            }
+        };
+        FieldCopyScheduler.runSequentially(() -> CopyContext.runBound(batchContext,
+                () -> AsyncCopier.runBound(asyncCopy, chunk)));
+    }
+
+    /**
+     * Copies one element of a bulk copy in its own (or the batch) {@link CopyContext}.
+     *
+     * @param <T>        the target type
+     * @param element    the element to copy
+     * @param returnType the class to copy the element into, or {@code null} to keep its class
+     * @param routes     the route cache of the run the element belongs to
+     * @return the copy
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T copyElement(Object element, Class<T> returnType, RouteCache routes) {
+        AsyncCopier.checkCancelled();
+        ValidationUtil.verifySourceObject(element);
+        Class<T> targetType = returnType != null ? returnType : (Class<T>) element.getClass();
+        GeneratedCopier route = routes.get(element.getClass(), targetType);
+        return CopyContext.within(() -> CopyRoutes.copyToNewInstance(element, targetType, route));
+    }
+
+    private static int parallelismOf(Executor executor) {
+        return executor instanceof ForkJoinPool pool
+                ? pool.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Remembers the route of the last class pair seen, so homogeneous runs resolve it once.
+     * The pair and its route are published as one immutable record, so a cache shared by a
+     * parallel stream never pairs a class with another class's route.
+     */
+    static final class RouteCache {
+
+        private Route last;
+
+        GeneratedCopier get(Class<?> sourceClass, Class<?> targetType) {
+            Route route = last;
+            if (route == null || route.sourceClass() != sourceClass || route.targetType() != targetType) {
+                route = new Route(sourceClass, targetType, CopyRoutes.resolve(sourceClass, targetType));
+                last = route;
+            }
+            return route.copier();
+        }
+
+        private record Route(Class<?> sourceClass, Class<?> targetType, GeneratedCopier copier) {
+        }
+    }
+}
@@ -2,38 +2,68 @@ package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal
 
 import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
 import io.github.gregoryfeijon.object.factory.util.exception.ErrorMessages;
-import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
-import io.github.gregoryfeijon.serializer.provider.util.gson.GsonTypesUtil;
-import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerAdapter;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ImmutableTypeRegistry;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyPath;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.springframework.beans.BeanInstantiationException;
-import org.springframework.util.CollectionUtils;
 
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.List;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.PriorityBlockingQueue;
 
 import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.getRawType;
-import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isClassMapCollection;
 import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isCollection;
 
 /**
- * Deep copies collections and maps, preserving generic type information
+ * Deep copies collections and maps element by element, preserving generic type information
  * and handling element type conversion when source and destination types differ.
+ * <p>
+ * The target container is built directly from the declared type with the source size as capacity,
+ * and each element, key and value goes through the {@link ElementStrategy} cached for its runtime
+ * class, so heterogeneous elements are copied individually. Nested collections and maps recurse
+ * with the nested generic type.
+ * </p>
+ * <p>
+ * A collection or map instance referenced more than once within a copy operation is cloned only
+ * once per target type (see {@link CopyContext}). With
+ * {@link ObjectFactoryUtilSettings#setImmutableSharingEnabled(boolean) immutable sharing} enabled,
+ * {@link ImmutableTypeRegistry#isImmutableCollection(Class) immutable collections} whose elements would
+ * all be shared are returned as they are.
+ * </p>
  *
  * @author gregory.feijon
  */
-@SuppressWarnings("java:S6204")
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class CollectionMapCloner {
 
     /**
-     * Creates a deep copy of a collection or map via serialization, preserving generic type information.
+     * Creates a deep copy of a collection or map, preserving generic type information.
      *
      * @param sourceValue the collection or map to clone
      * @param genericType the generic type information of the target field
@@ -43,6 +73,24 @@ public final class CollectionMapCloner {
         if (sourceValue == null) {
             return null;
         }
+        if (ObjectFactoryUtilSettings.isImmutableSharingEnabled() && isShareable(sourceValue, genericType)) {
+            CopyMetrics.pathTaken(CopyPath.DIRECT);
+            return sourceValue;
+        }
+        CopyContext context = CopyContext.current();
+        if (context == null) {
+            return cloneCollectionMap(sourceValue, genericType);
+        }
+        Object existing = context.lookup(sourceValue, genericType);
+        if (existing != null) {
+            return existing;
+        }
+        Object copy = cloneCollectionMap(sourceValue, genericType);
+        Object registered = context.register(sourceValue, genericType, copy);
+        return registered != null ? registered : copy;
+    }
+
+    private static Object cloneCollectionMap(Object sourceValue, Type genericType) {
         try {
             if (isCollection(sourceValue.getClass())) {
                 return cloneCollection((Collection<?>) sourceValue, genericType);
@@ -54,186 +102,232 @@ public final class CollectionMapCloner {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static Object cloneCollection(Collection<?> sourceCollection, Type genericType)
-            throws ClassNotFoundException, BeanInstantiationException {
-        if (sourceCollection.isEmpty()) {
-            return deserializeEmptyCollection(genericType);
-        }
-
-        Object firstElement = sourceCollection.iterator().next();
-        Class<?> sourceElementType = firstElement.getClass();
-        Class<?> targetElementType = TypeResolver.extractCollectionElementType(genericType);
+    private static Collection<Object> cloneCollection(Collection<?> sourceCollection, Type genericType) {
+        Type elementType = TypeResolver.getNestedGenericType(genericType, 0);
+        Collection<Object> target = newCollection(sourceCollection, getRawType(genericType), getRawType(elementType));
 
-        if (isClassMapCollection(sourceElementType)) {
-            return cloneNestedCollection(sourceCollection, genericType, firstElement, targetElementType);
+        for (Object element : sourceCollection) {
+            target.add(cloneElement(element, elementType));
         }
 
-        return cloneSimpleCollection(sourceCollection, genericType, sourceElementType, targetElementType);
+        return target;
     }
 
-    @SuppressWarnings("unchecked")
-    private static Object cloneMap(Map<?, ?> sourceMap, Type genericType)
-            throws ClassNotFoundException, BeanInstantiationException {
-        if (sourceMap.isEmpty()) {
-            return deserializeEmptyMap(genericType);
-        }
-
-        Object firstValue = sourceMap.values().iterator().next();
-        Class<?> sourceValueType = firstValue.getClass();
-        Class<?> targetValueType = TypeResolver.extractMapValueType(genericType);
+    private static Map<Object, Object> cloneMap(Map<?, ?> sourceMap, Type genericType) {
+        Type keyType = TypeResolver.getNestedGenericType(genericType, 0);
+        Type valueType = TypeResolver.getNestedGenericType(genericType, 1);
+        Map<Object, Object> target = newMap(sourceMap, getRawType(genericType), getRawType(keyType));
 
-        if (isClassMapCollection(sourceValueType)) {
-            return cloneNestedMap(sourceMap, genericType, firstValue, targetValueType);
+        for (Map.Entry<?, ?> entry : sourceMap.entrySet()) {
+            target.put(cloneElement(entry.getKey(), keyType), cloneElement(entry.getValue(), valueType));
         }
 
-        return cloneSimpleMap(sourceMap, genericType, sourceValueType, targetValueType);
+        return target;
     }
 
-    private static Object deserializeEmptyCollection(Type genericType) {
-        SerializerAdapter serializer = ObjectCloner.getSerializer();
-        String jsonClone = serializer.serialize(Collections.emptyList());
-        return serializer.deserialize(jsonClone, genericType);
-    }
-
-    private static Object deserializeEmptyMap(Type genericType) {
-        SerializerAdapter serializer = ObjectCloner.getSerializer();
-        String jsonClone = serializer.serialize(Collections.emptyMap());
-        return serializer.deserialize(jsonClone, genericType);
+    /**
+     * Checks whether a collection or map can be shared: it is immutable, fits the declared type, and
+     * each of its elements, keys and values would be shared when copied one by one.
+     */
+    private static boolean isShareable(Object sourceValue, Type genericType) {
+        Class<?> sourceClass = sourceValue.getClass();
+        if (!ImmutableTypeRegistry.isImmutableCollection(sourceClass)
+                || !getRawType(genericType).isAssignableFrom(sourceClass)) {
+            return false;
+        }
+        if (sourceValue instanceof Map<?, ?> map) {
+            Type keyType = TypeResolver.getNestedGenericType(genericType, 0);
+            Type valueType = TypeResolver.getNestedGenericType(genericType, 1);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!isShareableElement(entry.getKey(), keyType) || !isShareableElement(entry.getValue(), valueType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        Type elementType = TypeResolver.getNestedGenericType(genericType, 0);
+        for (Object element : (Collection<?>) sourceValue) {
+            if (!isShareableElement(element, elementType)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private static Object cloneNestedCollection(Collection<?> sourceCollection,
-                                                 Type genericType,
-                                                 Object firstElement,
-                                                 Class<?> targetElementType) throws ClassNotFoundException {
-        Class<?> innermostSourceType = TypeResolver.getInnermostElementType(firstElement);
-
-        if (innermostSourceType == targetElementType) {
-            SerializerAdapter serializer = ObjectCloner.getSerializer();
-            String jsonClone = serializer.serialize(sourceCollection);
-            return verifyList(sourceCollection, genericType, jsonClone);
+    private static boolean isShareableElement(Object element, Type declaredType) {
+        if (element == null) {
+            return true;
         }
-
-        return convertNestedCollectionElements(sourceCollection, genericType);
+        if (element instanceof Collection<?> || element instanceof Map<?, ?>) {
+            return isShareable(element, declaredType);
+        }
+        return CopyCache.getOrComputeElementStrategy(element.getClass(), getRawType(declaredType),
+                ElementStrategy::resolve).kind() == ElementStrategy.Kind.SHARE;
     }
 
-    private static List<Object> convertNestedCollectionElements(Collection<?> sourceCollection,
-                                                                 Type genericType) {
-        Type nestedType = TypeResolver.getNestedGenericType(genericType, 0);
-        List<Object> convertedList = new ArrayList<>();
-
-        for (Object item : sourceCollection) {
-            Object converted = serializingCloneCollectionMap(item, nestedType);
-            convertedList.add(converted);
+    /**
+     * Copies a single element, key or value into its declared generic type.
+     *
+     * @param element      the element to copy, may be null
+     * @param declaredType the declared generic type of the element
+     * @return the copied element
+     */
+    static Object cloneElement(Object element, Type declaredType) {
+        if (element == null) {
+            return null;
         }
-
-        return convertedList;
+        if (element instanceof Collection<?> || element instanceof Map<?, ?>) {
+            return serializingCloneCollectionMap(element, declaredType);
+        }
+        ElementStrategy strategy = CopyCache.getOrComputeElementStrategy(element.getClass(), getRawType(declaredType),
+                ElementStrategy::resolve);
+        return strategy.apply(element);
     }
 
-    private static Object cloneSimpleCollection(Collection<?> sourceCollection,
-                                                 Type genericType,
-                                                 Class<?> sourceElementType,
-                                                 Class<?> targetElementType)
-            throws ClassNotFoundException {
-        Class<?> effectiveElementType = TypeResolver.resolveEffectiveType(sourceElementType, targetElementType);
-        if (sourceElementType == effectiveElementType) {
-            SerializerAdapter serializer = ObjectCloner.getSerializer();
-            String jsonClone = serializer.serialize(sourceCollection);
-            if (effectiveElementType != targetElementType) {
-                Type concreteType = GsonTypesUtil.getType(getRawType(genericType), effectiveElementType);
-                return serializer.deserialize(jsonClone, concreteType);
+    /**
+     * Creates an empty collection for the declared raw type, presized for the source.
+     * Interfaces map to the same implementations a JSON round-trip would produce. Sorted sets and
+     * priority queues keep the comparator of a sorted source, and an {@link EnumSet} whose element type
+     * is not declared takes it from the source.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Collection<Object> newCollection(Collection<?> source, Class<?> rawType, Class<?> elementClass) {
+        int size = source.size();
+        if (rawType == EnumSet.class) {
+            return (Collection<Object>) (Collection) newEnumSet(source, elementClass);
+        }
+        if (isAbstract(rawType)) {
+            if (SortedSet.class.isAssignableFrom(rawType) || NavigableSet.class.isAssignableFrom(rawType)) {
+                return new TreeSet<>(comparatorOf(source));
+            }
+            if (Set.class.isAssignableFrom(rawType)) {
+                return LinkedHashSet.newLinkedHashSet(size);
             }
-            return verifyList(sourceCollection, genericType, jsonClone);
+            if (Queue.class.isAssignableFrom(rawType)) {
+                return new ArrayDeque<>(Math.max(size, 1));
+            }
+            return new ArrayList<>(size);
         }
-
-        return convertCollectionElements(sourceCollection, effectiveElementType);
-    }
-
-    private static List<Object> convertCollectionElements(Collection<?> sourceCollection,
-                                                           Class<?> targetElementType) {
-        List<Object> convertedList = new ArrayList<>();
-
-        for (Object item : sourceCollection) {
-            Object converted = ObjectFactoryUtil.createFromObject(item, targetElementType);
-            convertedList.add(converted);
+        if (rawType == ArrayList.class) {
+            return new ArrayList<>(size);
         }
-
-        return convertedList;
+        if (rawType == HashSet.class) {
+            return HashSet.newHashSet(size);
+        }
+        if (rawType == LinkedHashSet.class) {
+            return LinkedHashSet.newLinkedHashSet(size);
+        }
+        if (rawType == TreeSet.class) {
+            return new TreeSet<>(comparatorOf(source));
+        }
+        if (rawType == ConcurrentSkipListSet.class) {
+            return new ConcurrentSkipListSet<>(comparatorOf(source));
+        }
+        if (rawType == PriorityQueue.class) {
+            return new PriorityQueue<>(Math.max(size, 1), comparatorOf(source));
+        }
+        if (rawType == PriorityBlockingQueue.class) {
+            return new PriorityBlockingQueue<>(Math.max(size, 1), comparatorOf(source));
+        }
+        return (Collection<Object>) Instantiator.newInstance(rawType);
     }
 
-    @SuppressWarnings({"unchecked", "java:S108"})
-    private static Object verifyList(Object sourceValue, Type genericType, String jsonClone)
-            throws ClassNotFoundException {
-        SerializerAdapter serializer = ObjectCloner.getSerializer();
-
-        try {
-            TypeResolver.verifyType(genericType);
-            return serializer.deserialize(jsonClone, genericType);
-        } catch (BeanInstantiationException | ClassNotFoundException ex) {
-            List<Object> aux = new ArrayList<>(Collections.checkedCollection((Collection<Object>) sourceValue, Object.class));
-            if (!CollectionUtils.isEmpty(aux)) {
-                Class<?> objectType = aux.getFirst().getClass();
-                Type fallbackType = GsonTypesUtil.getType(getRawType(genericType), objectType);
-                return serializer.deserialize(jsonClone, fallbackType);
+    /**
+     * Creates an empty map for the declared raw type, presized for the source.
+     * Interfaces map to the same implementations a JSON round-trip would produce. Sorted maps keep
+     * the comparator of a sorted source, and an {@link EnumMap} whose key type is not declared takes
+     * it from the source.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<Object, Object> newMap(Map<?, ?> source, Class<?> rawType, Class<?> keyClass) {
+        int size = source.size();
+        if (rawType == EnumMap.class) {
+            return (Map<Object, Object>) (Map) newEnumMap(source, keyClass);
+        }
+        if (isAbstract(rawType)) {
+            if (ConcurrentNavigableMap.class.isAssignableFrom(rawType)) {
+                return new ConcurrentSkipListMap<>(comparatorOf(source));
             }
-            return null;
+            if (ConcurrentMap.class.isAssignableFrom(rawType)) {
+                return new ConcurrentHashMap<>(size);
+            }
+            if (SortedMap.class.isAssignableFrom(rawType) || NavigableMap.class.isAssignableFrom(rawType)) {
+                return new TreeMap<>(comparatorOf(source));
+            }
+            return LinkedHashMap.newLinkedHashMap(size);
+        }
+        if (rawType == HashMap.class) {
+            return HashMap.newHashMap(size);
+        }
+        if (rawType == LinkedHashMap.class) {
+            return LinkedHashMap.newLinkedHashMap(size);
+        }
+        if (rawType == TreeMap.class) {
+            return new TreeMap<>(comparatorOf(source));
         }
+        if (rawType == ConcurrentSkipListMap.class) {
+            return new ConcurrentSkipListMap<>(comparatorOf(source));
+        }
+        return (Map<Object, Object>) Instantiator.newInstance(rawType);
     }
 
-    private static Object cloneNestedMap(Map<?, ?> sourceMap,
-                                          Type genericType,
-                                          Object firstValue,
-                                          Class<?> targetValueType) {
-        Class<?> innermostSourceType = TypeResolver.getInnermostElementType(firstValue);
+    /**
+     * Returns the comparator ordering a sorted set, sorted map or priority queue.
+     *
+     * @return the comparator, or {@code null} for natural ordering or an unsorted source
+     */
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> comparatorOf(Object source) {
+        Comparator<?> comparator = switch (source) {
+            case SortedSet<?> sorted -> sorted.comparator();
+            case SortedMap<?, ?> sorted -> sorted.comparator();
+            case PriorityQueue<?> queue -> queue.comparator();
+            case PriorityBlockingQueue<?> queue -> queue.comparator();
+            default -> null;
+        };
+        return (Comparator<Object>) comparator;
+    }
 
-        if (innermostSourceType == targetValueType) {
-            SerializerAdapter serializer = ObjectCloner.getSerializer();
-            String jsonClone = serializer.serialize(sourceMap);
-            return serializer.deserialize(jsonClone, genericType);
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static EnumSet<?> newEnumSet(Collection<?> source, Class<?> elementClass) {
+        if (elementClass.isEnum()) {
+            return EnumSet.noneOf((Class<Enum>) elementClass);
         }
-
-        return convertNestedMapValues(sourceMap, genericType);
+        if (source instanceof EnumSet<?> enumSet) {
+            EnumSet<?> empty = enumSet.clone();
+            empty.clear();
+            return empty;
+        }
+        return EnumSet.noneOf(enumClassOf(source));
     }
 
-    private static Map<Object, Object> convertNestedMapValues(Map<?, ?> sourceMap, Type genericType) {
-        Type nestedType = TypeResolver.getNestedGenericType(genericType, 1);
-        Map<Object, Object> convertedMap = new HashMap<>();
-
-        for (Map.Entry<?, ?> entry : sourceMap.entrySet()) {
-            Object converted = serializingCloneCollectionMap(entry.getValue(), nestedType);
-            convertedMap.put(entry.getKey(), converted);
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static EnumMap<?, ?> newEnumMap(Map<?, ?> source, Class<?> keyClass) {
+        if (keyClass.isEnum()) {
+            return new EnumMap<>((Class<Enum>) keyClass);
         }
-
-        return convertedMap;
+        if (source instanceof EnumMap<?, ?> enumMap) {
+            EnumMap<?, ?> empty = new EnumMap<>(enumMap);
+            empty.clear();
+            return empty;
+        }
+        return new EnumMap<>(enumClassOf(source.keySet()));
     }
 
-    private static Object cloneSimpleMap(Map<?, ?> sourceMap,
-                                          Type genericType,
-                                          Class<?> sourceValueType,
-                                          Class<?> targetValueType) throws ClassNotFoundException {
-        Class<?> effectiveValueType = TypeResolver.resolveEffectiveType(sourceValueType, targetValueType);
-        if (sourceValueType == effectiveValueType) {
-            SerializerAdapter serializer = ObjectCloner.getSerializer();
-            String jsonClone = serializer.serialize(sourceMap);
-            if (effectiveValueType != targetValueType) {
-                Class<?> keyType = getRawType(TypeResolver.getNestedGenericType(genericType, 0));
-                Type concreteType = GsonTypesUtil.getType(getRawType(genericType), keyType, effectiveValueType);
-                return serializer.deserialize(jsonClone, concreteType);
+    /**
+     * Resolves the enum type of an enum set or map whose element type is not declared, from its elements.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Class<Enum> enumClassOf(Collection<?> elements) {
+        for (Object element : elements) {
+            if (element instanceof Enum<?> constant) {
+                return (Class<Enum>) (Class) constant.getDeclaringClass();
             }
-            return serializer.deserialize(jsonClone, genericType);
         }
-
-        return convertMapValues(sourceMap, effectiveValueType);
+        throw new IllegalArgumentException("Cannot resolve the enum type of an undeclared enum set or map");
     }
 
-    private static Map<Object, Object> convertMapValues(Map<?, ?> sourceMap, Class<?> targetValueType) {
-        Map<Object, Object> convertedMap = new HashMap<>();
-
-        for (Map.Entry<?, ?> entry : sourceMap.entrySet()) {
-            Object convertedValue = ObjectFactoryUtil.createFromObject(entry.getValue(), targetValueType);
-            convertedMap.put(entry.getKey(), convertedValue);
-        }
-
-        return convertedMap;
+    private static boolean isAbstract(Class<?> rawType) {
+        return rawType.isInterface() || Modifier.isAbstract(rawType.getModifiers()) || rawType == Object.class;
     }
 }
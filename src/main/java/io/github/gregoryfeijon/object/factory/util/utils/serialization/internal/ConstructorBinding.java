@@ -0,0 +1,178 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.CopyConstructor;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.exception.ErrorMessages;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Constructor through which a destination class is created with its field values as arguments.
+ * <p>
+ * Records bind their canonical constructor to their component fields; other classes bind the
+ * constructor annotated with {@link CopyConstructor}. The binding is resolved once per class and
+ * cached in {@link CopyCache}, with a {@link MethodHandle} spreading an argument array into the
+ * constructor, so creating a copy costs a single constructor invocation.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public final class ConstructorBinding {
+
+    private static final ConstructorBinding NONE = new ConstructorBinding(null, new Field[0], new Class<?>[0]);
+
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final MethodHandle constructor;
+    private final Field[] parameterFields;
+    private final Class<?>[] parameterTypes;
+
+    private ConstructorBinding(MethodHandle constructor, Field[] parameterFields, Class<?>[] parameterTypes) {
+        this.constructor = constructor;
+        this.parameterFields = parameterFields;
+        this.parameterTypes = parameterTypes;
+    }
+
+    /**
+     * Retrieves the cached constructor binding of a destination class.
+     *
+     * @param destClass the destination class
+     * @return the binding, or {@code null} if the class is created through its no-arg constructor
+     * @throws ApiException if the annotated constructor does not match the fields of the class
+     */
+    public static ConstructorBinding of(Class<?> destClass) {
+        ConstructorBinding binding = CopyCache.getOrComputeConstructorBinding(destClass, ConstructorBinding::resolve);
+        return binding == NONE ? null : binding;
+    }
+
+    /**
+     * Returns the number of constructor parameters.
+     *
+     * @return the parameter count
+     */
+    public int parameterCount() {
+        return parameterFields.length;
+    }
+
+    /**
+     * Returns the destination field whose value is passed as a constructor parameter.
+     *
+     * @param parameter the parameter position
+     * @return the bound field
+     */
+    public Field parameterField(int parameter) {
+        return parameterFields[parameter];
+    }
+
+    /**
+     * Returns the declared type of a constructor parameter.
+     *
+     * @param parameter the parameter position
+     * @return the parameter type
+     */
+    public Class<?> parameterType(int parameter) {
+        return parameterTypes[parameter];
+    }
+
+    /**
+     * Invokes the constructor.
+     *
+     * @param arguments one argument per parameter, primitives boxed
+     * @return the new instance
+     */
+    public Object newInstance(Object[] arguments) {
+        try {
+            return (Object) constructor.invokeExact(arguments);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ApiException(ex);
+        }
+    }
+
+    private static ConstructorBinding resolve(Class<?> destClass) {
+        if (destClass.isRecord()) {
+            RecordComponent[] components = destClass.getRecordComponents();
+            Class<?>[] types = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+            String[] names = Arrays.stream(components).map(RecordComponent::getName).toArray(String[]::new);
+            try {
+                return bind(destClass, destClass.getDeclaredConstructor(types), names);
+            } catch (NoSuchMethodException ex) {
+                throw invalid(destClass, "no canonical constructor", ex);
+            }
+        }
+        List<Constructor<?>> annotated = Arrays.stream(destClass.getDeclaredConstructors())
+                .filter(candidate -> candidate.isAnnotationPresent(CopyConstructor.class))
+                .toList();
+        if (annotated.isEmpty()) {
+            return NONE;
+        }
+        if (annotated.size() > 1) {
+            throw invalid(destClass, "more than one constructor is annotated with @CopyConstructor", null);
+        }
+        Constructor<?> constructor = annotated.getFirst();
+        String[] names = constructor.getAnnotation(CopyConstructor.class).value();
+        if (names.length == 0) {
+            names = parameterNames(destClass, constructor);
+        }
+        return bind(destClass, constructor, names);
+    }
+
+    private static String[] parameterNames(Class<?> destClass, Constructor<?> constructor) {
+        Parameter[] parameters = constructor.getParameters();
+        String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            if (!parameters[i].isNamePresent()) {
+                throw invalid(destClass, "parameter names are not compiled in; list the fields in @CopyConstructor", null);
+            }
+            names[i] = parameters[i].getName();
+        }
+        return names;
+    }
+
+    private static ConstructorBinding bind(Class<?> destClass, Constructor<?> constructor, String[] names) {
+        Class<?>[] types = constructor.getParameterTypes();
+        if (names.length != types.length) {
+            throw invalid(destClass, names.length + " field names for " + types.length + " parameters", null);
+        }
+        Field[] fields = new Field[types.length];
+        for (int i = 0; i < types.length; i++) {
+            Field field = ReflectionUtils.findField(destClass, names[i]);
+            if (field == null || !ClassUtils.isAssignable(types[i], field.getType())) {
+                throw invalid(destClass, "parameter " + i + " does not match field '" + names[i] + "'", null);
+            }
+            fields[i] = field;
+        }
+        return new ConstructorBinding(unreflect(destClass, constructor), fields, types);
+    }
+
+    private static MethodHandle unreflect(Class<?> destClass, Constructor<?> constructor) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.privateLookupIn(destClass, MethodHandles.lookup()).unreflectConstructor(constructor);
+        } catch (IllegalAccessException ex) {
+            try {
+                ReflectionUtils.makeAccessible(constructor);
+                handle = MethodHandles.lookup().unreflectConstructor(constructor);
+            } catch (IllegalAccessException | RuntimeException inaccessible) {
+                throw invalid(destClass, "constructor is not accessible", inaccessible);
+            }
+        }
+        return handle.asSpreader(Object[].class, constructor.getParameterCount()).asType(SPREAD_TYPE);
+    }
+
+    private static ApiException invalid(Class<?> destClass, String reason, Exception cause) {
+        return new ApiException(ErrorMessages.COPY_CONSTRUCTOR_INVALID,
+                new IllegalStateException(destClass.getName() + ": " + reason, cause));
+    }
+}
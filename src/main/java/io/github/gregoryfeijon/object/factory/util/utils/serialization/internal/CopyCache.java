@@ -1,27 +1,53 @@
 package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
 
-import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyProjection;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CacheStatistics;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Thread-safe cache for field resolution results.
  * <p>
- * Stores two types of cached data:
+ * Stores sixteen types of cached data:
  * </p>
  * <ul>
  *   <li>Field key maps per class (normalized field name → Field)</li>
  *   <li>Copyable field lists per source-destination class pair</li>
+ *   <li>Compiled {@link CopyPlan}s per source-destination class pair</li>
+ *   <li>Compiled {@link ProjectionPlan}s per projection and source-destination class pair</li>
+ *   <li>{@link FieldAccessor}s per field</li>
+ *   <li>Runtime-generated {@link GeneratedCopier}s per source-destination class pair</li>
+ *   <li>Whether a class supports reflective deep copy</li>
+ *   <li>{@link ConstructorBinding}s (or their absence) per destination class</li>
+ *   <li>No-arg {@link Instantiator}s (or their absence) per class</li>
+ *   <li>{@link ElementStrategy}s per runtime/declared collection element class pair</li>
+ *   <li>Enum constant lookups by string value per enum class</li>
+ *   <li>Enum constant names by ordinal per enum class</li>
+ *   <li>Enum translation tables (indexed by source ordinal) per source-destination enum pair</li>
+ *   <li>Public {@code clone()} handles (or their absence) per JDK value class</li>
+ *   <li>Immutability verdicts per class, stamped with the registry generation they were computed under</li>
+ *   <li>{@link ObjectCopier}s (or their absence) per source-destination class pair</li>
  * </ul>
  * <p>
- * Both caches use {@link ConcurrentHashMap} with atomic {@code computeIfAbsent}
- * operations for thread safety.
+ * All caches are {@link MetadataCache}s: entries are stored on the classes they describe, so they
+ * are released with their class loader, and each cache can be bounded through
+ * {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings#setMetadataCacheMaxEntries(int)},
+ * except the generated and registered copiers.
+ * Hits are lock-free reads; misses compute the value outside any lock and publish it with
+ * {@code putIfAbsent}, so plan building (class loading, hidden class definition) never runs inside
+ * a monitor that would pin a virtual thread's carrier. Racing threads may compute the same entry
+ * twice; the first published value wins.
  * </p>
  *
  * @author gregory.feijon
@@ -29,8 +55,36 @@ import java.util.function.Function;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class CopyCache {
 
-    private static final Map<Class<?>, Map<String, Field>> FIELD_KEY_CACHE = new ConcurrentHashMap<>();
-    private static final Map<ClassPairKey, List<Field>> FIELDS_TO_COPY_CACHE = new ConcurrentHashMap<>();
+    private static final MetadataCache<Map<String, Field>> FIELD_KEY_CACHE = new MetadataCache<>("fieldKeys");
+    private static final MetadataCache<List<Field>> FIELDS_TO_COPY_CACHE = new MetadataCache<>("fieldsToCopy");
+    private static final MetadataCache<CopyPlan> COPY_PLAN_CACHE = new MetadataCache<>("copyPlan");
+    private static final MetadataCache<ProjectionPlan> PROJECTION_PLAN_CACHE = new MetadataCache<>("projectionPlan");
+    private static final MetadataCache<FieldAccessor> ACCESSOR_CACHE = new MetadataCache<>("fieldAccessor");
+    private static final MetadataCache<GeneratedCopier> GENERATED_COPIER_CACHE = new MetadataCache<>("generatedCopier", false);
+    private static final MetadataCache<Boolean> REFLECTIVE_COPY_SUPPORT_CACHE = new MetadataCache<>("reflectiveCopySupport");
+    private static final MetadataCache<ConstructorBinding> CONSTRUCTOR_BINDING_CACHE = new MetadataCache<>("constructorBinding");
+    private static final MetadataCache<Instantiator> INSTANTIATOR_CACHE = new MetadataCache<>("instantiator");
+    private static final MetadataCache<ElementStrategy> ELEMENT_STRATEGY_CACHE = new MetadataCache<>("elementStrategy");
+    private static final MetadataCache<Map<String, Object>> ENUM_LOOKUP_CACHE = new MetadataCache<>("enumLookup");
+    private static final MetadataCache<String[]> ENUM_NAME_CACHE = new MetadataCache<>("enumNames");
+    private static final MetadataCache<Object[]> ENUM_TRANSLATION_CACHE = new MetadataCache<>("enumTranslation");
+    private static final MetadataCache<Optional<MethodHandle>> PUBLIC_CLONE_CACHE = new MetadataCache<>("publicClone");
+    private static final MetadataCache<ImmutabilityVerdict> IMMUTABILITY_CACHE = new MetadataCache<>("immutability");
+    private static final MetadataCache<ObjectCopier<?, ?>> OBJECT_COPIER_CACHE = new MetadataCache<>("objectCopier", false);
+
+    private static final List<CacheStatistics> STATISTICS = List.of(FIELD_KEY_CACHE, FIELDS_TO_COPY_CACHE,
+            COPY_PLAN_CACHE, PROJECTION_PLAN_CACHE, ACCESSOR_CACHE, GENERATED_COPIER_CACHE, REFLECTIVE_COPY_SUPPORT_CACHE,
+            CONSTRUCTOR_BINDING_CACHE, INSTANTIATOR_CACHE, ELEMENT_STRATEGY_CACHE, ENUM_LOOKUP_CACHE, ENUM_NAME_CACHE,
+            ENUM_TRANSLATION_CACHE, PUBLIC_CLONE_CACHE, IMMUTABILITY_CACHE, OBJECT_COPIER_CACHE);
+
+    /**
+     * Returns live statistics of every cache.
+     *
+     * @return an unmodifiable list with one view per cache
+     */
+    public static List<CacheStatistics> statistics() {
+        return STATISTICS;
+    }
 
     /**
      * Retrieves or computes the field key map for a given class.
@@ -41,18 +95,222 @@ public final class CopyCache {
      */
     public static Map<String, Field> getOrComputeFieldKeyMap(Class<?> clazz,
                                                               Function<Class<?>, Map<String, Field>> mappingFunction) {
-        return FIELD_KEY_CACHE.computeIfAbsent(clazz, mappingFunction);
+        return FIELD_KEY_CACHE.getOrCompute(clazz, mappingFunction);
     }
 
     /**
      * Retrieves or computes the list of copyable fields for a class pair.
      *
-     * @param key             the source-destination class pair key
+     * @param sourceClass     the source class of the pair
+     * @param destClass       the destination class of the pair
      * @param mappingFunction the function to compute the list if absent
      * @return the cached or computed list of copyable fields
      */
-    public static List<Field> getOrComputeFieldsToCopy(ClassPairKey key,
-                                                        Function<ClassPairKey, List<Field>> mappingFunction) {
-        return FIELDS_TO_COPY_CACHE.computeIfAbsent(key, mappingFunction);
+    public static List<Field> getOrComputeFieldsToCopy(Class<?> sourceClass, Class<?> destClass,
+                                                        BiFunction<Class<?>, Class<?>, List<Field>> mappingFunction) {
+        return FIELDS_TO_COPY_CACHE.getOrCompute(sourceClass, destClass, mappingFunction);
+    }
+
+    /**
+     * Retrieves or computes the copy plan for a class pair.
+     *
+     * @param sourceClass     the source class of the pair
+     * @param destClass       the destination class of the pair
+     * @param mappingFunction the function to build the plan if absent
+     * @return the cached or computed copy plan
+     */
+    public static CopyPlan getOrComputeCopyPlan(Class<?> sourceClass, Class<?> destClass,
+                                                BiFunction<Class<?>, Class<?>, CopyPlan> mappingFunction) {
+        return COPY_PLAN_CACHE.getOrCompute(sourceClass, destClass, mappingFunction);
+    }
+
+    /**
+     * Retrieves or compiles the plan of a projection for a class pair. Plans of the same pair are kept
+     * together, keyed by projection structure, and each plan counts against the cache bound, so
+     * open-ended projections (e.g. built from request parameters) are evicted like any other entry.
+     *
+     * @param sourceClass the source class of the pair
+     * @param destClass   the destination class of the pair
+     * @param projection  the projection the plan compiles
+     * @param compiler    the function to compile the plan if absent
+     * @return the cached or compiled projection plan
+     */
+    public static ProjectionPlan getOrComputeProjectionPlan(Class<?> sourceClass, Class<?> destClass,
+                                                            CopyProjection projection,
+                                                            Supplier<ProjectionPlan> compiler) {
+        return PROJECTION_PLAN_CACHE.getOrCompute(sourceClass, destClass, projection, key -> compiler.get());
+    }
+
+    /**
+     * Retrieves or computes the accessor for a field. The entry is stored on the field's declaring class.
+     *
+     * @param field           the field to access
+     * @param mappingFunction the function to create the accessor if absent
+     * @return the cached or computed field accessor
+     */
+    public static FieldAccessor getOrComputeAccessor(Field field, Function<Field, FieldAccessor> mappingFunction) {
+        return ACCESSOR_CACHE.getOrCompute(field.getDeclaringClass(), field, mappingFunction);
+    }
+
+    /**
+     * Retrieves or computes the generated copier for a class pair. Generated copiers, and the pairs that
+     * cannot be generated, are never evicted: regenerating one defines a new hidden class, and the
+     * copiers are released with their class loader anyway.
+     *
+     * @param sourceClass     the source class of the pair
+     * @param destClass       the destination class of the pair
+     * @param mappingFunction the function to generate the copier if absent
+     * @return the cached or computed generated copier
+     */
+    public static GeneratedCopier getOrComputeGeneratedCopier(Class<?> sourceClass, Class<?> destClass,
+                                                              BiFunction<Class<?>, Class<?>, GeneratedCopier> mappingFunction) {
+        return GENERATED_COPIER_CACHE.getOrCompute(sourceClass, destClass, mappingFunction);
+    }
+
+    /**
+     * Retrieves or computes whether a class can be deep copied reflectively.
+     *
+     * @param clazz           the class to check
+     * @param mappingFunction the function to compute the verdict if absent
+     * @return the cached or computed verdict
+     */
+    public static boolean getOrComputeReflectiveCopySupport(Class<?> clazz,
+                                                            Function<Class<?>, Boolean> mappingFunction) {
+        return REFLECTIVE_COPY_SUPPORT_CACHE.getOrCompute(clazz, mappingFunction);
+    }
+
+    /**
+     * Retrieves or computes the constructor binding of a destination class.
+     *
+     * @param destClass       the destination class
+     * @param mappingFunction the function to resolve the binding if absent
+     * @return the cached or computed binding
+     */
+    public static ConstructorBinding getOrComputeConstructorBinding(Class<?> destClass,
+                                                                    Function<Class<?>, ConstructorBinding> mappingFunction) {
+        return CONSTRUCTOR_BINDING_CACHE.getOrCompute(destClass, mappingFunction);
+    }
+
+    /**
+     * Retrieves or computes the no-arg instantiator of a class.
+     *
+     * @param clazz           the class to instantiate
+     * @param mappingFunction the function to resolve the instantiator if absent
+     * @return the cached or computed instantiator
+     */
+    public static Instantiator getOrComputeInstantiator(Class<?> clazz,
+                                                        Function<Class<?>, Instantiator> mappingFunction) {
+        return INSTANTIATOR_CACHE.getOrCompute(clazz, mappingFunction);
+    }
+
+    /**
+     * Retrieves or computes the element strategy for a runtime/declared element class pair.
+     *
+     * @param elementClass    the runtime element class
+     * @param declaredClass   the declared element class
+     * @param mappingFunction the function to resolve the strategy if absent
+     * @return the cached or computed element strategy
+     */
+    public static ElementStrategy getOrComputeElementStrategy(Class<?> elementClass, Class<?> declaredClass,
+                                                              BiFunction<Class<?>, Class<?>, ElementStrategy> mappingFunction) {
+        return ELEMENT_STRATEGY_CACHE.getOrCompute(elementClass, declaredClass, mappingFunction);
+    }
+
+    /**
+     * Retrieves or computes the string value → constant lookup for an enum class.
+     *
+     * @param enumClass       the enum class
+     * @param mappingFunction the function to build the lookup if absent
+     * @return the cached or computed lookup
+     */
+    public static Map<String, Object> getOrComputeEnumLookup(Class<?> enumClass,
+                                                             Function<Class<?>, Map<String, Object>> mappingFunction) {
+        return ENUM_LOOKUP_CACHE.getOrCompute(enumClass, mappingFunction);
+    }
+
+    /**
+     * Retrieves or computes the constant names, indexed by ordinal, for an enum class.
+     *
+     * @param enumClass       the enum class
+     * @param mappingFunction the function to build the names if absent
+     * @return the cached or computed names
+     */
+    public static String[] getOrComputeEnumNames(Class<?> enumClass, Function<Class<?>, String[]> mappingFunction) {
+        return ENUM_NAME_CACHE.getOrCompute(enumClass, mappingFunction);
+    }
+
+    /**
+     * Retrieves or computes the translation table, indexed by source ordinal, for an enum pair.
+     *
+     * @param sourceClass     the source enum class
+     * @param destClass       the destination enum class
+     * @param mappingFunction the function to build the table if absent
+     * @return the cached or computed translation table
+     */
+    public static Object[] getOrComputeEnumTranslation(Class<?> sourceClass, Class<?> destClass,
+                                                       BiFunction<Class<?>, Class<?>, Object[]> mappingFunction) {
+        return ENUM_TRANSLATION_CACHE.getOrCompute(sourceClass, destClass, mappingFunction);
+    }
+
+    /**
+     * Retrieves or computes the public {@code clone()} handle of a value class.
+     *
+     * @param clazz           the value class
+     * @param mappingFunction the function to look up the handle if absent
+     * @return the cached or computed handle, empty if the class has no usable public {@code clone()}
+     */
+    public static Optional<MethodHandle> getOrComputePublicClone(Class<?> clazz,
+                                                                 Function<Class<?>, Optional<MethodHandle>> mappingFunction) {
+        return PUBLIC_CLONE_CACHE.getOrCompute(clazz, mappingFunction);
+    }
+
+    /**
+     * Retrieves or computes whether values of a class are immutable. A verdict computed under another
+     * registry generation is recomputed and replaced, so registry changes need no cache sweep.
+     *
+     * @param clazz      the class to check
+     * @param generation the current registry generation
+     * @param analysis   the function to compute the verdict if absent or stale
+     * @return the cached or computed verdict
+     */
+    public static boolean getOrComputeImmutability(Class<?> clazz, long generation, Predicate<Class<?>> analysis) {
+        return IMMUTABILITY_CACHE.getOrRefresh(clazz, verdict -> verdict.generation() == generation,
+                type -> new ImmutabilityVerdict(generation, analysis.test(type))).immutable();
+    }
+
+    /**
+     * Retrieves or resolves the {@link ObjectCopier} of a class pair. Copiers are never evicted, since
+     * registered ones cannot be resolved again and discovered ones rescan the services of their loader.
+     *
+     * @param sourceClass     the source class of the pair
+     * @param destClass       the destination class of the pair
+     * @param mappingFunction the function to resolve the copier, or a marker of its absence, if absent
+     * @return the cached or resolved copier or marker
+     */
+    public static ObjectCopier<?, ?> getOrComputeObjectCopier(Class<?> sourceClass, Class<?> destClass,
+                                                              BiFunction<Class<?>, Class<?>, ObjectCopier<?, ?>> mappingFunction) {
+        return OBJECT_COPIER_CACHE.getOrCompute(sourceClass, destClass, mappingFunction);
+    }
+
+    /**
+     * Caches the copier of a class pair, replacing the one already cached.
+     *
+     * @param copier the copier to cache
+     */
+    public static void putObjectCopier(ObjectCopier<?, ?> copier) {
+        OBJECT_COPIER_CACHE.put(copier.sourceType(), copier.destType(), copier);
+    }
+
+    /**
+     * Removes the copier cached for a class pair, if any.
+     *
+     * @param sourceClass the source class of the pair
+     * @param destClass   the destination class of the pair
+     */
+    public static void removeObjectCopier(Class<?> sourceClass, Class<?> destClass) {
+        OBJECT_COPIER_CACHE.remove(sourceClass, destClass);
+    }
+
+    private record ImmutabilityVerdict(long generation, boolean immutable) {
     }
 }
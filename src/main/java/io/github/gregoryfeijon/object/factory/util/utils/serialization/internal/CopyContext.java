@@ -0,0 +1,263 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Supplier;
+
+/**
+ * Identity map of the copies made during one copy operation (a single object graph or,
+ * optionally, a whole batch).
+ * <p>
+ * Every source object is copied at most once per target type: a second reference to the same
+ * source instance resolves to the copy already made, which preserves aliasing in the copied graph
+ * and stops cycles (e.g. bidirectional JPA relationships) from recursing forever. Copies are
+ * registered before their fields are copied, so back-references to an object still being copied
+ * resolve to the partially filled instance.
+ * </p>
+ * <p>
+ * The active context is bound to the copying thread, because copies nest through public entry
+ * points and generated copiers whose signatures carry no context. Work handed to other threads
+ * (parallel field copying, bulk copy chunks) re-binds it with {@link #runBound(CopyContext, Runnable)},
+ * once the context was {@link #share() shared}.
+ * </p>
+ * <p>
+ * A context costs nothing until a graph actually nests: the first copy is held in fields, the maps
+ * are only created on the first nested registration, and they stay plain hash maps until the
+ * context is shared with other threads.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public final class CopyContext {
+
+    private static final ThreadLocal<CopyContext> CURRENT = new ThreadLocal<>();
+
+    private static final AtomicIntegerFieldUpdater<CopyContext> ACTIVE_FORKS =
+            AtomicIntegerFieldUpdater.newUpdater(CopyContext.class, "activeForks");
+
+    private Object firstSource;
+    private Type firstType;
+    private Object firstCopy;
+    private Map<IdentityKey, Object> copies;
+
+    private Object constructingSource;
+    private Type constructingType;
+    private Set<IdentityKey> constructing;
+
+    private volatile boolean shared;
+
+    private volatile int activeForks;
+
+    private CopyContext() {
+    }
+
+    /**
+     * Returns the context bound to the current thread.
+     *
+     * @return the active context, or {@code null} when no copy is in progress
+     */
+    public static CopyContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs a copy operation inside the context bound to the current thread, opening a new one
+     * (and closing it afterwards) when no copy is in progress.
+     *
+     * @param <R>       the result type
+     * @param operation the copy operation
+     * @return the result of the operation
+     */
+    public static <R> R within(Supplier<R> operation) {
+        if (CURRENT.get() != null) {
+            return operation.get();
+        }
+        CURRENT.set(new CopyContext());
+        try {
+            return operation.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Runs a task with the given context bound to the current thread, restoring the previous
+     * binding afterwards. A context bound on a thread other than its own must have been
+     * {@link #share() shared} first.
+     *
+     * @param context the context to bind, may be {@code null}
+     * @param task    the task to run
+     */
+    public static void runBound(CopyContext context, Runnable task) {
+        CopyContext previous = CURRENT.get();
+        if (previous == context) {
+            task.run();
+            return;
+        }
+        bind(context);
+        try {
+            task.run();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    private static void bind(CopyContext context) {
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+    }
+
+    /**
+     * Prepares the context to be used by several threads at once, switching it to concurrent maps.
+     * Must be called by the thread the context is bound to, before handing it to other threads.
+     */
+    public void share() {
+        if (shared) {
+            return;
+        }
+        copies = copies == null ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(copies);
+        Set<IdentityKey> concurrent = ConcurrentHashMap.newKeySet();
+        if (constructing != null) {
+            concurrent.addAll(constructing);
+        }
+        constructing = concurrent;
+        shared = true;
+    }
+
+    /**
+     * Looks up the copy already made of a source instance for a target type.
+     *
+     * @param source     the source instance
+     * @param targetType the target type of the copy
+     * @return the existing copy, or {@code null} if the instance was not copied yet
+     */
+    public Object lookup(Object source, Type targetType) {
+        if (source == firstSource && targetType.equals(firstType)) {
+            return firstCopy;
+        }
+        Map<IdentityKey, Object> registered = copies;
+        return registered == null ? null : registered.get(new IdentityKey(source, targetType));
+    }
+
+    /**
+     * Registers the copy of a source instance for a target type, unless another copy was
+     * registered first (by a concurrent field copy).
+     *
+     * @param source     the source instance
+     * @param targetType the target type of the copy
+     * @param copy       the copy
+     * @return the copy registered first, or {@code null} if {@code copy} was registered
+     */
+    public Object register(Object source, Type targetType, Object copy) {
+        if (firstSource == null && !shared) {
+            firstSource = source;
+            firstType = targetType;
+            firstCopy = copy;
+            return null;
+        }
+        if (source == firstSource && targetType.equals(firstType)) {
+            return firstCopy;
+        }
+        if (copies == null) {
+            copies = new HashMap<>();
+        }
+        return copies.putIfAbsent(new IdentityKey(source, targetType), copy);
+    }
+
+    /**
+     * Marks a source instance as being copied through a constructor for a target type. Such a copy
+     * only exists once its constructor arguments are copied, so it cannot be registered beforehand.
+     *
+     * @param source     the source instance
+     * @param targetType the target type of the copy
+     * @return {@code false} if the same copy is already under construction (a cycle)
+     */
+    boolean beginConstruction(Object source, Type targetType) {
+        if (constructingSource == null && !shared) {
+            constructingSource = source;
+            constructingType = targetType;
+            return true;
+        }
+        if (source == constructingSource && targetType.equals(constructingType)) {
+            return false;
+        }
+        if (constructing == null) {
+            constructing = new HashSet<>();
+        }
+        return constructing.add(new IdentityKey(source, targetType));
+    }
+
+    /**
+     * Clears the mark set by {@link #beginConstruction(Object, Type)}.
+     *
+     * @param source     the source instance
+     * @param targetType the target type of the copy
+     */
+    void endConstruction(Object source, Type targetType) {
+        if (source == constructingSource && targetType.equals(constructingType)) {
+            constructingSource = null;
+            constructingType = null;
+        } else if (constructing != null) {
+            constructing.remove(new IdentityKey(source, targetType));
+        }
+    }
+
+    /**
+     * Checks whether a parallel field copy of this context is running, in which case nested copies
+     * must stay sequential.
+     *
+     * @return {@code true} while a parallel field copy is in progress
+     */
+    boolean isForking() {
+        return activeForks > 0;
+    }
+
+    /**
+     * Runs a parallel field copy, sharing the context and flagging it as forking while the copy runs.
+     *
+     * @param task the parallel copy
+     */
+    void fork(Runnable task) {
+        share();
+        ACTIVE_FORKS.incrementAndGet(this);
+        try {
+            task.run();
+        } finally {
+            ACTIVE_FORKS.decrementAndGet(this);
+        }
+    }
+
+    /**
+     * Returns the number of distinct copies tracked by this context.
+     *
+     * @return the number of registered copies
+     */
+    public int size() {
+        Map<IdentityKey, Object> registered = copies;
+        return (firstSource != null ? 1 : 0) + (registered == null ? 0 : registered.size());
+    }
+
+    /**
+     * Key comparing the source instance by identity and the target type by equality.
+     */
+    private record IdentityKey(Object source, Type targetType) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey key && key.source == source && key.targetType.equals(targetType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(source) + targetType.hashCode();
+        }
+    }
+}
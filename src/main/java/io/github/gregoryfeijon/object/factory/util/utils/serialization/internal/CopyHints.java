@@ -0,0 +1,114 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+
+import java.io.Serializable;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Registers the native-image hints needed to copy class pairs.
+ * <p>
+ * The {@link CopyPlan} of every pair is built when the hints are registered, i.e. during the Spring
+ * AOT build, and the hints are derived from it, following nested and element pairs the same way as
+ * {@link MetadataWarmer}:
+ * </p>
+ * <ul>
+ *   <li>Declared fields of both classes and their superclasses, accessed through {@code VarHandle}s</li>
+ *   <li>Declared constructors of destination classes and concrete collection/map fields</li>
+ *   <li>Java serialization of serializable wrapper/simple fields, which may be cloned in binary form</li>
+ *   <li>JSON binding of nested fields that cannot be copied field by field</li>
+ *   <li>Enum and array field types, resolved reflectively when converted</li>
+ * </ul>
+ *
+ * @author gregory.feijon
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CopyHints {
+
+    private static final BindingReflectionHintsRegistrar BINDING_HINTS = new BindingReflectionHintsRegistrar();
+
+    /**
+     * Registers the hints of class pairs and of every pair they copy recursively.
+     *
+     * @param hints the runtime hints to contribute to
+     * @param pairs the root (source class, destination class) pairs
+     */
+    public static void register(RuntimeHints hints, Collection<ClassPairKey> pairs) {
+        Set<ClassPairKey> visited = new HashSet<>();
+        Deque<ClassPairKey> pending = new ArrayDeque<>(pairs);
+        while (!pending.isEmpty()) {
+            ClassPairKey pair = pending.poll();
+            if (!visited.add(pair)) {
+                continue;
+            }
+            try {
+                CopyPlan plan = FieldResolver.resolveCopyPlan(pair.sourceClass(), pair.destClass());
+                registerPair(hints, plan);
+                pending.addAll(MetadataWarmer.nestedPairs(plan));
+            } catch (RuntimeException ex) {
+                log.warn("Could not register native hints for {} -> {}: {}",
+                        pair.sourceClass().getName(), pair.destClass().getName(), ex.getMessage());
+            }
+        }
+    }
+
+    private static void registerPair(RuntimeHints hints, CopyPlan plan) {
+        registerFields(hints, plan.getSourceClass());
+        registerFields(hints, plan.getDestClass());
+        hints.reflection().registerType(plan.getDestClass(), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        for (int index = 0; index < plan.size(); index++) {
+            Class<?> sourceType = plan.sourceField(index).getType();
+            Class<?> destType = plan.destField(index).getType();
+            switch (plan.strategy(index)) {
+                case WRAPPER, WRAPPER_TO_PRIMITIVE -> registerSerialization(hints, sourceType);
+                case ENUM, ARRAY -> {
+                    hints.reflection().registerType(sourceType);
+                    hints.reflection().registerType(destType);
+                }
+                case COLLECTION -> registerConstructors(hints, destType);
+                case NESTED -> {
+                    if (!ObjectCloner.canCopyReflectively(destType) && isConcrete(destType)) {
+                        BINDING_HINTS.registerReflectionHints(hints.reflection(), destType);
+                    }
+                }
+                default -> {
+                    // primitives are copied through the field hints alone
+                }
+            }
+        }
+    }
+
+    private static void registerFields(RuntimeHints hints, Class<?> clazz) {
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            hints.reflection().registerType(current, MemberCategory.DECLARED_FIELDS);
+        }
+    }
+
+    private static void registerSerialization(RuntimeHints hints, Class<?> type) {
+        if (Serializable.class.isAssignableFrom(type)) {
+            hints.serialization().registerType(type.asSubclass(Serializable.class));
+        }
+    }
+
+    private static void registerConstructors(RuntimeHints hints, Class<?> type) {
+        if (isConcrete(type)) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+    }
+
+    private static boolean isConcrete(Class<?> type) {
+        return !type.isInterface() && !type.isPrimitive() && !Modifier.isAbstract(type.getModifiers());
+    }
+}
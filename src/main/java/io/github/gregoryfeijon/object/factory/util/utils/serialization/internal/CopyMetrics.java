@@ -0,0 +1,99 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyMetricsListener;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyPath;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Forwards copy events to the installed {@link CopyMetricsListener}.
+ * <p>
+ * Every method reads the listener once and returns immediately when none is installed, so copies
+ * without metrics pay a single volatile read per event and never call {@link System#nanoTime()}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class CopyMetrics {
+
+    private static final MetadataCache<Boolean> FIRST_COPIES = new MetadataCache<>("firstCopies");
+
+    /**
+     * Starts timing an object copy.
+     *
+     * @return the start time, or {@code 0} when no listener is installed
+     */
+    static long start() {
+        return ObjectFactoryUtilSettings.getMetricsListener() != null ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Reports a finished object copy started with {@link #start()}.
+     *
+     * @param sourceClass the class of the source object
+     * @param destClass   the class of the destination object
+     * @param start       the value returned by {@link #start()}
+     */
+    static void copyCompleted(Class<?> sourceClass, Class<?> destClass, long start) {
+        CopyMetricsListener listener = ObjectFactoryUtilSettings.getMetricsListener();
+        if (listener != null && start != 0L) {
+            long nanos = System.nanoTime() - start;
+            listener.copyCompleted(sourceClass, destClass, nanos);
+            if (FIRST_COPIES.putIfAbsent(sourceClass, destClass, Boolean.TRUE)) {
+                listener.firstCopyCompleted(sourceClass, destClass, nanos,
+                        MetadataWarmer.isWarmedUp(sourceClass, destClass));
+            }
+        }
+    }
+
+    /**
+     * Reports the path taken to copy one value.
+     *
+     * @param path the path taken
+     */
+    static void pathTaken(CopyPath path) {
+        CopyMetricsListener listener = ObjectFactoryUtilSettings.getMetricsListener();
+        if (listener != null) {
+            listener.pathTaken(path);
+        }
+    }
+
+    /**
+     * Reports the path of a value copied with a field strategy that decides it on its own. Strategies
+     * delegating to {@link ObjectCloner} are reported there, once the clone path is known.
+     *
+     * @param strategy the strategy applied
+     */
+    static void strategyApplied(CopyStrategy strategy) {
+        CopyMetricsListener listener = ObjectFactoryUtilSettings.getMetricsListener();
+        if (listener == null) {
+            return;
+        }
+        CopyPath path = switch (strategy) {
+            case PRIMITIVE, PRIMITIVE_TO_WRAPPER -> CopyPath.DIRECT;
+            case ENUM -> CopyPath.ENUM_CONVERSION;
+            case ARRAY -> CopyPath.ARRAY_CLONE;
+            case COLLECTION -> CopyPath.COLLECTION_CLONE;
+            case WRAPPER, WRAPPER_TO_PRIMITIVE, NESTED, IGNORED -> null;
+        };
+        if (path != null) {
+            listener.pathTaken(path);
+        }
+    }
+
+    /**
+     * Reports the size of a serialized value.
+     *
+     * @param path  the serializing path
+     * @param type  the class of the serialized value
+     * @param bytes the size of the serialized form
+     */
+    static void serialized(CopyPath path, Class<?> type, long bytes) {
+        CopyMetricsListener listener = ObjectFactoryUtilSettings.getMetricsListener();
+        if (listener != null) {
+            listener.serialized(path, type, bytes);
+        }
+    }
+}
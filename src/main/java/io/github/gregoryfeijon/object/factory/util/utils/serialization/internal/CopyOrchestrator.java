@@ -1,7 +1,7 @@
 package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
 
-import io.github.gregoryfeijon.object.factory.commons.utils.FieldUtil;
 import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyPath;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -9,15 +9,12 @@ import java.lang.reflect.Field;
 import java.util.Objects;
 
 import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.defaultValueFor;
-import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isClassMapCollection;
-import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isPrimitiveOrEnum;
-import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isWrapperType;
 
 /**
  * Central dispatch for verifying and copying field values.
  * <p>
  * Handles type conversion scenarios (wrapper ↔ primitive, enum conversions)
- * and selects the appropriate cloning strategy (direct, serialization, or recursive).
+ * and applies the {@link CopyStrategy} selected for each field (direct, serialization, or recursive).
  * </p>
  *
  * @author gregory.feijon
@@ -25,6 +22,71 @@ import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTyp
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class CopyOrchestrator {
 
+    /**
+     * Copies a single field of a {@link CopyPlan} from the source object into the destination object,
+     * applying the strategy pre-decided for that field.
+     *
+     * @param <S>    the type of the source object
+     * @param <T>    the type of the destination object
+     * @param plan   the compiled copy plan for the source/destination class pair
+     * @param index  the position of the field in the plan
+     * @param source the source object instance
+     * @param dest   the destination object instance
+     */
+    public static <S, T> void copyField(CopyPlan plan, int index, S source, T dest) {
+        FieldAccessor sourceAccessor = plan.sourceAccessor(index);
+        FieldAccessor destAccessor = plan.destAccessor(index);
+        CopyStrategy strategy = plan.strategy(index);
+
+        if (strategy == CopyStrategy.PRIMITIVE && sourceAccessor.getField().getType().isPrimitive()) {
+            sourceAccessor.copyPrimitive(source, dest, destAccessor);
+            CopyMetrics.pathTaken(CopyPath.DIRECT);
+            return;
+        }
+
+        destAccessor.set(dest, fieldValue(plan, index, source));
+    }
+
+    /**
+     * Creates the destination of a {@link CopyPlan} through its {@link ConstructorBinding}: the value of
+     * every bound field is copied first and passed to a single constructor invocation, then the
+     * remaining matched fields are written. Parameters without a matching source field receive
+     * {@code null} or the primitive default.
+     *
+     * @param plan   the compiled copy plan, with a constructor binding
+     * @param source the source object instance
+     * @return the new destination instance
+     */
+    public static Object construct(CopyPlan plan, Object source) {
+        ConstructorBinding constructor = plan.getConstructor();
+        Object[] arguments = new Object[constructor.parameterCount()];
+        for (int parameter = 0; parameter < arguments.length; parameter++) {
+            int index = plan.argumentIndex(parameter);
+            arguments[parameter] = index < 0
+                    ? defaultValueFor(constructor.parameterType(parameter))
+                    : fieldValue(plan, index, source);
+        }
+        Object dest = constructor.newInstance(arguments);
+        for (int ordinal = 0; ordinal < plan.postConstructionCount(); ordinal++) {
+            copyField(plan, plan.postConstructionIndex(ordinal), source, dest);
+        }
+        return dest;
+    }
+
+    /**
+     * Reads, unproxies and copies the value of one field of a {@link CopyPlan}, without writing it.
+     *
+     * @param plan   the compiled copy plan for the source/destination class pair
+     * @param index  the position of the field in the plan
+     * @param source the source object instance
+     * @return the value to write into the destination field
+     */
+    static Object fieldValue(CopyPlan plan, int index, Object source) {
+        FieldAccessor sourceAccessor = plan.sourceAccessor(index);
+        Object sourceValue = HibernateProxyHandler.unproxyValueIfNeeded(sourceAccessor.get(source));
+        return applyStrategy(plan.strategy(index), sourceAccessor.getField(), plan.destField(index), sourceValue);
+    }
+
     /**
      * Verifies and processes the value to be copied, handling special cases where source and
      * destination field types differ.
@@ -36,32 +98,10 @@ public final class CopyOrchestrator {
      * @return the processed value ready to be set in the destination field
      */
     public static <S> Object verifyValue(Field sourceField, Field destField, S source) {
-        Object sourceValue = FieldUtil.getProtectedFieldValue(sourceField, source);
+        Object sourceValue = FieldAccessor.of(sourceField).get(source);
         sourceValue = HibernateProxyHandler.unproxyValueIfNeeded(sourceValue);
-        Class<?> sourceFieldType = sourceField.getType();
-        Class<?> destFieldType = destField.getType();
-
-        if (sourceFieldType == destFieldType) {
-            return copyValue(sourceField, destField, sourceValue);
-        }
-
-        if (isWrapperType(sourceFieldType) && destFieldType.isPrimitive() && sourceValue == null) {
-            return defaultValueFor(destFieldType);
-        }
-
-        if (isWrapperType(destFieldType) && sourceFieldType.isPrimitive() && Objects.equals(sourceValue, defaultValueFor(sourceFieldType))) {
-            return null;
-        }
-
-        if (sourceFieldType.isEnum() || destFieldType.isEnum()) {
-            return EnumConverter.validateEnums(sourceField, destField, sourceValue);
-        }
-
-        if (isClassMapCollection(destFieldType) || isClassMapCollection(sourceFieldType)) {
-            return null;
-        }
-
-        return copyValue(sourceField, destField, sourceValue);
+        CopyStrategy strategy = CopyStrategy.resolve(sourceField.getType(), destField.getType());
+        return applyStrategy(strategy, sourceField, destField, sourceValue);
     }
 
     /**
@@ -73,18 +113,41 @@ public final class CopyOrchestrator {
      * @return the copied value
      */
     static Object copyValue(Field sourceField, Field destField, Object sourceValue) {
-        Class<?> sourceFieldType = sourceField.getType();
+        CopyStrategy strategy = CopyStrategy.resolveValueStrategy(sourceField.getType());
+        return applyStrategy(strategy, sourceField, destField, sourceValue);
+    }
+
+    /**
+     * Applies a pre-decided {@link CopyStrategy} to an already unproxied source value.
+     *
+     * @param strategy    the strategy resolved for the field pair
+     * @param sourceField the field in the source object
+     * @param destField   the corresponding field in the destination object
+     * @param sourceValue the value to copy
+     * @return the processed value ready to be set in the destination field
+     */
+    static Object applyStrategy(CopyStrategy strategy, Field sourceField, Field destField, Object sourceValue) {
         Class<?> destFieldType = destField.getType();
+        CopyMetrics.strategyApplied(strategy);
 
-        if (isPrimitiveOrEnum(sourceFieldType)) {
-            return sourceValue;
-        }
-        if (isWrapperType(sourceFieldType)) {
-            return ObjectCloner.serializingClone(sourceValue, destFieldType);
-        }
-        if (isClassMapCollection(sourceField.getType())) {
-            return CollectionMapCloner.serializingCloneCollectionMap(sourceValue, destField.getGenericType());
-        }
+        return switch (strategy) {
+            case PRIMITIVE -> sourceValue;
+            case WRAPPER -> ObjectCloner.serializingClone(sourceValue, destFieldType);
+            case WRAPPER_TO_PRIMITIVE -> sourceValue == null
+                    ? defaultValueFor(destFieldType)
+                    : ObjectCloner.serializingClone(sourceValue, destFieldType);
+            case PRIMITIVE_TO_WRAPPER -> Objects.equals(sourceValue, defaultValueFor(sourceField.getType()))
+                    ? null
+                    : sourceValue;
+            case ENUM -> EnumConverter.validateEnums(sourceField, destField, sourceValue);
+            case ARRAY -> ArrayCloner.cloneArray(sourceValue, destFieldType);
+            case COLLECTION -> CollectionMapCloner.serializingCloneCollectionMap(sourceValue, destField.getGenericType());
+            case NESTED -> cloneNested(sourceValue, destFieldType);
+            case IGNORED -> null;
+        };
+    }
+
+    private static Object cloneNested(Object sourceValue, Class<?> destFieldType) {
         Class<?> effectiveType = TypeResolver.resolveEffectiveType(sourceValue, destFieldType);
         try {
             return ObjectCloner.serializingCloneObjects(sourceValue, effectiveType);
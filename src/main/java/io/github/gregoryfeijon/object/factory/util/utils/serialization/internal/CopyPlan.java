@@ -0,0 +1,206 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import lombok.Getter;
+
+import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable, pre-compiled description of how to copy one class into another.
+ * <p>
+ * A plan is built once per (source class, destination class) pair and cached in
+ * {@link CopyCache}. It holds flat, index-aligned arrays of the matched source and
+ * destination {@link FieldAccessor}s together with the {@link CopyStrategy} decided for each pair,
+ * so the steady-state copy performs no name matching and no map allocation.
+ * </p>
+ * <p>
+ * When the destination class is created through a {@link ConstructorBinding}, the plan also maps
+ * every constructor parameter to the field position whose value it receives, and lists the matched
+ * fields left to write after construction.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public final class CopyPlan {
+
+    @Getter
+    private final Class<?> sourceClass;
+
+    @Getter
+    private final Class<?> destClass;
+
+    private final FieldAccessor[] sourceAccessors;
+    private final FieldAccessor[] destAccessors;
+    private final CopyStrategy[] strategies;
+    private final int[] costPrefix;
+
+    @Getter
+    private final ConstructorBinding constructor;
+
+    private final int[] argumentIndexes;
+    private final int[] postConstructionIndexes;
+
+    CopyPlan(Class<?> sourceClass, Class<?> destClass, List<FieldAccessor> sourceAccessors,
+             List<FieldAccessor> destAccessors, List<CopyStrategy> strategies, ConstructorBinding constructor) {
+        this.sourceClass = sourceClass;
+        this.destClass = destClass;
+        this.sourceAccessors = sourceAccessors.toArray(new FieldAccessor[0]);
+        this.destAccessors = destAccessors.toArray(new FieldAccessor[0]);
+        this.strategies = strategies.toArray(new CopyStrategy[0]);
+        this.costPrefix = new int[this.strategies.length + 1];
+        for (int i = 0; i < this.strategies.length; i++) {
+            costPrefix[i + 1] = costPrefix[i] + this.strategies[i].cost();
+        }
+        this.constructor = constructor;
+        int parameterCount = constructor != null ? constructor.parameterCount() : 0;
+        this.argumentIndexes = new int[parameterCount];
+        boolean[] bound = new boolean[this.strategies.length];
+        for (int parameter = 0; parameter < parameterCount; parameter++) {
+            argumentIndexes[parameter] = -1;
+            for (int i = 0; i < this.strategies.length; i++) {
+                if (destField(i).equals(constructor.parameterField(parameter))) {
+                    argumentIndexes[parameter] = i;
+                    bound[i] = true;
+                    break;
+                }
+            }
+        }
+        this.postConstructionIndexes = IntStream.range(0, bound.length)
+                .filter(i -> constructor != null && !bound[i])
+                .toArray();
+    }
+
+    /**
+     * Returns the field position whose value a constructor parameter receives.
+     *
+     * @param parameter the constructor parameter position
+     * @return the field position, or {@code -1} if no source field matches the parameter
+     */
+    public int argumentIndex(int parameter) {
+        return argumentIndexes[parameter];
+    }
+
+    /**
+     * Returns the number of matched fields that are not constructor parameters, written after the
+     * destination has been constructed.
+     *
+     * @return the number of post-construction fields; {@code 0} when the destination has no constructor binding
+     */
+    public int postConstructionCount() {
+        return postConstructionIndexes.length;
+    }
+
+    /**
+     * Returns the field position of a post-construction field.
+     *
+     * @param ordinal the post-construction field ordinal, below {@link #postConstructionCount()}
+     * @return the field position
+     */
+    public int postConstructionIndex(int ordinal) {
+        return postConstructionIndexes[ordinal];
+    }
+
+    /**
+     * Returns the number of matched field pairs in this plan.
+     *
+     * @return the number of fields to copy
+     */
+    public int size() {
+        return strategies.length;
+    }
+
+    /**
+     * Checks whether this plan has no fields to copy.
+     *
+     * @return {@code true} if no source field matches a destination field
+     */
+    public boolean isEmpty() {
+        return strategies.length == 0;
+    }
+
+    /**
+     * Returns the estimated cost of copying every field of this plan (see {@link CopyStrategy#cost()}).
+     *
+     * @return the estimated cost of the whole plan
+     */
+    public int estimatedCost() {
+        return costPrefix[strategies.length];
+    }
+
+    /**
+     * Returns the estimated cost of copying the fields in the given position range.
+     *
+     * @param from the first field position, inclusive
+     * @param to   the last field position, exclusive
+     * @return the estimated cost of the range
+     */
+    public int estimatedCost(int from, int to) {
+        return costPrefix[to] - costPrefix[from];
+    }
+
+    /**
+     * Returns the source field at the given position.
+     *
+     * @param index the field position
+     * @return the source field
+     */
+    public Field sourceField(int index) {
+        return sourceAccessors[index].getField();
+    }
+
+    /**
+     * Returns the destination field at the given position.
+     *
+     * @param index the field position
+     * @return the destination field
+     */
+    public Field destField(int index) {
+        return destAccessors[index].getField();
+    }
+
+    /**
+     * Returns the accessor of the source field at the given position.
+     *
+     * @param index the field position
+     * @return the source field accessor
+     */
+    public FieldAccessor sourceAccessor(int index) {
+        return sourceAccessors[index];
+    }
+
+    /**
+     * Returns the accessor of the destination field at the given position.
+     *
+     * @param index the field position
+     * @return the destination field accessor
+     */
+    public FieldAccessor destAccessor(int index) {
+        return destAccessors[index];
+    }
+
+    /**
+     * Returns the pre-decided strategy at the given position.
+     *
+     * @param index the field position
+     * @return the copy strategy
+     */
+    public CopyStrategy strategy(int index) {
+        return strategies[index];
+    }
+
+    /**
+     * Exposes the plan as a source-to-destination field map, preserving plan order.
+     *
+     * @return a new map where the key is the source field and the value is the destination field
+     */
+    public Map<Field, Field> toFieldMap() {
+        Map<Field, Field> fieldMap = LinkedHashMap.newLinkedHashMap(strategies.length);
+        for (int i = 0; i < strategies.length; i++) {
+            fieldMap.put(sourceField(i), destField(i));
+        }
+        return fieldMap;
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.exception.ErrorMessages;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopierRegistry;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Picks how one (source class, destination class) pair is copied and creates destination instances.
+ * <p>
+ * In order of precedence: a build-time copier from {@link ObjectCopierRegistry}, a runtime-generated
+ * copier (when enabled in {@link ObjectFactoryUtilSettings}) and the compiled {@link CopyPlan},
+ * copied by {@link FieldCopyScheduler}. Destinations with a {@link ConstructorBinding} (records and
+ * {@link io.github.gregoryfeijon.object.factory.util.domain.annotation.CopyConstructor} classes) are
+ * created by their plan's constructor instead.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CopyRoutes {
+
+    /**
+     * Copies all fields from a source object to a destination object through the route of their class pair.
+     *
+     * @param source the source object
+     * @param dest   the destination object
+     */
+    public static void copy(Object source, Object dest) {
+        long start = CopyMetrics.start();
+        route(source, dest);
+        CopyMetrics.copyCompleted(source.getClass(), dest.getClass(), start);
+    }
+
+    private static void route(Object source, Object dest) {
+        ObjectCopier<Object, Object> precompiled = ObjectCopierRegistry.find(source.getClass(), dest.getClass());
+        if (precompiled != null) {
+            precompiled.copy(source, dest);
+            return;
+        }
+
+        CopyPlan plan = FieldResolver.resolveCopyPlan(source.getClass(), dest.getClass());
+
+        if (ObjectFactoryUtilSettings.isGeneratedCopiersEnabled()) {
+            GeneratedCopier copier = GeneratedCopierFactory.resolve(plan);
+            if (copier != null) {
+                copier.copy(source, dest);
+                return;
+            }
+        }
+
+        FieldCopyScheduler.copyFields(plan, source, dest);
+    }
+
+    /**
+     * Resolves the route of a class pair once, for callers copying many objects of the same pair.
+     *
+     * @param sourceClass the source class
+     * @param destClass   the destination class
+     * @return a copier applying the resolved route
+     */
+    public static GeneratedCopier resolve(Class<?> sourceClass, Class<?> destClass) {
+        ObjectCopier<Object, Object> precompiled = ObjectCopierRegistry.find(sourceClass, destClass);
+        if (precompiled != null) {
+            return precompiled::copy;
+        }
+
+        CopyPlan plan = FieldResolver.resolveCopyPlan(sourceClass, destClass);
+
+        if (ObjectFactoryUtilSettings.isGeneratedCopiersEnabled()) {
+            GeneratedCopier copier = GeneratedCopierFactory.resolve(plan);
+            if (copier != null) {
+                return copier;
+            }
+        }
+
+        return (source, dest) -> FieldCopyScheduler.copyFields(plan, source, dest);
+    }
+
+    /**
+     * Copies a source object into a new instance of the given type, unless the active {@link CopyContext}
+     * already holds a copy of it. Must be called inside a copy context. Destinations with a
+     * {@link ConstructorBinding} are registered in the context once constructed, so the graph below
+     * them cannot reference them back. Stops with a
+     * {@link java.util.concurrent.CancellationException} when the async copy it belongs to was cancelled.
+     *
+     * @param <T>    the target type
+     * @param source the source object
+     * @param type   the class of the target type
+     * @param route  the resolved route of the class pair, or {@code null} to resolve it
+     * @return the copy
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copyToNewInstance(Object source, Class<T> type, GeneratedCopier route) {
+        AsyncCopier.checkCancelled();
+        CopyContext context = CopyContext.current();
+        Object existing = context.lookup(source, type);
+        if (existing != null) {
+            return (T) existing;
+        }
+        long start = CopyMetrics.start();
+        if (ConstructorBinding.of(type) != null) {
+            return construct(source, type, context, start);
+        }
+        T dest = Instantiator.newInstance(type);
+        Object registered = context.register(source, type, dest);
+        if (registered != null) {
+            return (T) registered;
+        }
+        if (route != null) {
+            route.copy(source, dest);
+        } else {
+            route(source, dest);
+        }
+        CopyMetrics.copyCompleted(source.getClass(), type, start);
+        return dest;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T construct(Object source, Class<T> type, CopyContext context, long start) {
+        if (!context.beginConstruction(source, type)) {
+            throw new ApiException(ErrorMessages.COPY_CONSTRUCTOR_CYCLE);
+        }
+        T dest;
+        try {
+            dest = (T) CopyOrchestrator.construct(FieldResolver.resolveCopyPlan(source.getClass(), type), source);
+        } finally {
+            context.endConstruction(source, type);
+        }
+        Object registered = context.register(source, type, dest);
+        if (registered != null) {
+            return (T) registered;
+        }
+        CopyMetrics.copyCompleted(source.getClass(), type, start);
+        return dest;
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isClassMapCollection;
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isPrimitiveOrEnum;
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isWrapperType;
+
+/**
+ * Pre-decided copy strategy for a matched source/destination field pair.
+ * <p>
+ * The strategy depends only on the declared field types, so it is resolved once
+ * when a {@link CopyPlan} is built and reused for every subsequent copy of the
+ * same class pair.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public enum CopyStrategy {
+
+    /**
+     * Primitive or enum value of the same type, assigned as-is.
+     */
+    PRIMITIVE(1),
+
+    /**
+     * Wrapper or simple type (e.g. {@code Integer}, {@code String}), handled by {@link ObjectCloner}:
+     * immutable values are shared, others are cloned.
+     */
+    WRAPPER(2),
+
+    /**
+     * Wrapper source into a primitive destination; {@code null} becomes the primitive default.
+     */
+    WRAPPER_TO_PRIMITIVE(2),
+
+    /**
+     * Primitive source into a wrapper destination; the primitive default becomes {@code null}.
+     */
+    PRIMITIVE_TO_WRAPPER(1),
+
+    /**
+     * Conversion where at least one side is an enum, handled by {@link EnumConverter}.
+     */
+    ENUM(2),
+
+    /**
+     * Collection or map, deep copied by {@link CollectionMapCloner}.
+     */
+    COLLECTION(32),
+
+    /**
+     * Array on both sides, deep copied (and converted between component types) by {@link ArrayCloner}.
+     */
+    ARRAY(8),
+
+    /**
+     * Any other object, deep copied recursively or via serialization.
+     */
+    NESTED(16),
+
+    /**
+     * Collection/map type mismatch between source and destination; the destination receives {@code null}.
+     */
+    IGNORED(0);
+
+    private final int cost;
+
+    CopyStrategy(int cost) {
+        this.cost = cost;
+    }
+
+    /**
+     * Returns the relative cost estimate of copying one field with this strategy, used to decide
+     * whether a plan is worth copying in parallel. A primitive assignment costs {@code 1}.
+     *
+     * @return the relative cost estimate
+     */
+    public int cost() {
+        return cost;
+    }
+
+    /**
+     * Resolves the strategy for a pair of declared field types.
+     *
+     * @param sourceType the declared type of the source field
+     * @param destType   the declared type of the destination field
+     * @return the strategy to apply when copying between the two fields
+     */
+    public static CopyStrategy resolve(Class<?> sourceType, Class<?> destType) {
+        if (sourceType == destType) {
+            return resolveValueStrategy(sourceType);
+        }
+        if (isWrapperType(sourceType) && destType.isPrimitive()) {
+            return WRAPPER_TO_PRIMITIVE;
+        }
+        if (isWrapperType(destType) && sourceType.isPrimitive()) {
+            return PRIMITIVE_TO_WRAPPER;
+        }
+        if (sourceType.isArray() && destType.isArray()) {
+            return ARRAY;
+        }
+        if (sourceType.isEnum() || destType.isEnum()) {
+            return ENUM;
+        }
+        if (isClassMapCollection(destType) || isClassMapCollection(sourceType)) {
+            return IGNORED;
+        }
+        return resolveValueStrategy(sourceType);
+    }
+
+    /**
+     * Resolves the cloning strategy for a value based solely on the source field type.
+     *
+     * @param sourceType the declared type of the source field
+     * @return one of {@link #PRIMITIVE}, {@link #WRAPPER}, {@link #ARRAY}, {@link #COLLECTION} or {@link #NESTED}
+     */
+    public static CopyStrategy resolveValueStrategy(Class<?> sourceType) {
+        if (isPrimitiveOrEnum(sourceType)) {
+            return PRIMITIVE;
+        }
+        if (isWrapperType(sourceType)) {
+            return WRAPPER;
+        }
+        if (sourceType.isArray()) {
+            return ARRAY;
+        }
+        if (isClassMapCollection(sourceType)) {
+            return COLLECTION;
+        }
+        return NESTED;
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ImmutableTypeRegistry;
+
+/**
+ * Pre-decided way of copying one collection element or map key/value, resolved once per
+ * (runtime element class, declared element class) pair and cached in {@link CopyCache}.
+ *
+ * @param kind       how the element is copied
+ * @param targetType the class the element is copied into
+ * @author gregory.feijon
+ */
+public record ElementStrategy(Kind kind, Class<?> targetType) {
+
+    /**
+     * The element copy operations.
+     */
+    public enum Kind {
+        /**
+         * Immutable element assignable to the declared type: the reference is reused.
+         */
+        SHARE,
+        /**
+         * Enum or {@code String} element stored as a different enum: converted by constant name.
+         */
+        ENUM_CONSTANT,
+        /**
+         * Enum element stored as a {@code String}: converted to the constant name.
+         */
+        ENUM_NAME,
+        /**
+         * Any other element: deep copied (or converted) through {@link ObjectCloner}.
+         */
+        CLONE
+    }
+
+    /**
+     * Resolves the strategy for an element of the given runtime class stored under the given declared type.
+     * <p>
+     * Elements assignable to the declared type keep their runtime class, so heterogeneous collections
+     * (e.g. subclasses in a {@code List<Base>}) are copied per element; other elements are converted
+     * into the declared type.
+     * </p>
+     *
+     * @param elementClass  the runtime class of the element
+     * @param declaredClass the declared element class ({@code Object} for raw or wildcard types)
+     * @return the element strategy
+     */
+    public static ElementStrategy resolve(Class<?> elementClass, Class<?> declaredClass) {
+        boolean enumElement = Enum.class.isAssignableFrom(elementClass);
+        if (declaredClass.isEnum() && !declaredClass.isAssignableFrom(elementClass)
+                && (enumElement || elementClass == String.class)) {
+            return new ElementStrategy(Kind.ENUM_CONSTANT, declaredClass);
+        }
+        if (enumElement && declaredClass == String.class) {
+            return new ElementStrategy(Kind.ENUM_NAME, String.class);
+        }
+        boolean assignable = declaredClass.isAssignableFrom(elementClass);
+        if (assignable && ImmutableTypeRegistry.isImmutable(elementClass)) {
+            return new ElementStrategy(Kind.SHARE, elementClass);
+        }
+        return new ElementStrategy(Kind.CLONE, assignable ? elementClass : declaredClass);
+    }
+
+    /**
+     * Copies a non-null element according to this strategy.
+     *
+     * @param element the element to copy
+     * @return the copied element
+     */
+    public Object apply(Object element) {
+        return switch (kind) {
+            case SHARE -> element;
+            case ENUM_CONSTANT -> element instanceof Enum<?> constant
+                    ? EnumConverter.translate(constant, targetType)
+                    : EnumConverter.findEnumConstantEquivalent(targetType, element);
+            case ENUM_NAME -> EnumConverter.nameOf((Enum<?>) element);
+            case CLONE -> ObjectCloner.serializingCloneObjects(element, targetType);
+        };
+    }
+}
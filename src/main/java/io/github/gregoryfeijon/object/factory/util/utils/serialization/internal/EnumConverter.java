@@ -4,8 +4,9 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.lang.reflect.Field;
-import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Handles enum type conversions during object copy operations.
@@ -17,6 +18,11 @@ import java.util.stream.Stream;
  *   <li>Enum → String: converts to string representation</li>
  *   <li>Enum → Enum: converts between different enum types by matching names</li>
  * </ul>
+ * <p>
+ * Constants are matched by their {@code toString()} value. The lookups are precomputed once per enum
+ * (or enum pair) and cached in {@link CopyCache}: a hash map for String → Enum, an array indexed by
+ * the source ordinal for Enum → Enum and an array of names for Enum → String.
+ * </p>
  *
  * @author gregory.feijon
  */
@@ -39,11 +45,11 @@ public final class EnumConverter {
             if (sourceFieldType.equals(String.class)) {
                 return findEnumConstantEquivalent(destFieldType, sourceValue);
             } else if (sourceFieldType.isEnum() && sourceValue != null) {
-                return findEnumConstantEquivalent(destFieldType, sourceValue.toString());
+                return translate((Enum<?>) sourceValue, destFieldType);
             }
         }
         if (sourceFieldType.isEnum() && (sourceValue != null && destFieldType.equals(String.class))) {
-            return sourceValue.toString();
+            return nameOf((Enum<?>) sourceValue);
         }
         return null;
     }
@@ -56,9 +62,60 @@ public final class EnumConverter {
      * @return the matching enum constant, or null if no match is found
      */
     static Object findEnumConstantEquivalent(Class<?> type, Object sourceValue) {
-        return Stream.of(type.getEnumConstants())
-                .filter(enumConstant -> Objects.equals(enumConstant.toString(), sourceValue))
-                .findFirst()
-                .orElse(null);
+        if (sourceValue == null) {
+            return null;
+        }
+        return CopyCache.getOrComputeEnumLookup(type, EnumConverter::buildLookup).get(sourceValue.toString());
+    }
+
+    /**
+     * Converts an enum constant into the equivalent constant of another enum, through a table
+     * indexed by the source ordinal.
+     *
+     * @param sourceValue the constant to convert
+     * @param destType    the destination enum class
+     * @return the matching destination constant, or null if no match is found
+     */
+    static Object translate(Enum<?> sourceValue, Class<?> destType) {
+        return CopyCache.getOrComputeEnumTranslation(sourceValue.getDeclaringClass(), destType,
+                EnumConverter::buildTranslation)[sourceValue.ordinal()];
+    }
+
+    /**
+     * Returns the string representation of an enum constant, cached per enum class.
+     *
+     * @param value the enum constant
+     * @return the result of {@code value.toString()}
+     */
+    static String nameOf(Enum<?> value) {
+        return CopyCache.getOrComputeEnumNames(value.getDeclaringClass(), EnumConverter::buildNames)[value.ordinal()];
+    }
+
+    private static Map<String, Object> buildLookup(Class<?> type) {
+        Object[] constants = type.getEnumConstants();
+        Map<String, Object> lookup = HashMap.newHashMap(constants.length);
+        for (Object constant : constants) {
+            lookup.putIfAbsent(constant.toString(), constant);
+        }
+        return Collections.unmodifiableMap(lookup);
+    }
+
+    private static Object[] buildTranslation(Class<?> sourceType, Class<?> destType) {
+        Map<String, Object> destLookup = CopyCache.getOrComputeEnumLookup(destType, EnumConverter::buildLookup);
+        Object[] sourceConstants = sourceType.getEnumConstants();
+        Object[] table = new Object[sourceConstants.length];
+        for (int ordinal = 0; ordinal < sourceConstants.length; ordinal++) {
+            table[ordinal] = destLookup.get(sourceConstants[ordinal].toString());
+        }
+        return table;
+    }
+
+    private static String[] buildNames(Class<?> type) {
+        Object[] constants = type.getEnumConstants();
+        String[] names = new String[constants.length];
+        for (int ordinal = 0; ordinal < constants.length; ordinal++) {
+            names[ordinal] = constants[ordinal].toString();
+        }
+        return names;
     }
 }
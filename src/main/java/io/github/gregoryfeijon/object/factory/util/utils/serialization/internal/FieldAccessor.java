@@ -0,0 +1,141 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.FieldUtil;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Fast read/write access to a single field, backed by a {@link VarHandle}.
+ * <p>
+ * The handle is resolved once per field through {@link MethodHandles#privateLookupIn} and
+ * cached in {@link CopyCache}. Primitive fields of the same type can be copied through
+ * {@link #copyPrimitive(Object, Object, FieldAccessor)} without boxing the value.
+ * </p>
+ * <p>
+ * Static fields, final fields and fields whose declaring class cannot be opened to this
+ * library fall back to reflective access through {@link FieldUtil}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Slf4j
+public final class FieldAccessor {
+
+    @Getter
+    private final Field field;
+
+    private final Class<?> type;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final VarHandle handle;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final boolean writable;
+
+    private FieldAccessor(Field field, VarHandle handle) {
+        this.field = field;
+        this.type = field.getType();
+        this.handle = handle;
+        this.writable = handle != null && !Modifier.isFinal(field.getModifiers());
+    }
+
+    /**
+     * Retrieves the cached accessor for a field, resolving its {@link VarHandle} on first use.
+     *
+     * @param field the field to access
+     * @return the cached accessor
+     */
+    public static FieldAccessor of(Field field) {
+        return CopyCache.getOrComputeAccessor(field, FieldAccessor::create);
+    }
+
+    private static FieldAccessor create(Field field) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            return new FieldAccessor(field, null);
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            return new FieldAccessor(field, lookup.unreflectVarHandle(field));
+        } catch (IllegalAccessException | RuntimeException ex) {
+            log.trace("Could not resolve VarHandle for field '{}' of {}. Using reflective access.",
+                    field.getName(), field.getDeclaringClass().getSimpleName());
+            return new FieldAccessor(field, null);
+        }
+    }
+
+    /**
+     * Reads the field value from the target object. Primitive values are boxed.
+     *
+     * @param target the object to read from
+     * @return the field value
+     */
+    public Object get(Object target) {
+        if (handle == null) {
+            return FieldUtil.getProtectedFieldValue(field, target);
+        }
+        return handle.get(target);
+    }
+
+    /**
+     * Writes a value into the field of the target object.
+     *
+     * @param target the object to write to
+     * @param value  the value to assign
+     */
+    public void set(Object target, Object value) {
+        if (!writable || (value == null && type.isPrimitive())) {
+            FieldUtil.setProtectedFieldValue(field, target, value);
+            return;
+        }
+        try {
+            handle.set(target, value);
+        } catch (ClassCastException ex) {
+            FieldUtil.setProtectedFieldValue(field, target, value);
+        }
+    }
+
+    /**
+     * Copies a primitive value from this field of {@code source} into {@code destAccessor}'s
+     * field of {@code dest}, without boxing.
+     * <p>
+     * Both fields must share the same primitive type.
+     * </p>
+     *
+     * @param source       the object to read from
+     * @param dest         the object to write to
+     * @param destAccessor the accessor of the destination field
+     */
+    @SuppressWarnings("java:S3776")
+    public void copyPrimitive(Object source, Object dest, FieldAccessor destAccessor) {
+        if (handle == null || !destAccessor.writable) {
+            destAccessor.set(dest, get(source));
+            return;
+        }
+        VarHandle destHandle = destAccessor.handle;
+        if (type == int.class) {
+            destHandle.set(dest, (int) handle.get(source));
+        } else if (type == long.class) {
+            destHandle.set(dest, (long) handle.get(source));
+        } else if (type == boolean.class) {
+            destHandle.set(dest, (boolean) handle.get(source));
+        } else if (type == double.class) {
+            destHandle.set(dest, (double) handle.get(source));
+        } else if (type == float.class) {
+            destHandle.set(dest, (float) handle.get(source));
+        } else if (type == short.class) {
+            destHandle.set(dest, (short) handle.get(source));
+        } else if (type == byte.class) {
+            destHandle.set(dest, (byte) handle.get(source));
+        } else if (type == char.class) {
+            destHandle.set(dest, (char) handle.get(source));
+        } else {
+            destAccessor.set(dest, get(source));
+        }
+    }
+}
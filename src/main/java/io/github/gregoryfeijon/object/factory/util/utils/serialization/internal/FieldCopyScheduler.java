@@ -0,0 +1,134 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Copies the fields of a {@link CopyPlan} sequentially or in parallel, based on the plan's estimated cost.
+ * <p>
+ * A copy forks only when the plan's {@link CopyPlan#estimatedCost() estimated cost} reaches
+ * {@link ObjectFactoryUtilSettings#getParallelCostThreshold()}. Nested copies started from a parallel
+ * copy, copies already running on a fork/join worker and copies made by a bulk copy chunk stay
+ * sequential so the pool is never oversubscribed. Parallel copies run on
+ * {@link ObjectFactoryUtilSettings#getCopyPool()}, split into tasks of at least {@link #MIN_TASK_COST}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FieldCopyScheduler {
+
+    /**
+     * Minimum estimated cost of a forked task (about two nested objects or one collection);
+     * cheaper field ranges are copied by the task that owns them.
+     */
+    static final int MIN_TASK_COST = 32;
+
+    private static final ThreadLocal<Boolean> SEQUENTIAL = new ThreadLocal<>();
+
+    /**
+     * Copies every field of the plan from the source object into the destination object.
+     *
+     * @param <S>    the type of the source object
+     * @param <T>    the type of the destination object
+     * @param plan   the compiled copy plan for the source/destination class pair
+     * @param source the source object instance
+     * @param dest   the destination object instance
+     */
+    public static <S, T> void copyFields(CopyPlan plan, S source, T dest) {
+        CopyContext context = CopyContext.current();
+        if (!shouldFork(plan, context)) {
+            for (int index = 0; index < plan.size(); index++) {
+                CopyOrchestrator.copyField(plan, index, source, dest);
+            }
+            return;
+        }
+        context.fork(() -> ObjectFactoryUtilSettings.getCopyPool()
+                .invoke(new FieldRangeTask(plan, 0, plan.size(), source, dest, context)));
+    }
+
+    /**
+     * Decides whether a plan is copied in parallel.
+     *
+     * @param plan    the plan to copy
+     * @param context the active copy context
+     * @return {@code true} if the plan is expensive enough and no parallel copy is already running
+     */
+    static boolean shouldFork(CopyPlan plan, CopyContext context) {
+        return plan.size() > 1
+                && plan.estimatedCost() >= ObjectFactoryUtilSettings.getParallelCostThreshold()
+                && context != null
+                && !context.isForking()
+                && mayFork();
+    }
+
+    /**
+     * Checks whether the current thread may start parallel work: it is neither a fork/join worker
+     * nor running a task started through {@link #runSequentially(Runnable)}.
+     *
+     * @return {@code true} if the current thread may fork
+     */
+    public static boolean mayFork() {
+        return SEQUENTIAL.get() == null && !(Thread.currentThread() instanceof ForkJoinWorkerThread);
+    }
+
+    /**
+     * Runs a task that is itself one slice of parallel work (e.g. a bulk copy chunk), so the copies
+     * it makes never fork again.
+     *
+     * @param task the task to run
+     */
+    public static void runSequentially(Runnable task) {
+        if (SEQUENTIAL.get() != null) {
+            task.run();
+            return;
+        }
+        SEQUENTIAL.set(Boolean.TRUE);
+        try {
+            task.run();
+        } finally {
+            SEQUENTIAL.remove();
+        }
+    }
+
+    /**
+     * Copies a range of plan fields, splitting it in halves while both halves are worth a task.
+     */
+    private static final class FieldRangeTask extends RecursiveAction {
+
+        private final transient CopyPlan plan;
+        private final int from;
+        private final int to;
+        private final transient Object source;
+        private final transient Object dest;
+        private final transient CopyContext context;
+
+        FieldRangeTask(CopyPlan plan, int from, int to, Object source, Object dest, CopyContext context) {
+            this.plan = plan;
+            this.from = from;
+            this.to = to;
+            this.source = source;
+            this.dest = dest;
+            this.context = context;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1 && plan.estimatedCost(from, to) >= 2 * MIN_TASK_COST) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new FieldRangeTask(plan, from, middle, source, dest, context),
+                        new FieldRangeTask(plan, middle, to, source, dest, context));
+                return;
+            }
+            CopyContext.runBound(context, () -> {
+                for (int index = from; index < to; index++) {
+                    CopyOrchestrator.copyField(plan, index, source, dest);
+                }
+            });
+        }
+    }
+}
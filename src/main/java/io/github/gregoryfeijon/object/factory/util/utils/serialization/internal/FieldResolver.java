@@ -1,11 +1,9 @@
 package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
 
-import io.github.gregoryfeijon.object.factory.commons.utils.ReflectionUtil;
 import io.github.gregoryfeijon.object.factory.util.domain.annotation.FieldCopyName;
 import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectConstructor;
 import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCopyExclude;
 import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCopyExclusions;
-import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,12 +13,12 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -51,22 +49,53 @@ public final class FieldResolver {
      * @return a map where the key is the source field and the value is the corresponding destination field
      */
     public static <S, T> Map<Field, Field> createSourceDestFieldMaps(S source, T dest) {
-        var sourceFields = getFieldsToCopy(source, dest);
-        var destFields = ReflectionUtil.getFieldsAsCollection(dest, ArrayList::new);
+        return resolveCopyPlan(source.getClass(), dest.getClass()).toFieldMap();
+    }
 
-        if (sourceFields.isEmpty() || destFields.isEmpty()) {
-            return Collections.emptyMap();
-        }
+    /**
+     * Retrieves the cached {@link CopyPlan} for a source/destination class pair,
+     * building it on first use.
+     *
+     * @param sourceClass the class of the source object
+     * @param destClass   the class of the destination object
+     * @return the immutable copy plan for the class pair
+     */
+    public static CopyPlan resolveCopyPlan(Class<?> sourceClass, Class<?> destClass) {
+        return CopyCache.getOrComputeCopyPlan(sourceClass, destClass, FieldResolver::buildCopyPlan);
+    }
 
-        Map<String, Field> sourceFieldMap = buildFieldKeyMap(sourceFields);
-        Map<String, Field> destFieldMap = buildFieldKeyMap(destFields);
+    /**
+     * Builds a copy plan by matching the copyable source fields with the destination fields
+     * through their logical keys and pre-deciding the {@link CopyStrategy} of each pair.
+     *
+     * @param sourceClass the class of the source object
+     * @param destClass   the class of the destination object
+     * @return a new copy plan
+     */
+    static CopyPlan buildCopyPlan(Class<?> sourceClass, Class<?> destClass) {
+        List<Field> sourceFields = getFieldsToCopy(sourceClass, destClass);
+        List<Field> destFields = getDeclaredFieldsHierarchy(destClass);
+        List<FieldAccessor> matchedSource = new ArrayList<>();
+        List<FieldAccessor> matchedDest = new ArrayList<>();
+        List<CopyStrategy> strategies = new ArrayList<>();
 
-        return sourceFieldMap.entrySet().stream()
-                .filter(entry -> destFieldMap.containsKey(entry.getKey()))
-                .collect(Collectors.toMap(
-                        Map.Entry::getValue,
-                        entry -> destFieldMap.get(entry.getKey())
-                ));
+        if (!sourceFields.isEmpty() && !destFields.isEmpty()) {
+            Map<String, Field> sourceFieldMap = buildFieldKeyMap(sourceFields);
+            Map<String, Field> destFieldMap = buildFieldKeyMap(destFields);
+
+            for (Field sourceField : sourceFields) {
+                String fieldKey = resolveFieldKey(sourceField);
+                Field destField = destFieldMap.get(fieldKey);
+                if (destField != null && sourceField.equals(sourceFieldMap.get(fieldKey))) {
+                    matchedSource.add(FieldAccessor.of(sourceField));
+                    matchedDest.add(FieldAccessor.of(destField));
+                    strategies.add(CopyStrategy.resolve(sourceField.getType(), destField.getType()));
+                }
+            }
+        }
+
+        return new CopyPlan(sourceClass, destClass, matchedSource, matchedDest, strategies,
+                ConstructorBinding.of(destClass));
     }
 
     /**
@@ -120,21 +149,31 @@ public final class FieldResolver {
      * @param dest   the destination instance to copy fields to
      * @return a cached or computed list of copyable fields
      */
-    @SuppressWarnings("java:S6204")
     static <T, S> List<Field> getFieldsToCopy(S source, T dest) {
-        ClassPairKey cacheKey = new ClassPairKey(source.getClass(), dest.getClass());
+        return getFieldsToCopy(source.getClass(), dest.getClass());
+    }
 
-        return CopyCache.getOrComputeFieldsToCopy(cacheKey, key -> {
-            List<Field> sourceFields = new ArrayList<>(ReflectionUtil.getFieldsAsCollection(source));
+    /**
+     * Retrieves all fields that should be copied from the source class,
+     * applying caching and exclusion rules.
+     *
+     * @param sourceClass the class to copy fields from
+     * @param destClass   the class to copy fields to
+     * @return a cached or computed list of copyable fields
+     */
+    @SuppressWarnings("java:S6204")
+    static List<Field> getFieldsToCopy(Class<?> sourceClass, Class<?> destClass) {
+        return CopyCache.getOrComputeFieldsToCopy(sourceClass, destClass, (src, dst) -> {
+            List<Field> sourceFields = getDeclaredFieldsHierarchy(src);
             Set<Field> fieldsToRemove = sourceFields.stream()
                     .filter(PREDICATE_MODIFIERS)
                     .collect(Collectors.toSet());
 
-            addAnnotationBasedExclusions(fieldsToRemove, sourceFields, dest, true);
-            addAnnotationBasedExclusions(fieldsToRemove, sourceFields, source, false);
+            addAnnotationBasedExclusions(fieldsToRemove, sourceFields, dst, true);
+            addAnnotationBasedExclusions(fieldsToRemove, sourceFields, src, false);
 
             excludeAnnotatedSourceFields(fieldsToRemove, sourceFields);
-            excludeAnnotatedDestinationFields(fieldsToRemove, sourceFields, dest);
+            excludeAnnotatedDestinationFields(fieldsToRemove, sourceFields, dst);
 
             if (!fieldsToRemove.isEmpty()) {
                 sourceFields.removeAll(fieldsToRemove);
@@ -144,11 +183,33 @@ public final class FieldResolver {
         });
     }
 
+    /**
+     * Collects the non-synthetic fields declared by a class and all of its superclasses,
+     * starting from the class itself.
+     *
+     * @param clazz the class to inspect
+     * @return a new mutable list with the declared fields of the whole hierarchy
+     */
+    static List<Field> getDeclaredFieldsHierarchy(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+
+        while (clazz != null && clazz != Object.class) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (!field.isSynthetic()) {
+                    fields.add(field);
+                }
+            }
+            clazz = clazz.getSuperclass();
+        }
+
+        return fields;
+    }
+
     private static void addAnnotationBasedExclusions(Set<Field> fieldsToRemove,
                                                       List<Field> sourceFields,
-                                                      Object target,
+                                                      Class<?> targetClass,
                                                       boolean includeObjectConstructor) {
-        Set<String> excludeFields = getClassExclusions(target.getClass(), includeObjectConstructor);
+        Set<String> excludeFields = getClassExclusions(targetClass, includeObjectConstructor);
 
         if (!excludeFields.isEmpty()) {
             excludeListedFields(fieldsToRemove, sourceFields, excludeFields.toArray(new String[0]));
@@ -177,10 +238,10 @@ public final class FieldResolver {
                 .forEach(fieldsToRemove::add);
     }
 
-    private static <T> void excludeAnnotatedDestinationFields(Set<Field> fieldsToRemove,
-                                                               List<Field> sourceFields,
-                                                               T dest) {
-        List<Field> destFields = ReflectionUtil.getFieldsAsCollection(dest, ArrayList::new);
+    private static void excludeAnnotatedDestinationFields(Set<Field> fieldsToRemove,
+                                                           List<Field> sourceFields,
+                                                           Class<?> destClass) {
+        List<Field> destFields = getDeclaredFieldsHierarchy(destClass);
 
         Map<String, Field> sourceFieldMap = sourceFields.stream()
                 .collect(Collectors.toMap(
@@ -200,10 +261,15 @@ public final class FieldResolver {
     private static void excludeListedFields(Set<Field> fieldsToRemove,
                                              List<Field> sourceFields,
                                              String[] exclude) {
+        Map<String, Field> sourceFieldMap = sourceFields.stream()
+                .collect(Collectors.toMap(
+                        FieldResolver::resolveFieldKey,
+                        Function.identity(),
+                        (a, b) -> a
+                ));
+
         stream(exclude)
-                .forEach(excludeField -> sourceFields.stream()
-                        .filter(sourceField -> resolveFieldKey(sourceField).equalsIgnoreCase(excludeField))
-                        .findAny()
+                .forEach(excludeField -> Optional.ofNullable(sourceFieldMap.get(excludeField.toLowerCase(Locale.ROOT)))
                         .ifPresentOrElse(fieldsToRemove::add,
                                 () -> log.trace("ObjectCopyExclusions: field '{}' not found in source class. Skipping" +
                                         " exclusion.", excludeField)
@@ -0,0 +1,19 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+/**
+ * Copier for one (source class, destination class) pair, implemented by classes
+ * generated at runtime by {@link GeneratedCopierFactory} and by the routes resolved
+ * once per pair through {@link CopyRoutes#resolve(Class, Class)}.
+ *
+ * @author gregory.feijon
+ */
+public interface GeneratedCopier {
+
+    /**
+     * Copies every field of the pair's copy plan from the source into the destination.
+     *
+     * @param source the source object instance
+     * @param dest   the destination object instance
+     */
+    void copy(Object source, Object dest);
+}
@@ -0,0 +1,219 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.core.NativeDetector;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a dedicated {@link GeneratedCopier} class per (source class, destination class) pair.
+ * <p>
+ * The generated class is a hidden class defined in the source class' package and class loader
+ * (via {@link MethodHandles.Lookup#defineHiddenClassWithClassData}), so it is unloaded together
+ * with that loader. Its {@code copy} method is straight-line code with one statement per field of
+ * the {@link CopyPlan}:
+ * </p>
+ * <ul>
+ *   <li>Same-type primitives, enums and {@code String}s are read and written inline through
+ *       {@code static final} {@link VarHandle}s, so the JIT can treat them as constants</li>
+ *   <li>Every other field calls {@link CopyOrchestrator#copyField(CopyPlan, int, Object, Object)}
+ *       with its constant plan index</li>
+ * </ul>
+ * <p>
+ * Pairs that cannot be generated (e.g. classes that cannot be opened to this library) are
+ * remembered and keep using the plan-based copy. Nothing is generated in a GraalVM native image,
+ * which cannot define classes at runtime.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GeneratedCopierFactory {
+
+    /**
+     * Upper bound on plan size; larger copy methods would exceed the JIT's huge-method limit.
+     */
+    private static final int MAX_GENERATED_FIELDS = 512;
+
+    private static final GeneratedCopier UNAVAILABLE = (source, dest) -> {
+        throw new IllegalStateException("Copier not available");
+    };
+
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String OBJECT_DESC = Type.getDescriptor(Object.class);
+    private static final String VAR_HANDLE = Type.getInternalName(VarHandle.class);
+    private static final String VAR_HANDLE_DESC = Type.getDescriptor(VarHandle.class);
+    private static final String COPY_PLAN_DESC = Type.getDescriptor(CopyPlan.class);
+    private static final String PLAN_FIELD = "PLAN";
+
+    /**
+     * Retrieves the generated copier for a compiled plan, generating it on first use.
+     *
+     * @param plan the compiled copy plan
+     * @return the generated copier, or {@code null} if the pair cannot be generated
+     */
+    public static GeneratedCopier resolve(CopyPlan plan) {
+        GeneratedCopier copier = CopyCache.getOrComputeGeneratedCopier(
+                plan.getSourceClass(), plan.getDestClass(), (sourceClass, destClass) -> generate(plan));
+        return copier == UNAVAILABLE ? null : copier;
+    }
+
+    private static GeneratedCopier generate(CopyPlan plan) {
+        if (plan.size() > MAX_GENERATED_FIELDS || NativeDetector.inNativeImage()) {
+            return UNAVAILABLE;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(plan.getSourceClass(), MethodHandles.lookup());
+            List<Object> classData = new ArrayList<>();
+            byte[] bytecode = buildBytecode(plan, classData);
+            MethodHandles.Lookup hidden = lookup.defineHiddenClassWithClassData(bytecode, List.copyOf(classData), true);
+            return (GeneratedCopier) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (Throwable ex) {
+            if (ex instanceof VirtualMachineError error) {
+                throw error;
+            }
+            log.debug("Could not generate copier for {} -> {}. Using copy plan. Cause: {}",
+                    plan.getSourceClass().getName(), plan.getDestClass().getName(), ex.toString());
+            return UNAVAILABLE;
+        }
+    }
+
+    /**
+     * Checks whether a plan field can be copied inline by the generated class.
+     *
+     * @param plan  the compiled copy plan
+     * @param index the field position
+     * @return {@code true} if the field is a same-type primitive, enum or {@code String} with usable handles
+     */
+    static boolean isInlinable(CopyPlan plan, int index) {
+        FieldAccessor sourceAccessor = plan.sourceAccessor(index);
+        FieldAccessor destAccessor = plan.destAccessor(index);
+        Class<?> type = sourceAccessor.getField().getType();
+        if (type != destAccessor.getField().getType()
+                || sourceAccessor.getHandle() == null || !destAccessor.isWritable()) {
+            return false;
+        }
+        return switch (plan.strategy(index)) {
+            case PRIMITIVE -> true;
+            case WRAPPER -> type == String.class;
+            default -> false;
+        };
+    }
+
+    private static byte[] buildBytecode(CopyPlan plan, List<Object> classData) {
+        String className = Type.getInternalName(plan.getSourceClass()) + "$$ObjectCopier";
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        cw.visit(Opcodes.V21, Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC, className, null, OBJECT,
+                new String[]{Type.getInternalName(GeneratedCopier.class)});
+
+        MethodVisitor copy = cw.visitMethod(Opcodes.ACC_PUBLIC, "copy",
+                "(" + OBJECT_DESC + OBJECT_DESC + ")V", null, null);
+        copy.visitCode();
+        for (int i = 0; i < plan.size(); i++) {
+            if (isInlinable(plan, i)) {
+                String sourceHandle = addHandle(cw, classData, plan.sourceAccessor(i).getHandle());
+                String destHandle = addHandle(cw, classData, plan.destAccessor(i).getHandle());
+                emitInlineCopy(copy, className, sourceHandle, destHandle, plan.sourceField(i).getType());
+            } else {
+                emitPlanCopy(copy, className, i);
+            }
+        }
+        copy.visitInsn(Opcodes.RETURN);
+        copy.visitMaxs(0, 0);
+        copy.visitEnd();
+
+        cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, PLAN_FIELD, COPY_PLAN_DESC, null, null)
+                .visitEnd();
+        classData.add(plan);
+
+        emitStaticInitializer(cw, className, classData);
+        emitConstructor(cw);
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static String addHandle(ClassWriter cw, List<Object> classData, VarHandle handle) {
+        String name = "H" + classData.size();
+        cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, name, VAR_HANDLE_DESC, null, null)
+                .visitEnd();
+        classData.add(handle);
+        return name;
+    }
+
+    /**
+     * Emits {@code DEST.set(dest, (T) SOURCE.get(source))}, using the primitive descriptor when applicable
+     * so primitive values are never boxed.
+     */
+    private static void emitInlineCopy(MethodVisitor mv, String className, String sourceHandle, String destHandle,
+                                       Class<?> type) {
+        String valueDesc = type.isPrimitive() ? Type.getDescriptor(type) : OBJECT_DESC;
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, destHandle, VAR_HANDLE_DESC);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, sourceHandle, VAR_HANDLE_DESC);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, VAR_HANDLE, "get", "(" + OBJECT_DESC + ")" + valueDesc, false);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, VAR_HANDLE, "set", "(" + OBJECT_DESC + valueDesc + ")V", false);
+    }
+
+    /**
+     * Emits {@code CopyOrchestrator.copyField(PLAN, index, source, dest)}.
+     */
+    private static void emitPlanCopy(MethodVisitor mv, String className, int index) {
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, PLAN_FIELD, COPY_PLAN_DESC);
+        mv.visitLdcInsn(index);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(CopyOrchestrator.class), "copyField",
+                "(" + COPY_PLAN_DESC + "I" + OBJECT_DESC + OBJECT_DESC + ")V", false);
+    }
+
+    /**
+     * Emits a {@code <clinit>} that assigns every static field from the class data list, in order:
+     * the {@link VarHandle}s first and the {@link CopyPlan} last.
+     */
+    private static void emitStaticInitializer(ClassWriter cw, String className, List<Object> classData) {
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+        mv.visitCode();
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/invoke/MethodHandles", "lookup",
+                "()Ljava/lang/invoke/MethodHandles$Lookup;", false);
+        mv.visitLdcInsn("_");
+        mv.visitLdcInsn(Type.getType(List.class));
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/invoke/MethodHandles", "classData",
+                "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)" + OBJECT_DESC, false);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, "java/util/List");
+        mv.visitVarInsn(Opcodes.ASTORE, 0);
+        for (int i = 0; i < classData.size(); i++) {
+            boolean plan = i == classData.size() - 1;
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitLdcInsn(i);
+            mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "get", "(I)" + OBJECT_DESC, true);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, plan ? Type.getInternalName(CopyPlan.class) : VAR_HANDLE);
+            mv.visitFieldInsn(Opcodes.PUTSTATIC, className, plan ? PLAN_FIELD : "H" + i,
+                    plan ? COPY_PLAN_DESC : VAR_HANDLE_DESC);
+        }
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void emitConstructor(ClassWriter cw) {
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+}
@@ -97,18 +97,15 @@ public final class HibernateProxyHandler {
                         || HibernateProxyChecker.isHibernateProxy(e.getValue()));
     }
 
-    @SuppressWarnings({"unchecked", "java:S108"})
+    @SuppressWarnings("unchecked")
     static <T> Collection<T> recreateCollection(Collection<T> original, List<T> unproxied) {
-        try {
-            Collection<T> result = original.getClass()
-                    .getDeclaredConstructor()
-                    .newInstance();
+        if (Instantiator.isInstantiable(original.getClass())) {
+            Collection<T> result = Instantiator.newInstance(original.getClass());
             result.addAll(unproxied);
             return result;
-        } catch (Exception e) {
-            log.trace("Could not instantiate exact collection type {}. Using type-based fallback.",
-                    original.getClass().getSimpleName());
         }
+        log.trace("Could not instantiate exact collection type {}. Using type-based fallback.",
+                original.getClass().getSimpleName());
 
         return switch (original) {
             case Set<T> ignored -> new HashSet<>(unproxied);
@@ -118,18 +115,15 @@ public final class HibernateProxyHandler {
         };
     }
 
-    @SuppressWarnings({"unchecked", "java:S108"})
+    @SuppressWarnings("unchecked")
     static <T, S> Map<T, S> recreateMap(Map<T, S> original, Map<T, S> unproxied) {
-        try {
-            Map<T, S> result = original.getClass()
-                    .getDeclaredConstructor()
-                    .newInstance();
+        if (Instantiator.isInstantiable(original.getClass())) {
+            Map<T, S> result = Instantiator.newInstance(original.getClass());
             result.putAll(unproxied);
             return result;
-        } catch (Exception e) {
-            log.trace("Could not instantiate exact map type {}. Using type-based fallback.",
-                    original.getClass().getSimpleName());
         }
+        log.trace("Could not instantiate exact map type {}. Using type-based fallback.",
+                original.getClass().getSimpleName());
 
         return switch (original) {
             case LinkedHashMap<T, S> ignored -> new LinkedHashMap<>(unproxied);
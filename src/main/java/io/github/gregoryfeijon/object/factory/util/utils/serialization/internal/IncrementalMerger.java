@@ -0,0 +1,385 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil;
+import io.github.gregoryfeijon.object.factory.util.domain.model.MergeReport;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ImmutableTypeRegistry;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.getRawType;
+
+/**
+ * Merges a source object into an existing destination, writing only the fields whose value changed.
+ * <p>
+ * Fields are walked through the compiled {@link CopyPlan} of each class pair and compared with the
+ * destination's current values before anything is copied:
+ * </p>
+ * <ul>
+ *   <li>identical references are skipped;</li>
+ *   <li>primitives, wrappers, enums and other scalar values are converted as in a full copy and written
+ *       only when the result differs from the current value;</li>
+ *   <li>nested objects of the destination's current class are merged in place, field by field, so only
+ *       changed subgraphs are visited;</li>
+ *   <li>lists and arrays of the same length are merged element by element by index, and maps with the
+ *       same keys value by value by key; a collection, map or array whose shape changed, or holding an
+ *       element that cannot be merged in place, is replaced by a deep copy.</li>
+ * </ul>
+ * <p>
+ * Values are never compared with their own {@code equals}, which beans may not override and entities
+ * may restrict to an id, except for types {@link ImmutableTypeRegistry} classifies as immutable and
+ * simple JDK value types; everything else is compared field by field through its plan. Every
+ * (source, destination) pair is merged at most once, so cyclic graphs terminate. Must be called inside
+ * a {@link CopyContext}, which the replaced values are copied in.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IncrementalMerger {
+
+    private static final char PATH_SEPARATOR = '.';
+
+    /**
+     * Merges a source object into a destination object.
+     *
+     * @param source the source object
+     * @param dest   the destination object, typically a previous copy of the source
+     * @return the report of the destination fields written
+     */
+    public static MergeReport merge(Object source, Object dest) {
+        long start = CopyMetrics.start();
+        Session session = new Session();
+        merge(source, dest, "", session);
+        CopyMetrics.copyCompleted(source.getClass(), dest.getClass(), start);
+        return new MergeReport(session.changed);
+    }
+
+    private static void merge(Object source, Object dest, String prefix, Session session) {
+        AsyncCopier.checkCancelled();
+        if (!session.merged.add(new IdentityPair(source, dest))) {
+            return;
+        }
+        CopyPlan plan = FieldResolver.resolveCopyPlan(source.getClass(), dest.getClass());
+        for (int index = 0; index < plan.size(); index++) {
+            mergeField(plan, index, source, dest, prefix, session);
+        }
+    }
+
+    private static void mergeField(CopyPlan plan, int index, Object source, Object dest, String prefix,
+                                   Session session) {
+        Object sourceValue = HibernateProxyHandler.unproxyValueIfNeeded(plan.sourceAccessor(index).get(source));
+        Object current = plan.destAccessor(index).get(dest);
+        CopyStrategy strategy = plan.strategy(index);
+        if (sourceValue == current && strategy != CopyStrategy.PRIMITIVE_TO_WRAPPER) {
+            return;
+        }
+        Field destField = plan.destField(index);
+        String path = prefix + destField.getName();
+        if (isStructural(strategy)) {
+            if (mergeValue(sourceValue, current, destField.getGenericType(), path, session)) {
+                return;
+            }
+            plan.destAccessor(index).set(dest, CopyOrchestrator.applyStrategy(strategy, plan.sourceField(index),
+                    destField, sourceValue));
+            session.changed.add(path);
+            return;
+        }
+        Object value = CopyOrchestrator.applyStrategy(strategy, plan.sourceField(index), destField, sourceValue);
+        if (!Objects.equals(value, current)) {
+            plan.destAccessor(index).set(dest, value);
+            session.changed.add(path);
+        }
+    }
+
+    /**
+     * Merges a nested object, collection, map or array into the destination's current value.
+     *
+     * @return {@code true} if the current value was kept, merged in place or already up to date;
+     * {@code false} if it must be replaced by a copy
+     */
+    private static boolean mergeValue(Object sourceValue, Object current, Type declaredType, String path,
+                                      Session session) {
+        if (sourceValue == current) {
+            return true;
+        }
+        if (sourceValue == null || current == null) {
+            return false;
+        }
+        if (isMergeable(sourceValue, current, declaredType)) {
+            merge(sourceValue, current, path + PATH_SEPARATOR, session);
+            return true;
+        }
+        if (sourceValue instanceof List<?> sourceList && current instanceof List<?> currentList) {
+            return mergeList(sourceList, currentList, TypeResolver.getNestedGenericType(declaredType, 0), path,
+                    session);
+        }
+        if (sourceValue instanceof Map<?, ?> sourceMap && current instanceof Map<?, ?> currentMap) {
+            return mergeMap(sourceMap, currentMap, TypeResolver.getNestedGenericType(declaredType, 1), path,
+                    session);
+        }
+        if (sourceValue.getClass().isArray() && current.getClass().isArray()) {
+            return mergeArray(sourceValue, current, componentType(declaredType), path, session);
+        }
+        return isUnchanged(sourceValue, current, declaredType, session);
+    }
+
+    private static boolean mergeList(List<?> source, List<?> current, Type elementType, String path,
+                                     Session session) {
+        int size = source.size();
+        if (size != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!canMergeElement(source.get(i), current.get(i), elementType, session)) {
+                return false;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            mergeElement(source.get(i), current.get(i), elementType, path + '[' + i + ']', session);
+        }
+        return true;
+    }
+
+    private static boolean mergeArray(Object source, Object current, Type componentType, String path,
+                                      Session session) {
+        int length = Array.getLength(source);
+        if (length != Array.getLength(current)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!canMergeElement(Array.get(source, i), Array.get(current, i), componentType, session)) {
+                return false;
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            mergeElement(Array.get(source, i), Array.get(current, i), componentType, path + '[' + i + ']', session);
+        }
+        return true;
+    }
+
+    private static boolean mergeMap(Map<?, ?> source, Map<?, ?> current, Type valueType, String path,
+                                    Session session) {
+        if (source.size() != current.size()) {
+            return false;
+        }
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            if (!current.containsKey(entry.getKey())
+                    || !canMergeElement(entry.getValue(), current.get(entry.getKey()), valueType, session)) {
+                return false;
+            }
+        }
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            mergeElement(entry.getValue(), current.get(entry.getKey()), valueType,
+                    path + '[' + entry.getKey() + ']', session);
+        }
+        return true;
+    }
+
+    /**
+     * Checks, without writing anything, whether an element can stay in its container: it is merged in
+     * place or is already up to date.
+     */
+    private static boolean canMergeElement(Object sourceElement, Object currentElement, Type declaredType,
+                                           Session session) {
+        Object element = HibernateProxyHandler.unproxyValueIfNeeded(sourceElement);
+        return isMergeable(element, currentElement, declaredType)
+                || isUnchanged(element, currentElement, declaredType, session);
+    }
+
+    private static void mergeElement(Object sourceElement, Object currentElement, Type declaredType, String path,
+                                     Session session) {
+        Object element = HibernateProxyHandler.unproxyValueIfNeeded(sourceElement);
+        if (isMergeable(element, currentElement, declaredType)) {
+            merge(element, currentElement, path + PATH_SEPARATOR, session);
+        }
+    }
+
+    /**
+     * Compares a source value with the destination's current value as a copy would see them: immutable
+     * and simple JDK value types by {@code equals}, collections and arrays element by element, maps by
+     * key, and other objects field by field through their {@link CopyPlan}. A pair already being
+     * compared further up the graph is assumed equal, so cycles terminate.
+     */
+    private static boolean isUnchanged(Object sourceValue, Object current, Type declaredType, Session session) {
+        if (sourceValue == current) {
+            return true;
+        }
+        if (sourceValue == null || current == null) {
+            return false;
+        }
+        Class<?> sourceClass = sourceValue.getClass();
+        if (ImmutableTypeRegistry.isImmutable(sourceClass)) {
+            return sourceValue.equals(current);
+        }
+        if (sourceValue instanceof Collection<?> sourceCollection) {
+            return current instanceof Collection<?> currentCollection
+                    && collectionUnchanged(sourceCollection, currentCollection,
+                    TypeResolver.getNestedGenericType(declaredType, 0), session);
+        }
+        if (sourceValue instanceof Map<?, ?> sourceMap) {
+            return current instanceof Map<?, ?> currentMap
+                    && mapUnchanged(sourceMap, currentMap, TypeResolver.getNestedGenericType(declaredType, 1), session);
+        }
+        if (sourceClass.isArray()) {
+            return current.getClass().isArray()
+                    && arrayUnchanged(sourceValue, current, componentType(declaredType), session);
+        }
+        Class<?> copyClass = copyClass(sourceValue, declaredType);
+        if (current.getClass() == copyClass && ObjectCloner.canCopyReflectively(copyClass)) {
+            return fieldsUnchanged(sourceValue, current, session);
+        }
+        return (ReflectionTypeUtil.isSimpleType(sourceClass) || ReflectionTypeUtil.isWrapperType(sourceClass))
+                && sourceValue.equals(current);
+    }
+
+    private static boolean collectionUnchanged(Collection<?> source, Collection<?> current, Type elementType,
+                                               Session session) {
+        if (source.size() != current.size()) {
+            return false;
+        }
+        Iterator<?> currentElements = current.iterator();
+        for (Object element : source) {
+            if (!isUnchanged(HibernateProxyHandler.unproxyValueIfNeeded(element), currentElements.next(),
+                    elementType, session)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean mapUnchanged(Map<?, ?> source, Map<?, ?> current, Type valueType, Session session) {
+        if (source.size() != current.size()) {
+            return false;
+        }
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            if (!current.containsKey(entry.getKey())
+                    || !isUnchanged(HibernateProxyHandler.unproxyValueIfNeeded(entry.getValue()),
+                    current.get(entry.getKey()), valueType, session)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean arrayUnchanged(Object source, Object current, Type componentType, Session session) {
+        int length = Array.getLength(source);
+        if (length != Array.getLength(current)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isUnchanged(HibernateProxyHandler.unproxyValueIfNeeded(Array.get(source, i)),
+                    Array.get(current, i), componentType, session)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean fieldsUnchanged(Object source, Object current, Session session) {
+        IdentityPair pair = new IdentityPair(source, current);
+        if (!session.comparing.add(pair)) {
+            return true;
+        }
+        try {
+            CopyPlan plan = FieldResolver.resolveCopyPlan(source.getClass(), current.getClass());
+            for (int index = 0; index < plan.size(); index++) {
+                if (!fieldUnchanged(plan, index, source, current, session)) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            session.comparing.remove(pair);
+        }
+    }
+
+    private static boolean fieldUnchanged(CopyPlan plan, int index, Object source, Object dest, Session session) {
+        Object sourceValue = HibernateProxyHandler.unproxyValueIfNeeded(plan.sourceAccessor(index).get(source));
+        Object current = plan.destAccessor(index).get(dest);
+        CopyStrategy strategy = plan.strategy(index);
+        Field destField = plan.destField(index);
+        if (isStructural(strategy)) {
+            return isUnchanged(sourceValue, current, destField.getGenericType(), session);
+        }
+        return Objects.equals(
+                CopyOrchestrator.applyStrategy(strategy, plan.sourceField(index), destField, sourceValue), current);
+    }
+
+    /**
+     * Checks whether a nested value can be merged into the destination's current value in place: the
+     * current value exists, has exactly the class a copy would create and is copied field by field.
+     */
+    private static boolean isMergeable(Object sourceValue, Object current, Type declaredType) {
+        if (sourceValue == null || current == null) {
+            return false;
+        }
+        Class<?> effectiveType = copyClass(sourceValue, declaredType);
+        return current.getClass() == effectiveType
+                && !ObjectCloner.isSharedImmutable(sourceValue.getClass(), effectiveType)
+                && ConstructorBinding.of(effectiveType) == null
+                && ObjectCloner.canCopyReflectively(effectiveType);
+    }
+
+    /**
+     * Returns the class a copy of the value would have: the declared type, or the runtime class when the
+     * declared type is abstract, an interface or unknown (e.g. an unbound type variable).
+     */
+    private static Class<?> copyClass(Object value, Type declaredType) {
+        Class<?> declaredClass = getRawType(declaredType);
+        return declaredClass == Object.class
+                ? value.getClass()
+                : TypeResolver.resolveEffectiveType(value, declaredClass);
+    }
+
+    private static Type componentType(Type arrayType) {
+        if (arrayType instanceof GenericArrayType genericArrayType) {
+            return genericArrayType.getGenericComponentType();
+        }
+        Class<?> componentType = getRawType(arrayType).getComponentType();
+        return componentType != null ? componentType : Object.class;
+    }
+
+    private static boolean isStructural(CopyStrategy strategy) {
+        return strategy == CopyStrategy.NESTED || strategy == CopyStrategy.COLLECTION
+                || strategy == CopyStrategy.ARRAY;
+    }
+
+    /**
+     * State of one merge: the paths written and the (source, destination) pairs merged or being compared.
+     */
+    private static final class Session {
+
+        private final List<String> changed = new ArrayList<>();
+        private final Set<IdentityPair> merged = new HashSet<>();
+        private final Set<IdentityPair> comparing = new HashSet<>();
+    }
+
+    /**
+     * Key comparing a (source, destination) pair by identity.
+     */
+    private record IdentityPair(Object source, Object dest) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityPair pair && pair.source == source && pair.dest == dest;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(source) + System.identityHashCode(dest);
+        }
+    }
+}
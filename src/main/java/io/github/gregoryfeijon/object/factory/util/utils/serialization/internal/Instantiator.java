@@ -0,0 +1,124 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import org.springframework.beans.BeanInstantiationException;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+/**
+ * Cached no-arg instantiator of a class.
+ * <p>
+ * The no-arg constructor is looked up once per class and turned into a {@link Supplier} spun by
+ * {@link LambdaMetafactory}, so creating an instance costs about as much as a {@code new} expression.
+ * Constructors the metafactory cannot link (e.g. non-public ones of classes in modules closed to this
+ * library) are invoked through their {@link MethodHandle} instead. Classes without a usable no-arg
+ * constructor are cached as such, so callers probing them through {@link #isInstantiable(Class)} never
+ * pay for a {@link NoSuchMethodException} twice.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public final class Instantiator {
+
+    private static final Instantiator NONE = new Instantiator(null);
+
+    private static final MethodType SUPPLIER_FACTORY = MethodType.methodType(Supplier.class);
+    private static final MethodType SUPPLIER_GET = MethodType.methodType(Object.class);
+
+    private final Supplier<?> supplier;
+
+    private Instantiator(Supplier<?> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Checks whether a class can be created through its no-arg constructor.
+     *
+     * @param type the class to check
+     * @return {@code true} if the class is concrete and declares an accessible no-arg constructor
+     */
+    public static boolean isInstantiable(Class<?> type) {
+        return of(type) != NONE;
+    }
+
+    /**
+     * Creates an instance of a class through its cached no-arg constructor.
+     *
+     * @param type the class to instantiate
+     * @param <T>  the class type
+     * @return the new instance
+     * @throws BeanInstantiationException if the class has no usable no-arg constructor or the constructor fails
+     */
+    public static <T> T newInstance(Class<T> type) {
+        Instantiator instantiator = of(type);
+        if (instantiator == NONE) {
+            throw new BeanInstantiationException(type, "No accessible no-arg constructor found");
+        }
+        try {
+            return type.cast(instantiator.supplier.get());
+        } catch (Exception ex) {
+            throw new BeanInstantiationException(type, "Constructor threw exception", ex);
+        }
+    }
+
+    private static Instantiator of(Class<?> type) {
+        return CopyCache.getOrComputeInstantiator(type, Instantiator::resolve);
+    }
+
+    private static Instantiator resolve(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isInterface() || type.isEnum()
+                || Modifier.isAbstract(type.getModifiers())) {
+            return NONE;
+        }
+        Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException ex) {
+            return NONE;
+        }
+        try {
+            return new Instantiator(supplier(type, constructor));
+        } catch (IllegalAccessException | RuntimeException ex) {
+            return NONE;
+        }
+    }
+
+    private static Supplier<?> supplier(Class<?> type, Constructor<?> constructor) throws IllegalAccessException {
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException ex) {
+            if (!Modifier.isPublic(type.getModifiers()) || !Modifier.isPublic(constructor.getModifiers())) {
+                ReflectionUtils.makeAccessible(constructor);
+                return invoking(MethodHandles.lookup().unreflectConstructor(constructor));
+            }
+            lookup = MethodHandles.lookup();
+        }
+        MethodHandle handle = lookup.unreflectConstructor(constructor);
+        try {
+            return (Supplier<?>) LambdaMetafactory.metafactory(lookup, "get", SUPPLIER_FACTORY, SUPPLIER_GET,
+                    handle, MethodType.methodType(type)).getTarget().invokeExact();
+        } catch (Throwable ex) {
+            return invoking(handle);
+        }
+    }
+
+    private static Supplier<?> invoking(MethodHandle constructor) {
+        MethodHandle generic = constructor.asType(SUPPLIER_GET);
+        return () -> {
+            try {
+                return generic.invokeExact();
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+    }
+}
@@ -0,0 +1,581 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CacheStatistics;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Class-loader-safe cache of reflective metadata, stored on the classes it describes.
+ * <p>
+ * Entries live in a {@link ClassValue} of their owner class, so they become unreachable together
+ * with the owner's class loader (DevTools restarts, plugin loaders, generated proxy subclasses)
+ * instead of pinning it in a static map. Lookups go owner class → entry key without allocating a
+ * composite key. An entry for a (source, destination) class pair is owned by the class whose class
+ * loader is deeper in the loader hierarchy, which is usually the shorter-lived one, so a pair
+ * spanning an application class and a restartable class does not keep the restartable loader alive.
+ * When neither loader is an ancestor of the other (e.g. two sibling plugin loaders), whichever side
+ * owned the entry would pin the other, so the entry is keyed weakly by the destination class and holds
+ * its value weakly: either loader can be collected, at the price of recomputing the value after a
+ * garbage collection that found it unused.
+ * </p>
+ * <p>
+ * When {@link ObjectFactoryUtilSettings#getMetadataCacheMaxEntries()} is positive, each cache keeps at
+ * most about that many entries, evicting with a CLOCK (second-chance) sweep: entries read since the
+ * last sweep survive one more pass, approximating LRU without locking the read path. Evicted entries
+ * are simply recomputed on their next use. Caches created as not evictable ignore the bound. Bounded or not, entries whose owner class, weak key or weak
+ * value was collected are reclaimed through a {@link ReferenceQueue}, so {@link #size()} only counts
+ * entries still cached.
+ * </p>
+ * <p>
+ * Hits and misses are counted only while a metrics listener is installed.
+ * </p>
+ *
+ * @param <V> the type of the cached values
+ * @author gregory.feijon
+ */
+final class MetadataCache<V> implements CacheStatistics {
+
+    /**
+     * Maximum number of dead or recently used entries inspected per eviction, so one insertion never
+     * sweeps the whole cache.
+     */
+    private static final int MAX_SWEEP = 64;
+
+    private final String name;
+
+    private final boolean evictable;
+
+    private final ClassValue<Slots<V>> storage = new ClassValue<>() {
+        @Override
+        protected Slots<V> computeValue(Class<?> type) {
+            return new Slots<>(type.getClassLoader());
+        }
+    };
+
+    /**
+     * Every cached entry, held strongly so its references are enqueued once reclaimed.
+     */
+    private final Set<Entry> tracked = ConcurrentHashMap.newKeySet();
+
+    private final Queue<Entry> clock = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger retiredInClock = new AtomicInteger();
+
+    private final ReferenceQueue<Object> reclaimed = new ReferenceQueue<>();
+
+    /**
+     * The groups of keyed pair values, created on first use.
+     */
+    private final AtomicReference<MetadataCache<Map<Object, Node<V>>>> groups = new AtomicReference<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates an empty cache, bounded by {@link ObjectFactoryUtilSettings#getMetadataCacheMaxEntries()}.
+     *
+     * @param name the name the cache is reported under
+     */
+    MetadataCache(String name) {
+        this(name, true);
+    }
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param name      the name the cache is reported under
+     * @param evictable {@code false} to exempt the entries from the CLOCK bound, for values that are
+     *                  costly to rebuild or cannot be rebuilt; they are still released with their classes
+     */
+    MetadataCache(String name, boolean evictable) {
+        this.name = name;
+        this.evictable = evictable;
+    }
+
+    /**
+     * Returns the value cached for a class, computing it on a miss.
+     *
+     * @param type            the class described by the value
+     * @param mappingFunction computes the value on a miss
+     * @return the cached or computed value
+     */
+    V getOrCompute(Class<?> type, Function<Class<?>, ? extends V> mappingFunction) {
+        Map<Object, Node<V>> entries = storage.get(type).forward;
+        V cached = read(entries, type);
+        return cached != null ? cached : publish(entries, type, mappingFunction.apply(type), false);
+    }
+
+    /**
+     * Returns the value cached for a class, recomputing and replacing it when it is no longer current.
+     *
+     * @param type            the class described by the value
+     * @param current         tells whether a cached value is still current
+     * @param mappingFunction computes the value on a miss or when the cached one is stale
+     * @return the current cached or computed value
+     */
+    V getOrRefresh(Class<?> type, Predicate<? super V> current, Function<Class<?>, ? extends V> mappingFunction) {
+        Map<Object, Node<V>> entries = storage.get(type).forward;
+        Node<V> stale = entries.get(type);
+        V cached = read(entries, type);
+        if (cached != null && current.test(cached)) {
+            return cached;
+        }
+        V value = mappingFunction.apply(type);
+        if (stale != null && value != null && stale.value() == cached && tracked.contains(stale.entry)
+                && entries.replace(type, stale, new Node<>(value, stale.entry, null))) {
+            return value;
+        }
+        return publish(entries, type, value, false);
+    }
+
+    /**
+     * Returns the value cached for a member or other key owned by a class, computing it on a miss.
+     *
+     * @param <K>             the key type
+     * @param owner           the class whose lifetime bounds the entry (e.g. a field's declaring class)
+     * @param key             the key within the owner
+     * @param mappingFunction computes the value on a miss
+     * @return the cached or computed value
+     */
+    <K> V getOrCompute(Class<?> owner, K key, Function<? super K, ? extends V> mappingFunction) {
+        Map<Object, Node<V>> entries = storage.get(owner).forward;
+        V cached = read(entries, key);
+        return cached != null ? cached : publish(entries, key, mappingFunction.apply(key), false);
+    }
+
+    /**
+     * Returns the value cached for a (source, destination) class pair, computing it on a miss.
+     *
+     * @param sourceClass     the source class of the pair
+     * @param destClass       the destination class of the pair
+     * @param mappingFunction computes the value on a miss
+     * @return the cached or computed value
+     */
+    V getOrCompute(Class<?> sourceClass, Class<?> destClass,
+                   BiFunction<Class<?>, Class<?>, ? extends V> mappingFunction) {
+        Slots<V> sourceSlots = storage.get(sourceClass);
+        Map<Object, Node<V>> entries = pairEntries(sourceSlots, storage.get(destClass));
+        Object key = pairKey(entries, sourceSlots, sourceClass, destClass);
+        V cached = read(entries, key);
+        return cached != null
+                ? cached
+                : publish(entries, key, mappingFunction.apply(sourceClass, destClass), entries == sourceSlots.unrelated);
+    }
+
+    /**
+     * Returns the value cached under a key of a (source, destination) class pair, computing it on a miss.
+     * The keyed values of a pair are grouped on the pair's entry, so they are found without a composite
+     * key and released with the pair, and each counts against the bound like any other entry.
+     *
+     * @param <K>             the key type
+     * @param sourceClass     the source class of the pair
+     * @param destClass       the destination class of the pair
+     * @param key             the key within the pair
+     * @param mappingFunction computes the value on a miss
+     * @return the cached or computed value
+     */
+    <K> V getOrCompute(Class<?> sourceClass, Class<?> destClass, K key,
+                       Function<? super K, ? extends V> mappingFunction) {
+        Map<Object, Node<V>> group = groups().getOrCompute(sourceClass, destClass,
+                (source, dest) -> new ConcurrentHashMap<>(4));
+        V cached = read(group, key);
+        return cached != null ? cached : publish(group, key, mappingFunction.apply(key), false);
+    }
+
+    /**
+     * Caches a value for a (source, destination) class pair unless one is already cached.
+     *
+     * @param sourceClass the source class of the pair
+     * @param destClass   the destination class of the pair
+     * @param value       the value to cache
+     * @return {@code true} if the value was cached, {@code false} if the pair already had a value
+     */
+    boolean putIfAbsent(Class<?> sourceClass, Class<?> destClass, V value) {
+        Slots<V> sourceSlots = storage.get(sourceClass);
+        Map<Object, Node<V>> entries = pairEntries(sourceSlots, storage.get(destClass));
+        Object key = pairKey(entries, sourceSlots, sourceClass, destClass);
+        if (read(entries, key) != null) {
+            return false;
+        }
+        return publish(entries, key, value, entries == sourceSlots.unrelated) == value;
+    }
+
+    /**
+     * Caches a value for a (source, destination) class pair, replacing any value already cached. The
+     * value is held strongly even for a pair of unrelated loaders, since it may not be recomputable.
+     *
+     * @param sourceClass the source class of the pair
+     * @param destClass   the destination class of the pair
+     * @param value       the value to cache
+     */
+    void put(Class<?> sourceClass, Class<?> destClass, V value) {
+        Slots<V> sourceSlots = storage.get(sourceClass);
+        Map<Object, Node<V>> entries = pairEntries(sourceSlots, storage.get(destClass));
+        Object key = pairKey(entries, sourceSlots, sourceClass, destClass);
+        do {
+            unmap(entries, key);
+        } while (publish(entries, key, value, false) != value);
+    }
+
+    /**
+     * Removes the value cached for a (source, destination) class pair, if any.
+     *
+     * @param sourceClass the source class of the pair
+     * @param destClass   the destination class of the pair
+     */
+    void remove(Class<?> sourceClass, Class<?> destClass) {
+        Slots<V> sourceSlots = storage.get(sourceClass);
+        Map<Object, Node<V>> entries = pairEntries(sourceSlots, storage.get(destClass));
+        unmap(entries, pairKey(entries, sourceSlots, sourceClass, destClass));
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the approximate number of entries held by this cache.
+     *
+     * @return the number of entries not yet evicted or reclaimed
+     */
+    @Override
+    public int size() {
+        drain();
+        return tracked.size();
+    }
+
+    private V read(Map<Object, Node<V>> entries, Object key) {
+        Node<V> node = entries.get(key);
+        if (ObjectFactoryUtilSettings.getMetricsListener() != null) {
+            (node != null ? hits : misses).increment();
+        }
+        if (node == null) {
+            return null;
+        }
+        if (!node.referenced) {
+            node.referenced = true;
+        }
+        return node.value();
+    }
+
+    private V publish(Map<Object, Node<V>> entries, Object key, V value, boolean weak) {
+        if (value == null) {
+            return null;
+        }
+        drain();
+        Entry entry = new Entry(entries, key, reclaimed);
+        if (key instanceof ClassKey classKey) {
+            classKey.entry = entry;
+        }
+        Node<V> node = new Node<>(value, entry, weak ? reclaimed : null);
+        Node<V> published = entries.putIfAbsent(key, node);
+        while (published != null) {
+            V publishedValue = published.value();
+            if (publishedValue != null) {
+                return publishedValue;
+            }
+            // a weakly held value was collected before its reference was drained
+            if (entries.remove(key, published)) {
+                reclaim(published.entry);
+            }
+            published = entries.putIfAbsent(key, node);
+        }
+        tracked.add(entry);
+        if (evictable) {
+            clock.offer(entry);
+            evict();
+        }
+        return value;
+    }
+
+    private MetadataCache<Map<Object, Node<V>>> groups() {
+        MetadataCache<Map<Object, Node<V>>> current = groups.get();
+        if (current == null) {
+            groups.compareAndSet(null, new MetadataCache<>(name, evictable));
+            current = groups.get();
+        }
+        return current;
+    }
+
+    private void unmap(Map<Object, Node<V>> entries, Object key) {
+        Node<V> removed = entries.remove(key);
+        if (removed != null) {
+            reclaim(removed.entry);
+        }
+    }
+
+    /**
+     * Selects the entries owning a pair: those of the class whose loader is deeper in the hierarchy,
+     * or the weakly keyed entries of the source class when the loaders are unrelated.
+     */
+    private static <V> Map<Object, Node<V>> pairEntries(Slots<V> sourceSlots, Slots<V> destSlots) {
+        if (!sourceSlots.isRelatedTo(destSlots)) {
+            return sourceSlots.unrelated;
+        }
+        return destSlots.loaderDepth > sourceSlots.loaderDepth ? destSlots.reverse : sourceSlots.forward;
+    }
+
+    private Object pairKey(Map<Object, Node<V>> entries, Slots<V> sourceSlots, Class<?> sourceClass,
+                           Class<?> destClass) {
+        if (entries == sourceSlots.unrelated) {
+            return new ClassKey(destClass, reclaimed);
+        }
+        return entries == sourceSlots.forward ? destClass : sourceClass;
+    }
+
+    /**
+     * Retires the entries whose owner class, weak key or weakly held value was collected.
+     */
+    private void drain() {
+        for (Reference<?> reference = reclaimed.poll(); reference != null; reference = reclaimed.poll()) {
+            if (reference instanceof Reclaimable reclaimable && reclaimable.entry() != null) {
+                reclaim(reclaimable.entry());
+            }
+        }
+    }
+
+    /**
+     * Retires an entry still queued for the CLOCK sweep. Once retired entries outnumber the live ones,
+     * they are purged from the queue in one pass, so the queue stays proportional to the cache even
+     * when no sweep runs (an unbounded cache, or a bounded one below its bound).
+     */
+    private void reclaim(Entry entry) {
+        if (retire(entry) && evictable && retiredInClock.incrementAndGet() > Math.max(tracked.size(), MAX_SWEEP)) {
+            retiredInClock.set(0);
+            clock.removeIf(queued -> !tracked.contains(queued));
+        }
+    }
+
+    private boolean retire(Entry entry) {
+        if (!tracked.remove(entry)) {
+            return false;
+        }
+        entry.unlink();
+        return true;
+    }
+
+    /**
+     * Evicts entries not read since they were last inspected while the cache is bounded and full.
+     */
+    private void evict() {
+        int maxEntries = ObjectFactoryUtilSettings.getMetadataCacheMaxEntries();
+        for (int inspected = 0; inspected < MAX_SWEEP && maxEntries > 0 && tracked.size() > maxEntries; inspected++) {
+            Entry entry = clock.poll();
+            if (entry == null) {
+                return;
+            }
+            if (!tracked.contains(entry)) {
+                retiredInClock.decrementAndGet();
+            } else if (entry.secondChance()) {
+                clock.offer(entry);
+            } else {
+                retire(entry);
+            }
+        }
+    }
+
+    private static int loaderDepth(ClassLoader classLoader) {
+        int depth = 0;
+        for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+            depth++;
+        }
+        return depth;
+    }
+
+    private static boolean isAncestor(ClassLoader ancestor, ClassLoader classLoader) {
+        if (ancestor == null) {
+            return true;
+        }
+        for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+            if (loader == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Entries owned by one class: keyed by the destination class (or member) when the class is the
+     * source of a pair, by the source class when it owns a pair as the destination, and by a
+     * {@link ClassKey} of the destination class when the pair's loaders are unrelated.
+     */
+    private static final class Slots<V> {
+
+        private final ClassLoader loader;
+        private final int loaderDepth;
+        private final Map<Object, Node<V>> forward = new ConcurrentHashMap<>(4);
+        private final Map<Object, Node<V>> reverse = new ConcurrentHashMap<>(4);
+        private final Map<Object, Node<V>> unrelated = new ConcurrentHashMap<>(2);
+
+        Slots(ClassLoader loader) {
+            this.loader = loader;
+            this.loaderDepth = loaderDepth(loader);
+        }
+
+        boolean isRelatedTo(Slots<?> other) {
+            return loader == other.loader || isAncestor(loader, other.loader) || isAncestor(other.loader, loader);
+        }
+    }
+
+    /**
+     * A reference whose clearing retires a cache entry.
+     */
+    private interface Reclaimable {
+
+        Entry entry();
+    }
+
+    /**
+     * A cached value, held strongly or (for pairs of unrelated loaders) weakly, and its CLOCK
+     * reference bit.
+     */
+    private static final class Node<V> {
+
+        private final V value;
+        private final ValueReference<V> weakValue;
+        private final Entry entry;
+        private volatile boolean referenced;
+
+        // a null queue holds the value strongly
+        Node(V value, Entry entry, ReferenceQueue<Object> queue) {
+            this.value = queue == null ? value : null;
+            this.weakValue = queue == null ? null : new ValueReference<>(value, queue, entry);
+            this.entry = entry;
+        }
+
+        V value() {
+            return weakValue != null ? weakValue.get() : value;
+        }
+    }
+
+    private static final class ValueReference<V> extends WeakReference<V> implements Reclaimable {
+
+        private final Entry entry;
+
+        ValueReference(V value, ReferenceQueue<Object> queue, Entry entry) {
+            super(value, queue);
+            this.entry = entry;
+        }
+
+        @Override
+        public Entry entry() {
+            return entry;
+        }
+    }
+
+    /**
+     * Weak key of a class, compared by identity while the class is alive.
+     */
+    private static final class ClassKey extends WeakReference<Class<?>> implements Reclaimable {
+
+        private final int hash;
+        private volatile Entry entry;
+
+        ClassKey(Class<?> type, ReferenceQueue<Object> queue) {
+            super(type, queue);
+            this.hash = System.identityHashCode(type);
+        }
+
+        @Override
+        public Entry entry() {
+            return entry;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            Class<?> type = get();
+            return type != null && other instanceof ClassKey key && key.get() == type;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A cached entry: weak references to the map of its owner class and to its key, so neither the
+     * entry set nor the CLOCK queue keeps an owner class (or its loader) alive. The entry is enqueued
+     * once the map, and with it the owner class, is collected.
+     */
+    private static final class Entry extends WeakReference<Map<Object, ?>> implements Reclaimable {
+
+        private final WeakReference<Object> key;
+
+        Entry(Map<Object, ?> entries, Object key, ReferenceQueue<Object> queue) {
+            super(entries, queue);
+            this.key = new WeakReference<>(key);
+        }
+
+        @Override
+        public Entry entry() {
+            return this;
+        }
+
+        /**
+         * Returns the node this entry tracks, if it is still mapped.
+         */
+        Node<?> node() {
+            Map<Object, ?> map = get();
+            Object entryKey = key.get();
+            if (map == null || entryKey == null) {
+                return null;
+            }
+            return map.get(entryKey) instanceof Node<?> node && node.entry == this ? node : null;
+        }
+
+        /**
+         * Removes the mapping this entry tracks, if it is still mapped.
+         */
+        void unlink() {
+            Map<Object, ?> map = get();
+            Object entryKey = key.get();
+            if (map != null && entryKey != null && map.get(entryKey) instanceof Node<?> node && node.entry == this) {
+                map.remove(entryKey, node);
+            }
+        }
+
+        /**
+         * Clears the reference bit of a recently read entry.
+         *
+         * @return {@code true} if the entry was read since its last inspection and is kept for another pass
+         */
+        boolean secondChance() {
+            Node<?> node = node();
+            if (node != null && node.referenced) {
+                node.referenced = false;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopierRegistry;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds the copy metadata of class pairs ahead of their first copy.
+ * <p>
+ * Warming a pair resolves its {@link CopyPlan} (field scan, exclusion annotations, accessors), its
+ * generated copier when enabled, and then the pairs of its nested objects and collection elements,
+ * as far as their declared types allow. Root pairs are warmed concurrently; a pair that cannot be
+ * warmed is logged and skipped, and is simply built on its first copy as usual.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetadataWarmer {
+
+    private static final MetadataCache<Boolean> WARMED_UP = new MetadataCache<>("warmedUp");
+
+    /**
+     * Warms up class pairs on an executor.
+     *
+     * @param pairs    the root (source class, destination class) pairs
+     * @param executor the executor root pairs are warmed on
+     * @return a future completed with the number of pairs warmed, nested pairs included
+     */
+    public static CompletableFuture<Integer> warmUp(Collection<ClassPairKey> pairs, Executor executor) {
+        Set<ClassPairKey> visited = ConcurrentHashMap.newKeySet();
+        AtomicInteger warmed = new AtomicInteger();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(pairs.size());
+        for (ClassPairKey pair : pairs) {
+            tasks.add(CompletableFuture.runAsync(() -> warmUp(pair, visited, warmed), executor));
+        }
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                .thenApply(done -> warmed.get());
+    }
+
+    /**
+     * Checks whether the metadata of a class pair was built by a warm-up.
+     *
+     * @param sourceClass the source class
+     * @param destClass   the destination class
+     * @return {@code true} if the pair was warmed up
+     */
+    static boolean isWarmedUp(Class<?> sourceClass, Class<?> destClass) {
+        return WARMED_UP.getOrCompute(sourceClass, destClass, (source, dest) -> null) != null;
+    }
+
+    private static void warmUp(ClassPairKey pair, Set<ClassPairKey> visited, AtomicInteger warmed) {
+        if (!visited.add(pair)) {
+            return;
+        }
+        try {
+            if (ObjectCopierRegistry.find(pair.sourceClass(), pair.destClass()) == null) {
+                CopyPlan plan = FieldResolver.resolveCopyPlan(pair.sourceClass(), pair.destClass());
+                if (ObjectFactoryUtilSettings.isGeneratedCopiersEnabled()) {
+                    GeneratedCopierFactory.resolve(plan);
+                }
+                for (ClassPairKey nested : nestedPairs(plan)) {
+                    warmUp(nested, visited, warmed);
+                }
+            }
+            WARMED_UP.putIfAbsent(pair.sourceClass(), pair.destClass(), Boolean.TRUE);
+            warmed.incrementAndGet();
+        } catch (RuntimeException ex) {
+            log.warn("Could not warm up copy metadata for {} -> {}: {}",
+                    pair.sourceClass().getName(), pair.destClass().getName(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Lists the class pairs a plan copies recursively: its nested objects and the elements of its
+     * collections and maps, as far as their declared types are concrete and copied field by field.
+     *
+     * @param plan the compiled copy plan
+     * @return the nested (source class, destination class) pairs
+     */
+    static List<ClassPairKey> nestedPairs(CopyPlan plan) {
+        List<ClassPairKey> nested = new ArrayList<>();
+        for (int index = 0; index < plan.size(); index++) {
+            Field sourceField = plan.sourceField(index);
+            Field destField = plan.destField(index);
+            switch (plan.strategy(index)) {
+                case NESTED -> addIfCopyable(nested, sourceField.getType(), destField.getType());
+                case COLLECTION -> addIfCopyable(nested, elementClass(sourceField), elementClass(destField));
+                default -> {
+                    // values of the other strategies carry no class pair metadata
+                }
+            }
+        }
+        return nested;
+    }
+
+    private static void addIfCopyable(List<ClassPairKey> nested, Class<?> sourceClass, Class<?> destClass) {
+        if (sourceClass != null && destClass != null && !Modifier.isAbstract(sourceClass.getModifiers())
+                && ObjectCloner.canCopyReflectively(destClass)) {
+            nested.add(new ClassPairKey(sourceClass, destClass));
+        }
+    }
+
+    private static Class<?> elementClass(Field field) {
+        ResolvableType type = ResolvableType.forField(field);
+        if (Map.class.isAssignableFrom(field.getType())) {
+            return type.asMap().resolveGeneric(1);
+        }
+        return type.asCollection().resolveGeneric(0);
+    }
+}
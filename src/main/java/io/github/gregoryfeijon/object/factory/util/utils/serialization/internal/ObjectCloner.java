@@ -1,13 +1,27 @@
 package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
 
 import io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.exception.ErrorMessages;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ImmutableTypeRegistry;
 import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
-import io.github.gregoryfeijon.serializer.provider.util.serialization.SerializationUtil;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyPath;
 import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerAdapter;
 import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerProvider;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.springframework.util.SerializationUtils;
+import org.springframework.core.ConfigurableObjectInputStream;
+import org.springframework.util.FastByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
 
 /**
  * Handles object cloning via binary and JSON serialization strategies.
@@ -16,10 +30,22 @@ import org.springframework.util.SerializationUtils;
  * between source and destination types:
  * </p>
  * <ul>
- *   <li>Simple/wrapper types: Java binary serialization</li>
- *   <li>Same type (deep clone): JSON serialization</li>
+ *   <li>Immutable types (see {@link ImmutableTypeRegistry}): shared by reference</li>
+ *   <li>Other simple/wrapper types: their public {@code clone()} when they are {@link Cloneable}
+ *       (e.g. {@code Date}, {@code Calendar}), otherwise Java binary serialization</li>
+ *   <li>Arrays: copied by {@link ArrayCloner}</li>
+ *   <li>Same type (deep clone): Recursive reflective copy through the cached {@link CopyPlan}</li>
  *   <li>Different types (conversion): Recursive {@link ObjectFactoryUtil#createFromObject}</li>
  * </ul>
+ * <p>
+ * JSON serialization is only used as a fallback for same-type values the reflective copy cannot
+ * handle (JDK types, collections and maps, abstract classes, and classes with neither a no-arg
+ * constructor nor a {@link ConstructorBinding}) and for types registered through {@link ObjectFactoryUtilSettings#addJsonCopiedType(Class)}.
+ * </p>
+ * <p>
+ * Inside a copy operation, every value is cloned once per target type: repeated references to the
+ * same instance resolve to the first copy through the active {@link CopyContext}.
+ * </p>
  *
  * @author gregory.feijon
  */
@@ -52,6 +78,33 @@ public final class ObjectCloner {
         }
         Class<?> sourceClass = sourceValue.getClass();
 
+        if (isSharedImmutable(sourceClass, clazz)) {
+            CopyMetrics.pathTaken(CopyPath.DIRECT);
+            return sourceValue;
+        }
+
+        CopyContext context = CopyContext.current();
+        if (context == null) {
+            return cloneValue(sourceValue, sourceClass, clazz);
+        }
+        Object existing = context.lookup(sourceValue, clazz);
+        if (existing != null) {
+            return existing;
+        }
+        Object copy = cloneValue(sourceValue, sourceClass, clazz);
+        if (copy == null) {
+            return null;
+        }
+        Object registered = context.register(sourceValue, clazz, copy);
+        return registered != null ? registered : copy;
+    }
+
+    private static Object cloneValue(Object sourceValue, Class<?> sourceClass, Class<?> clazz) {
+        if (sourceClass.isArray()) {
+            CopyMetrics.pathTaken(CopyPath.ARRAY_CLONE);
+            return ArrayCloner.copyArray(sourceValue, clazz.isArray() ? clazz : sourceClass);
+        }
+
         if (ReflectionTypeUtil.isSimpleType(clazz)) {
             return cloneToBinaryFormat(sourceValue);
         }
@@ -60,22 +113,117 @@ public final class ObjectCloner {
             return cloneToBinaryFormat(sourceValue);
         }
 
-        if (sourceClass == clazz) {
+        if (sourceClass == clazz && !canCopyReflectively(clazz)) {
             return cloneToJsonFormat(sourceValue, clazz);
         }
 
+        CopyMetrics.pathTaken(CopyPath.NESTED_COPY);
         return ObjectFactoryUtil.createFromObject(sourceValue, clazz);
     }
 
     /**
-     * Clones an object using Java binary serialization.
+     * Checks whether a value can be returned by reference: its class is registered in
+     * {@link ImmutableTypeRegistry} and the copy would otherwise keep the same class
+     * (binary clone or same-type deep copy).
+     *
+     * @param sourceClass the runtime class of the value
+     * @param clazz       the target class type
+     * @return {@code true} if the value can be shared instead of copied
+     */
+    static boolean isSharedImmutable(Class<?> sourceClass, Class<?> clazz) {
+        boolean keepsClass = sourceClass == clazz
+                || ReflectionTypeUtil.isSimpleType(clazz)
+                || ReflectionTypeUtil.isWrapperType(sourceClass);
+        return keepsClass && ImmutableTypeRegistry.isImmutable(sourceClass);
+    }
+
+    /**
+     * Checks whether a value of the given class can be deep copied field by field instead of via JSON.
+     *
+     * @param clazz the runtime class of the value
+     * @return {@code true} if the reflective copy supports the class
+     */
+    static boolean canCopyReflectively(Class<?> clazz) {
+        return !ObjectFactoryUtilSettings.isJsonCopiedType(clazz)
+                && CopyCache.getOrComputeReflectiveCopySupport(clazz, ObjectCloner::supportsReflectiveCopy);
+    }
+
+    private static boolean supportsReflectiveCopy(Class<?> clazz) {
+        if (clazz.isPrimitive() || clazz.isArray() || clazz.isInterface() || clazz.isEnum()
+                || Modifier.isAbstract(clazz.getModifiers())
+                || ReflectionTypeUtil.isClassMapCollection(clazz)
+                || isPlatformClass(clazz)) {
+            return false;
+        }
+        if (ConstructorBinding.of(clazz) != null) {
+            return true;
+        }
+        return Instantiator.isInstantiable(clazz);
+    }
+
+    private static boolean isPlatformClass(Class<?> clazz) {
+        ClassLoader classLoader = clazz.getClassLoader();
+        if (classLoader == null || classLoader == ClassLoader.getPlatformClassLoader()) {
+            return true;
+        }
+        String packageName = clazz.getPackageName();
+        return packageName.startsWith("java.") || packageName.startsWith("javax.")
+                || packageName.startsWith("jdk.") || packageName.startsWith("sun.");
+    }
+
+    /**
+     * Clones a JDK value through its public {@code clone()} or, failing that, Java binary serialization.
+     * <p>
+     * Serialization goes through unsynchronized in-memory buffers, so cloning on a virtual thread
+     * does not hold the monitors of {@code ByteArrayOutputStream}/{@code ByteArrayInputStream}.
+     * Classes are resolved through the thread context class loader.
+     * </p>
      *
      * @param sourceValue the value to clone
      * @return a deep copy of the source value
      */
     static Object cloneToBinaryFormat(Object sourceValue) {
-        byte[] byteClone = SerializationUtils.serialize(sourceValue);
-        return SerializationUtil.deserialize(byteClone);
+        CopyMetrics.pathTaken(CopyPath.BINARY_CLONE);
+        Optional<MethodHandle> publicClone = CopyCache.getOrComputePublicClone(sourceValue.getClass(),
+                ObjectCloner::findPublicClone);
+        if (publicClone.isPresent()) {
+            return invokeClone(publicClone.get(), sourceValue);
+        }
+        FastByteArrayOutputStream buffer = new FastByteArrayOutputStream();
+        try {
+            try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+                out.writeObject(sourceValue);
+            }
+            CopyMetrics.serialized(CopyPath.BINARY_CLONE, sourceValue.getClass(), buffer.size());
+            try (ObjectInputStream in = new ConfigurableObjectInputStream(buffer.getInputStream(),
+                    Thread.currentThread().getContextClassLoader())) {
+                return in.readObject();
+            }
+        } catch (IOException | ClassNotFoundException ex) {
+            throw new ApiException(ErrorMessages.CLONE_BINARY_ERROR, ex);
+        }
+    }
+
+    private static Object invokeClone(MethodHandle publicClone, Object sourceValue) {
+        try {
+            return publicClone.invoke(sourceValue);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ApiException(ErrorMessages.CLONE_BINARY_ERROR, ex);
+        }
+    }
+
+    private static Optional<MethodHandle> findPublicClone(Class<?> clazz) {
+        if (!Cloneable.class.isAssignableFrom(clazz) || !isPlatformClass(clazz)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(MethodHandles.publicLookup()
+                    .findVirtual(clazz, "clone", MethodType.methodType(Object.class)));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return Optional.empty();
+        }
     }
 
     /**
@@ -86,7 +234,10 @@ public final class ObjectCloner {
      * @return a deep copy of the source value
      */
     static Object cloneToJsonFormat(Object sourceValue, Class<?> clazz) {
-        return SERIALIZER.deserialize(SERIALIZER.serialize(sourceValue), clazz);
+        CopyMetrics.pathTaken(CopyPath.JSON_CLONE);
+        String json = SERIALIZER.serialize(sourceValue);
+        CopyMetrics.serialized(CopyPath.JSON_CLONE, sourceValue.getClass(), json.length());
+        return SERIALIZER.deserialize(json, clazz);
     }
 
     /**
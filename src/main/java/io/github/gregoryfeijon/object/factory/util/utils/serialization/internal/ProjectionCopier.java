@@ -0,0 +1,139 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyProjection;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.defaultValueFor;
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.getRawType;
+
+/**
+ * Copies only the fields named by a {@link CopyProjection}, following its {@link ProjectionPlan}s.
+ * <p>
+ * Fields outside the projection are never read, so their lazy associations stay untouched, and the
+ * destination keeps their default values, so no nested object is allocated for them. A projected field
+ * is copied exactly like in a full copy; a field projected further is rebuilt with only its projected
+ * fields, element by element for collections and arrays. Must be called inside a {@link CopyContext}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ProjectionCopier {
+
+    /**
+     * Copies the projected fields of a source object into a new instance of the given type.
+     *
+     * @param <T>        the target type
+     * @param source     the source object
+     * @param type       the class of the target type
+     * @param projection the fields to copy
+     * @return the projected copy
+     */
+    public static <T> T copy(Object source, Class<T> type, CopyProjection projection) {
+        AsyncCopier.checkCancelled();
+        ProjectionPlan plan = ProjectionPlan.resolve(source.getClass(), type, projection);
+        ConstructorBinding constructor = plan.getCopyPlan().getConstructor();
+        if (constructor == null) {
+            T dest = Instantiator.newInstance(type);
+            for (int position = 0; position < plan.size(); position++) {
+                copyField(plan, position, source, dest);
+            }
+            return dest;
+        }
+        Object[] arguments = new Object[constructor.parameterCount()];
+        for (int parameter = 0; parameter < arguments.length; parameter++) {
+            int position = plan.argumentPosition(parameter);
+            arguments[parameter] = position < 0
+                    ? defaultValueFor(constructor.parameterType(parameter))
+                    : fieldValue(plan, position, source);
+        }
+        T dest = type.cast(constructor.newInstance(arguments));
+        for (int ordinal = 0; ordinal < plan.postConstructionCount(); ordinal++) {
+            copyField(plan, plan.postConstructionPosition(ordinal), source, dest);
+        }
+        return dest;
+    }
+
+    /**
+     * Copies the projected fields of every element of a collection into a new list, preserving order.
+     * <p>
+     * Runs in the {@link CopyContext} bound to the calling thread, if any (batch identity scope);
+     * otherwise every element is copied in its own context.
+     * </p>
+     *
+     * @param <T>        the type of the resulting elements
+     * @param sources    the elements to copy
+     * @param returnType the class to copy every element into
+     * @param projection the fields to copy
+     * @return a mutable list with the projected copies
+     */
+    public static <T> List<T> copyAll(Collection<?> sources, Class<T> returnType, CopyProjection projection) {
+        List<T> copies = new ArrayList<>(sources.size());
+        for (Object element : sources) {
+            ValidationUtil.verifySourceObject(element);
+            copies.add(CopyContext.within(() -> copy(element, returnType, projection)));
+        }
+        return copies;
+    }
+
+    private static void copyField(ProjectionPlan plan, int position, Object source, Object dest) {
+        CopyPlan copyPlan = plan.getCopyPlan();
+        int index = plan.index(position);
+        if (plan.projection(position).isWhole()) {
+            CopyOrchestrator.copyField(copyPlan, index, source, dest);
+        } else {
+            copyPlan.destAccessor(index).set(dest, fieldValue(plan, position, source));
+        }
+    }
+
+    private static Object fieldValue(ProjectionPlan plan, int position, Object source) {
+        CopyPlan copyPlan = plan.getCopyPlan();
+        int index = plan.index(position);
+        CopyProjection projection = plan.projection(position);
+        if (projection.isWhole()) {
+            return CopyOrchestrator.fieldValue(copyPlan, index, source);
+        }
+        Object sourceValue = HibernateProxyHandler.unproxyValueIfNeeded(copyPlan.sourceAccessor(index).get(source));
+        if (sourceValue == null) {
+            return null;
+        }
+        Field destField = copyPlan.destField(index);
+        return switch (copyPlan.strategy(index)) {
+            case COLLECTION -> projectCollection((Collection<?>) sourceValue, destField.getGenericType(), projection);
+            case ARRAY -> projectArray(sourceValue, destField.getType().getComponentType(), projection);
+            default -> copy(sourceValue, TypeResolver.resolveEffectiveType(sourceValue, destField.getType()), projection);
+        };
+    }
+
+    private static Collection<Object> projectCollection(Collection<?> source, Type genericType,
+                                                        CopyProjection projection) {
+        Class<?> elementClass = getRawType(TypeResolver.getNestedGenericType(genericType, 0));
+        Collection<Object> target = CollectionMapCloner.newCollection(source, getRawType(genericType), elementClass);
+        for (Object element : source) {
+            target.add(projectElement(element, elementClass, projection));
+        }
+        return target;
+    }
+
+    private static Object projectArray(Object source, Class<?> componentType, CopyProjection projection) {
+        int length = Array.getLength(source);
+        Object[] target = (Object[]) Array.newInstance(componentType, length);
+        for (int i = 0; i < length; i++) {
+            target[i] = projectElement(Array.get(source, i), componentType, projection);
+        }
+        return target;
+    }
+
+    private static Object projectElement(Object element, Class<?> declaredType, CopyProjection projection) {
+        Object value = HibernateProxyHandler.unproxyValueIfNeeded(element);
+        return value == null ? null : copy(value, TypeResolver.resolveEffectiveType(value, declaredType), projection);
+    }
+}
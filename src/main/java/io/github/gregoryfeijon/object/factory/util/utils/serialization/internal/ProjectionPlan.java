@@ -0,0 +1,178 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyProjection;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.exception.ErrorMessages;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Compiled {@link CopyProjection} for one (source class, destination class) pair.
+ * <p>
+ * The plan selects the requested field positions of the pair's {@link CopyPlan}, reusing its accessors
+ * and strategies, and keeps the sub-projection of every selected field. It is built once per projection
+ * and class pair and cached in {@link CopyCache}. Sub-projections are compiled against the runtime class
+ * of the nested values they meet, so polymorphic fields are supported.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public final class ProjectionPlan {
+
+    @Getter
+    private final CopyPlan copyPlan;
+
+    private final int[] indexes;
+    private final CopyProjection[] projections;
+    private final int[] argumentPositions;
+    private final int[] postConstructionPositions;
+
+    private ProjectionPlan(CopyPlan copyPlan, int[] indexes, CopyProjection[] projections) {
+        this.copyPlan = copyPlan;
+        this.indexes = indexes;
+        this.projections = projections;
+        ConstructorBinding constructor = copyPlan.getConstructor();
+        int parameterCount = constructor != null ? constructor.parameterCount() : 0;
+        this.argumentPositions = new int[parameterCount];
+        boolean[] bound = new boolean[indexes.length];
+        for (int parameter = 0; parameter < parameterCount; parameter++) {
+            argumentPositions[parameter] = -1;
+            for (int position = 0; position < indexes.length; position++) {
+                if (indexes[position] == copyPlan.argumentIndex(parameter)) {
+                    argumentPositions[parameter] = position;
+                    bound[position] = true;
+                    break;
+                }
+            }
+        }
+        int[] remaining = new int[indexes.length];
+        int count = 0;
+        for (int position = 0; position < indexes.length; position++) {
+            if (constructor != null && !bound[position]) {
+                remaining[count++] = position;
+            }
+        }
+        this.postConstructionPositions = Arrays.copyOf(remaining, count);
+    }
+
+    /**
+     * Retrieves the cached plan of a projection for a class pair, compiling it on first use.
+     *
+     * @param sourceClass the class of the source object
+     * @param destClass   the class of the destination object
+     * @param projection  the fields to copy
+     * @return the compiled projection plan
+     * @throws ApiException if a projected field does not exist or cannot be projected further
+     */
+    public static ProjectionPlan resolve(Class<?> sourceClass, Class<?> destClass, CopyProjection projection) {
+        return CopyCache.getOrComputeProjectionPlan(sourceClass, destClass, projection,
+                () -> compile(FieldResolver.resolveCopyPlan(sourceClass, destClass), projection));
+    }
+
+    /**
+     * Returns the number of projected fields.
+     *
+     * @return the number of fields copied by this plan
+     */
+    public int size() {
+        return indexes.length;
+    }
+
+    /**
+     * Returns the {@link CopyPlan} position of a projected field.
+     *
+     * @param position the projected field position
+     * @return the field position in the underlying copy plan
+     */
+    public int index(int position) {
+        return indexes[position];
+    }
+
+    /**
+     * Returns the sub-projection of a projected field.
+     *
+     * @param position the projected field position
+     * @return the projection applied to the field value
+     */
+    public CopyProjection projection(int position) {
+        return projections[position];
+    }
+
+    /**
+     * Returns the projected field position whose value a constructor parameter receives.
+     *
+     * @param parameter the constructor parameter position
+     * @return the projected field position, or {@code -1} if the parameter's field is not projected
+     */
+    public int argumentPosition(int parameter) {
+        return argumentPositions[parameter];
+    }
+
+    /**
+     * Returns the number of projected fields written after the destination has been constructed.
+     *
+     * @return the number of post-construction fields; {@code 0} when the destination has no constructor binding
+     */
+    public int postConstructionCount() {
+        return postConstructionPositions.length;
+    }
+
+    /**
+     * Returns the projected field position of a post-construction field.
+     *
+     * @param ordinal the post-construction field ordinal, below {@link #postConstructionCount()}
+     * @return the projected field position
+     */
+    public int postConstructionPosition(int ordinal) {
+        return postConstructionPositions[ordinal];
+    }
+
+    private static ProjectionPlan compile(CopyPlan copyPlan, CopyProjection projection) {
+        Map<String, CopyProjection> fields = projection.fields();
+        int[] indexes = new int[fields.size()];
+        CopyProjection[] projections = new CopyProjection[fields.size()];
+        int position = 0;
+        for (Map.Entry<String, CopyProjection> field : fields.entrySet()) {
+            int index = indexOf(copyPlan, field.getKey());
+            if (!field.getValue().isWhole()) {
+                verifyProjectable(copyPlan, index);
+            }
+            indexes[position] = index;
+            projections[position++] = field.getValue();
+        }
+        return new ProjectionPlan(copyPlan, indexes, projections);
+    }
+
+    private static int indexOf(CopyPlan copyPlan, String name) {
+        for (int i = 0; i < copyPlan.size(); i++) {
+            if (FieldResolver.resolveFieldKey(copyPlan.sourceField(i)).equals(name)) {
+                return i;
+            }
+        }
+        throw invalid(copyPlan, "no copied field '" + name + "'");
+    }
+
+    private static void verifyProjectable(CopyPlan copyPlan, int index) {
+        Class<?> sourceType = copyPlan.sourceField(index).getType();
+        Class<?> destType = copyPlan.destField(index).getType();
+        boolean projectable = switch (copyPlan.strategy(index)) {
+            case NESTED -> true;
+            case COLLECTION -> Collection.class.isAssignableFrom(sourceType)
+                    && Collection.class.isAssignableFrom(destType);
+            case ARRAY -> !destType.getComponentType().isPrimitive();
+            default -> false;
+        };
+        if (!projectable) {
+            throw invalid(copyPlan, "field '" + copyPlan.sourceField(index).getName()
+                    + "' has no nested fields to project");
+        }
+    }
+
+    private static ApiException invalid(CopyPlan copyPlan, String reason) {
+        return new ApiException(ErrorMessages.PROJECTION_PATH_INVALID, new IllegalArgumentException(
+                copyPlan.getSourceClass().getName() + " -> " + copyPlan.getDestClass().getName() + ": " + reason));
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Copies unbounded sources (streams and iterators) lazily, one element or one chunk at a time.
+ * <p>
+ * Nothing is copied until the result is consumed, and only the current element (or chunk, with its
+ * copies) is held in memory, so database cursors and {@code getResultStream()} results can be
+ * exported without materializing them. Chunks go through {@link BulkCopier}, so large enough chunks
+ * are split across {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings#getBulkCopyExecutor()}
+ * with the same cost threshold as collection copies, while the output keeps the input order.
+ * </p>
+ * <p>
+ * Each element graph is copied in its own {@link CopyContext}: a streaming copy never shares a batch
+ * context, which would retain every copy made until the stream ends.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StreamCopier {
+
+    /**
+     * Lazily copies every element of a stream. Closing the result closes the source stream.
+     *
+     * @param <T>        the target type
+     * @param sources    the stream to copy
+     * @param returnType the class to copy every element into
+     * @return a stream of copies, in the same order and with the same parallelism as the source
+     */
+    public static <T> Stream<T> copyStream(Stream<?> sources, Class<T> returnType) {
+        return sources.map(copyFunction(returnType));
+    }
+
+    /**
+     * Creates a function copying objects into a target type, remembering the copy route of the last
+     * class pair it saw. Safe to share between threads.
+     *
+     * @param <T>        the target type
+     * @param returnType the class to copy every object into
+     * @return the copy function
+     */
+    public static <T> Function<Object, T> copyFunction(Class<T> returnType) {
+        BulkCopier.RouteCache routes = new BulkCopier.RouteCache();
+        return element -> BulkCopier.copyElement(element, returnType, routes);
+    }
+
+    /**
+     * Lazily copies a stream in chunks of up to {@code chunkSize} elements. Closing the result closes
+     * the source stream.
+     *
+     * @param <T>        the target type
+     * @param sources    the stream to copy
+     * @param returnType the class to copy every element into
+     * @param chunkSize  the maximum number of elements read and copied at once
+     * @return a sequential stream of copies, in the source encounter order
+     */
+    public static <T> Stream<T> copyStream(Stream<?> sources, Class<T> returnType, int chunkSize) {
+        Iterator<T> copies = new ChunkIterator<>(sources.iterator(), returnType, chunkSize);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(copies, Spliterator.ORDERED), false)
+                .onClose(sources::close);
+    }
+
+    /**
+     * Lazily copies the elements of an iterator, one per call to {@link Iterator#next()}.
+     *
+     * @param <T>        the target type
+     * @param sources    the iterator to copy
+     * @param returnType the class to copy every element into
+     * @return an iterator over the copies
+     */
+    public static <T> Iterator<T> copyIterator(Iterator<?> sources, Class<T> returnType) {
+        Function<Object, T> copy = copyFunction(returnType);
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return sources.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return copy.apply(sources.next());
+            }
+        };
+    }
+
+    /**
+     * Reads up to one chunk of source elements at a time and hands out their copies.
+     */
+    private static final class ChunkIterator<T> implements Iterator<T> {
+
+        private final Iterator<?> sources;
+        private final Class<T> returnType;
+        private final int chunkSize;
+        private Iterator<T> chunk = Collections.emptyIterator();
+
+        ChunkIterator(Iterator<?> sources, Class<T> returnType, int chunkSize) {
+            this.sources = sources;
+            this.returnType = returnType;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return chunk.hasNext() || sources.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!chunk.hasNext()) {
+                if (!sources.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                chunk = copyNextChunk();
+            }
+            return chunk.next();
+        }
+
+        private Iterator<T> copyNextChunk() {
+            List<Object> elements = new ArrayList<>(chunkSize);
+            while (elements.size() < chunkSize && sources.hasNext()) {
+                elements.add(sources.next());
+            }
+            return BulkCopier.copyAll(elements, returnType).iterator();
+        }
+    }
+}
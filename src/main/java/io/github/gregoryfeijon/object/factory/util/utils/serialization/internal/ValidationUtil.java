@@ -74,4 +74,66 @@ public final class ValidationUtil {
             throw new ApiException(ErrorMessages.SUPPLIER_NULL);
         }
     }
+
+    /**
+     * Verifies that the source of a streaming copy and its target type are non-null.
+     *
+     * @param sources    the stream or iterator to copy
+     * @param returnType the target type of the copies
+     * @throws ApiException if either argument is null
+     */
+    public static void verifyStreamSource(Object sources, Class<?> returnType) {
+        if (sources == null) {
+            throw new ApiException(ErrorMessages.STREAM_SOURCE_NULL);
+        }
+        verifyReturnType(returnType);
+    }
+
+    /**
+     * Verifies that the target type of a copy is non-null.
+     *
+     * @param returnType the target type of the copies
+     * @throws ApiException if the target type is null
+     */
+    public static void verifyReturnType(Class<?> returnType) {
+        if (returnType == null) {
+            throw new ApiException(ErrorMessages.RETURN_TYPE_NULL);
+        }
+    }
+
+    /**
+     * Verifies the chunk size of a chunked streaming copy.
+     *
+     * @param chunkSize the number of elements copied per chunk
+     * @throws ApiException if the chunk size is not positive
+     */
+    public static void verifyChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new ApiException(ErrorMessages.CHUNK_SIZE_INVALID);
+        }
+    }
+
+    /**
+     * Verifies that the sink of a streaming copy is non-null.
+     *
+     * @param sink the consumer receiving the copies
+     * @throws ApiException if the sink is null
+     */
+    public static void verifySink(Object sink) {
+        if (sink == null) {
+            throw new ApiException(ErrorMessages.SINK_NULL);
+        }
+    }
+
+    /**
+     * Verifies that the projection of a projection copy is non-null.
+     *
+     * @param projection the fields to copy
+     * @throws ApiException if the projection is null
+     */
+    public static void verifyProjection(Object projection) {
+        if (projection == null) {
+            throw new ApiException(ErrorMessages.PROJECTION_NULL);
+        }
+    }
 }
@@ -18,6 +18,14 @@
  *       Generic type resolution</li>
  *   <li>{@link io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.FieldResolver} -
  *       Field matching and exclusion logic</li>
+ *   <li>{@link io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.CopyPlan} -
+ *       Compiled, immutable field mapping per class pair</li>
+ *   <li>{@link io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.CopyStrategy} -
+ *       Per-field copy strategy decided at plan build time</li>
+ *   <li>{@link io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.FieldAccessor} -
+ *       VarHandle-based field access with unboxed primitive copies</li>
+ *   <li>{@link io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.GeneratedCopierFactory} -
+ *       Runtime-generated, per class pair copier classes</li>
  *   <li>{@link io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.HibernateProxyHandler} -
  *       Hibernate proxy unwrapping</li>
  *   <li>{@link io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.ObjectCloner} -
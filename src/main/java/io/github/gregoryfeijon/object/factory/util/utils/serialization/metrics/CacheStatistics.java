@@ -0,0 +1,54 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.internal.CopyCache;
+
+import java.util.List;
+
+/**
+ * Live statistics of one internal metadata cache (copy plans, field accessors, generated copiers, ...).
+ * <p>
+ * Hits and misses are only counted while a {@link CopyMetricsListener} is installed, so the caches
+ * pay nothing for statistics nobody reads.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public interface CacheStatistics {
+
+    /**
+     * Returns the statistics of every metadata cache.
+     *
+     * @return an unmodifiable list with one live view per cache
+     */
+    static List<CacheStatistics> all() {
+        return CopyCache.statistics();
+    }
+
+    /**
+     * The name of the cache, e.g. {@code copyPlan}.
+     *
+     * @return the cache name
+     */
+    String name();
+
+    /**
+     * The number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    long hitCount();
+
+    /**
+     * The number of lookups that computed their value.
+     *
+     * @return the miss count
+     */
+    long missCount();
+
+    /**
+     * The approximate number of entries currently held.
+     *
+     * @return the cache size
+     */
+    int size();
+}
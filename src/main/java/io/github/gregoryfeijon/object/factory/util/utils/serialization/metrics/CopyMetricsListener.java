@@ -0,0 +1,57 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics;
+
+/**
+ * Receives copy events while a listener is installed with
+ * {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings#setMetricsListener(CopyMetricsListener)}.
+ * <p>
+ * Methods are called synchronously on the copying thread, possibly from many threads at once, so
+ * implementations must be thread-safe and cheap. Values assigned by the straight-line code of build-time
+ * or runtime-generated copiers are not reported through {@link #pathTaken(CopyPath)}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public interface CopyMetricsListener {
+
+    /**
+     * Called after an object was copied into a destination instance, including nested objects and
+     * collection elements. The time of a nested copy is also part of the time of its enclosing copy.
+     *
+     * @param sourceClass the class of the source object
+     * @param destClass   the class of the destination object
+     * @param nanos       the elapsed time, in nanoseconds
+     */
+    default void copyCompleted(Class<?> sourceClass, Class<?> destClass, long nanos) {
+    }
+
+    /**
+     * Called after {@link #copyCompleted(Class, Class, long)} for the first copy of a class pair seen
+     * while the listener was installed. Comparing warmed-up and cold first copies shows what the
+     * warm-up saves on the first requests after a deployment.
+     *
+     * @param sourceClass the class of the source object
+     * @param destClass   the class of the destination object
+     * @param nanos       the elapsed time, in nanoseconds
+     * @param warmedUp    {@code true} if the metadata of the pair was built by a warm-up beforehand
+     */
+    default void firstCopyCompleted(Class<?> sourceClass, Class<?> destClass, long nanos, boolean warmedUp) {
+    }
+
+    /**
+     * Called once per copied value with the path used to copy it.
+     *
+     * @param path the path taken
+     */
+    default void pathTaken(CopyPath path) {
+    }
+
+    /**
+     * Called after a value was serialized for a {@link CopyPath#BINARY_CLONE} or {@link CopyPath#JSON_CLONE}.
+     *
+     * @param path  the serializing path
+     * @param type  the class of the serialized value
+     * @param bytes the size of the serialized form, in bytes (in characters for JSON)
+     */
+    default void serialized(CopyPath path, Class<?> type, long bytes) {
+    }
+}
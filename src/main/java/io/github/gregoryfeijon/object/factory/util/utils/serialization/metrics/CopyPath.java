@@ -0,0 +1,44 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics;
+
+/**
+ * How a single value was copied into its destination field or element.
+ *
+ * @author gregory.feijon
+ */
+public enum CopyPath {
+
+    /**
+     * Assigned as-is: primitives, primitive/wrapper conversions and immutable values shared by reference.
+     */
+    DIRECT,
+
+    /**
+     * JDK value cloned through its public {@code clone()} or Java binary serialization.
+     */
+    BINARY_CLONE,
+
+    /**
+     * Object cloned through a JSON round-trip with the configured serializer, usually the slowest path.
+     */
+    JSON_CLONE,
+
+    /**
+     * Collection or map deep copied element by element.
+     */
+    COLLECTION_CLONE,
+
+    /**
+     * Array deep copied element by element.
+     */
+    ARRAY_CLONE,
+
+    /**
+     * Enum constant converted to the equivalent constant of the destination type.
+     */
+    ENUM_CONVERSION,
+
+    /**
+     * Nested object copied field by field into a new instance.
+     */
+    NESTED_COPY
+}
@@ -0,0 +1,16 @@
+/**
+ * Observation hooks for monitoring copies in production.
+ * <p>
+ * A {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyMetricsListener}
+ * installed with
+ * {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings#setMetricsListener(CopyMetricsListener)}
+ * is told the latency of every object copy, the {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyPath}
+ * taken for every copied value and the size of every serializer round-trip.
+ * {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CacheStatistics} exposes
+ * the effectiveness of the internal metadata caches. The {@code object-factory-util-micrometer}
+ * module publishes all of them as Micrometer meters.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics;
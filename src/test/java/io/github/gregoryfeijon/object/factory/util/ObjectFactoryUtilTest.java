@@ -7,6 +7,7 @@ import io.github.gregoryfeijon.object.factory.util.domain.CollectionTestObject;
 import io.github.gregoryfeijon.object.factory.util.domain.EmptySource;
 import io.github.gregoryfeijon.object.factory.util.domain.FooDuplicated;
 import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.GraphNode;
 import io.github.gregoryfeijon.object.factory.util.domain.MapTestObject;
 import io.github.gregoryfeijon.object.factory.util.domain.MismatchSource;
 import io.github.gregoryfeijon.object.factory.util.domain.MismatchTarget;
@@ -26,6 +27,7 @@ import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestDest;
 import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
 import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
 import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
 import io.github.gregoryfeijon.serializer.provider.domain.enums.SerializationType;
 import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerProvider;
 import org.junit.jupiter.api.Test;
@@ -99,6 +101,28 @@ class ObjectFactoryUtilTest {
         assertThat(barWrapper.getFieldExcludedUsingClassLevelAnnotation()).isNull();
     }
 
+    @Test
+    void shouldCopyWrapperWithGeneratedCopierWhenEnabled() {
+        FooWrapper fooWrapper = new FooWrapper();
+        fooWrapper.setPrimitiveFoo(PrimitiveFoo.builder().intValue(3).longValue(4L).boolValue(true).build());
+        fooWrapper.setObjectFoo(TestObjectsFactory.createObjectFoo());
+        fooWrapper.setPrimitiveFooList(List.of(new PrimitiveFoo()));
+        fooWrapper.setFieldExcluded("This value shouldn't be copied");
+
+        ObjectFactoryUtilSettings.setGeneratedCopiersEnabled(true);
+        try {
+            BarWrapper barWrapper = ObjectFactoryUtil.createFromObject(fooWrapper, BarWrapper.class);
+
+            assertThat(barWrapper.getPrimitiveBar().getIVal()).isEqualTo(3);
+            assertThat(barWrapper.getPrimitiveBar().getLongValue()).isEqualTo(4L);
+            assertThat(barWrapper.getObjectBar().getStringValue()).isEqualTo(fooWrapper.getObjectFoo().getStringValue());
+            assertThat(barWrapper.getPrimitiveBarList()).hasSize(1);
+            assertThat(barWrapper.getFieldExcluded()).isNull();
+        } finally {
+            ObjectFactoryUtilSettings.setGeneratedCopiersEnabled(false);
+        }
+    }
+
     @Test
     void shouldNotFailOnMissingDestFields() {
         PrimitiveFoo foo = new PrimitiveFoo();
@@ -1247,4 +1271,71 @@ class ObjectFactoryUtilTest {
         assertThat(clone.getMultiMapBar().get(100)).hasSize(1);
         assertThat(clone.getMultiMapBar().get(100).get(1)).isEmpty();
     }
+
+    @Test
+    void shouldCopyCyclicGraphPreservingCycle() {
+        GraphNode first = new GraphNode("first");
+        GraphNode second = new GraphNode("second");
+        first.setNext(second);
+        second.setNext(first);
+
+        GraphNode clone = ObjectFactoryUtil.createFromObject(first);
+
+        assertThat(clone).isNotSameAs(first);
+        assertThat(clone.getNext()).isNotSameAs(second);
+        assertThat(clone.getNext().getName()).isEqualTo("second");
+        assertThat(clone.getNext().getNext()).isSameAs(clone);
+    }
+
+    @Test
+    void shouldCopyBidirectionalCollectionRelationship() {
+        GraphNode parent = new GraphNode("parent");
+        GraphNode child = new GraphNode("child");
+        child.setPartner(parent);
+        parent.getChildren().add(child);
+
+        GraphNode clone = ObjectFactoryUtil.createFromObject(parent);
+
+        assertThat(clone.getChildren()).hasSize(1);
+        GraphNode clonedChild = clone.getChildren().getFirst();
+        assertThat(clonedChild).isNotSameAs(child);
+        assertThat(clonedChild.getName()).isEqualTo("child");
+        assertThat(clonedChild.getPartner()).isSameAs(clone);
+    }
+
+    @Test
+    void shouldCopySharedReferenceOnlyOnce() {
+        GraphNode shared = new GraphNode("shared");
+        GraphNode root = new GraphNode("root");
+        root.setNext(shared);
+        root.setPartner(shared);
+
+        GraphNode clone = ObjectFactoryUtil.createFromObject(root);
+
+        assertThat(clone.getNext())
+                .isNotSameAs(shared)
+                .isSameAs(clone.getPartner());
+    }
+
+    @Test
+    void shouldShareCopiesAcrossCollectionOnlyWithBatchIdentityScope() {
+        GraphNode shared = new GraphNode("shared");
+        GraphNode first = new GraphNode("first");
+        GraphNode second = new GraphNode("second");
+        first.setNext(shared);
+        second.setNext(shared);
+
+        List<GraphNode> isolated = ObjectFactoryUtil.copyAllObjectsFromCollection(List.of(first, second));
+        assertThat(isolated.get(0).getNext()).isNotSameAs(isolated.get(1).getNext());
+
+        ObjectFactoryUtilSettings.setBatchIdentityScopeEnabled(true);
+        try {
+            List<GraphNode> batched = ObjectFactoryUtil.copyAllObjectsFromCollection(List.of(first, second));
+            assertThat(batched.get(0).getNext())
+                    .isNotSameAs(shared)
+                    .isSameAs(batched.get(1).getNext());
+        } finally {
+            ObjectFactoryUtilSettings.setBatchIdentityScopeEnabled(false);
+        }
+    }
 }
@@ -0,0 +1,23 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class GraphNode {
+
+    private String name;
+    private GraphNode next;
+    private GraphNode partner;
+    private List<GraphNode> children = new ArrayList<>();
+
+    public GraphNode(String name) {
+        this.name = name;
+    }
+}
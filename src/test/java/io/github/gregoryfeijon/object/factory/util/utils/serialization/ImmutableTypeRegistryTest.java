@@ -0,0 +1,133 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.TestEnum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImmutableTypeRegistryTest {
+
+    record Money(long cents, String currency) {
+    }
+
+    record Price(BigDecimal amount, String currency) {
+    }
+
+    record Discount(Amount amount) {
+    }
+
+    record Tagged(String name, List<String> tags) {
+    }
+
+    record Node(String value, Node next) {
+    }
+
+    static class Amount {
+    }
+
+    static class Percentage extends Amount {
+    }
+
+    static final class Rate {
+        private final String code;
+        private final Instant value;
+        private final Money limit;
+
+        Rate(String code, Instant value, Money limit) {
+            this.code = code;
+            this.value = value;
+            this.limit = limit;
+        }
+    }
+
+    static final class Counter {
+        private int count;
+    }
+
+    static final class Holder {
+        private final Amount amount = new Amount();
+    }
+
+    static class MutableBigDecimal extends BigDecimal {
+        MutableBigDecimal() {
+            super(0);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {int.class, Integer.class, Long.class, Boolean.class, Character.class, String.class,
+            BigDecimal.class, BigInteger.class, LocalDate.class, Instant.class, Duration.class, ZoneOffset.class,
+            UUID.class, TestEnum.class, Money.class, Node.class})
+    void isImmutable_shouldAcceptBuiltInTypes(Class<?> type) {
+        assertThat(ImmutableTypeRegistry.isImmutable(type)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {Date.class, ObjectFoo.class, Tagged.class, MutableBigDecimal.class, Price.class,
+            List.class, Object.class})
+    void isImmutable_shouldRejectMutableTypes(Class<?> type) {
+        assertThat(ImmutableTypeRegistry.isImmutable(type)).isFalse();
+    }
+
+    @Test
+    void register_shouldAcceptRegisteredTypeAndSubtypes() {
+        assertThat(ImmutableTypeRegistry.isImmutable(Percentage.class)).isFalse();
+
+        assertThat(ImmutableTypeRegistry.isImmutable(Discount.class)).isFalse();
+
+        ImmutableTypeRegistry.register(Amount.class);
+        try {
+            assertThat(ImmutableTypeRegistry.isImmutable(Amount.class)).isTrue();
+            assertThat(ImmutableTypeRegistry.isImmutable(Percentage.class)).isTrue();
+            assertThat(ImmutableTypeRegistry.isImmutable(Discount.class)).isTrue();
+        } finally {
+            ImmutableTypeRegistry.unregister(Amount.class);
+        }
+
+        assertThat(ImmutableTypeRegistry.isImmutable(Percentage.class)).isFalse();
+    }
+
+    @Test
+    void isImmutable_shouldAcceptFinalFieldClasses_whenSharingEnabled() {
+        assertThat(ImmutableTypeRegistry.isImmutable(Rate.class)).isFalse();
+
+        ObjectFactoryUtilSettings.setImmutableSharingEnabled(true);
+        try {
+            assertThat(ImmutableTypeRegistry.isImmutable(Rate.class)).isTrue();
+            assertThat(ImmutableTypeRegistry.isImmutable(Counter.class)).isFalse();
+            assertThat(ImmutableTypeRegistry.isImmutable(Holder.class)).isFalse();
+            assertThat(ImmutableTypeRegistry.isImmutable(Object.class)).isFalse();
+        } finally {
+            ObjectFactoryUtilSettings.setImmutableSharingEnabled(false);
+        }
+
+        assertThat(ImmutableTypeRegistry.isImmutable(Rate.class)).isFalse();
+    }
+
+    @Test
+    void isImmutableCollection_shouldAcceptOnlyStructurallyImmutableCollections() {
+        assertThat(Stream.of(List.of(), List.of(1), List.of(1, 2, 3), Set.of(1), Map.of(), Map.of(1, 2),
+                Stream.of(1).toList(), Collections.emptyList(), Collections.singletonMap(1, 2)))
+                .allMatch(collection -> ImmutableTypeRegistry.isImmutableCollection(collection.getClass()));
+        assertThat(Stream.of(new ArrayList<>(), Collections.unmodifiableList(new ArrayList<>())))
+                .noneMatch(collection -> ImmutableTypeRegistry.isImmutableCollection(collection.getClass()));
+    }
+}
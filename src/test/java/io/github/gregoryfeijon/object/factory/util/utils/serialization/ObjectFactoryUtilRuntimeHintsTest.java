@@ -0,0 +1,128 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.CopyMapping;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.CopyWarmup;
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.copier.ObjectCopier;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.AotServices;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.javapoet.ClassName;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ObjectFactoryUtilRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registerHints_shouldCoverLibraryReflectionAndResources() {
+        new ObjectFactoryUtilRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("org.hibernate.proxy.HibernateProxy"))
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/" + ObjectCopier.class.getName())).accepts(hints);
+    }
+
+    @Test
+    void registerHints_shouldBeDiscoveredThroughAotFactories() {
+        assertThat(AotServices.factories().load(RuntimeHintsRegistrar.class))
+                .hasAtLeastOneElementOfType(ObjectFactoryUtilRuntimeHints.class);
+    }
+
+    @Test
+    void registerCopyHints_shouldCoverNestedAndElementClasses() {
+        ObjectFactoryUtilRuntimeHints.registerCopyHints(hints,
+                List.of(new ClassPairKey(FooWrapper.class, BarWrapper.class)));
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(BarWrapper.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(PrimitiveFoo.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(PrimitiveBar.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ObjectBar.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    void aotProcessor_shouldRegisterWarmupHintsAndRecordScannedClasses() throws IOException {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        RootBeanDefinition definition = new RootBeanDefinition(ObjectFactoryUtilWarmup.class);
+        definition.getConstructorArgumentValues()
+                .addIndexedArgumentValue(0, List.of(BarWrapper.class.getPackageName()));
+        definition.getConstructorArgumentValues().addIndexedArgumentValue(1, List.of());
+        beanFactory.registerBeanDefinition("objectFactoryUtilWarmup", definition);
+        InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                new ClassNameGenerator(ClassName.get(getClass())), generatedFiles, hints);
+
+        BeanFactoryInitializationAotContribution contribution =
+                new ObjectFactoryUtilAotProcessor().processAheadOfTime(beanFactory);
+        assertThat(contribution).isNotNull();
+        contribution.applyTo(generationContext, mock(BeanFactoryInitializationCode.class));
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(BarWrapper.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(generatedFiles.getGeneratedFileContent(GeneratedFiles.Kind.RESOURCE,
+                ObjectFactoryUtilWarmup.AOT_SCANNED_CLASSES))
+                .contains(BarWrapper.class.getName(), FooWrapper.class.getName());
+    }
+
+    @Test
+    void aotProcessor_shouldReadAnnotatedFactoryMethodWithoutInstantiatingTheBean() throws Exception {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        RootBeanDefinition definition = new RootBeanDefinition(ObjectFactoryUtilRuntimeHintsTest.class);
+        definition.setFactoryMethodName("annotatedWarmup");
+        definition.setResolvedFactoryMethod(getClass().getDeclaredMethod("annotatedWarmup"));
+        beanFactory.registerBeanDefinition("objectFactoryUtilWarmup", definition);
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                new ClassNameGenerator(ClassName.get(getClass())), new InMemoryGeneratedFiles(), hints);
+
+        BeanFactoryInitializationAotContribution contribution =
+                new ObjectFactoryUtilAotProcessor().processAheadOfTime(beanFactory);
+        assertThat(contribution).isNotNull();
+        contribution.applyTo(generationContext, mock(BeanFactoryInitializationCode.class));
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(ObjectBar.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(hints.reflection().getTypeHint(ObjectFactoryUtilRuntimeHintsTest.class).methods())
+                .anyMatch(method -> method.getName().equals("annotatedWarmup"));
+        assertThat(beanFactory.containsSingleton("objectFactoryUtilWarmup")).isFalse();
+    }
+
+    @CopyWarmup(pairs = @CopyMapping(source = PrimitiveFoo.class, dest = ObjectBar.class))
+    static ObjectFactoryUtilWarmup annotatedWarmup() {
+        throw new IllegalStateException("The warm-up bean must not be instantiated at build time");
+    }
+
+    @Test
+    void aotProcessor_shouldContributeNothingWithoutWarmupBean() {
+        assertThat(new ObjectFactoryUtilAotProcessor().processAheadOfTime(new DefaultListableBeanFactory()))
+                .isNull();
+    }
+}
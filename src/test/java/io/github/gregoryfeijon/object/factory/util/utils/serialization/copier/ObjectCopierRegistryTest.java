@@ -0,0 +1,182 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.copier;
+
+import io.github.gregoryfeijon.object.factory.util.domain.PartialBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectCopierRegistryTest {
+
+    static class FixedAgeCopier implements ObjectCopier<PrimitiveFoo, PrimitiveBar> {
+
+        @Override
+        public Class<PrimitiveFoo> sourceType() {
+            return PrimitiveFoo.class;
+        }
+
+        @Override
+        public Class<PrimitiveBar> destType() {
+            return PrimitiveBar.class;
+        }
+
+        @Override
+        public void copy(PrimitiveFoo source, PrimitiveBar dest) {
+            dest.setIVal(-1);
+        }
+    }
+
+    public static class Payload {
+    }
+
+    public static class PayloadCopier implements ObjectCopier<Payload, Payload> {
+
+        @Override
+        public Class<Payload> sourceType() {
+            return Payload.class;
+        }
+
+        @Override
+        public Class<Payload> destType() {
+            return Payload.class;
+        }
+
+        @Override
+        public void copy(Payload source, Payload dest) {
+        }
+    }
+
+    /**
+     * Defines the payload classes itself, as a plugin or web application loader would.
+     */
+    static final class ChildFirstLoader extends URLClassLoader {
+
+        ChildFirstLoader(URL[] urls) {
+            super(urls, ObjectCopierRegistryTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(Payload.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                return loaded != null ? loaded : findClass(name);
+            }
+        }
+    }
+
+    record SameClassCopier(Class<Object> type) implements ObjectCopier<Object, Object> {
+
+        @Override
+        public Class<Object> sourceType() {
+            return type;
+        }
+
+        @Override
+        public Class<Object> destType() {
+            return type;
+        }
+
+        @Override
+        public void copy(Object source, Object dest) {
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        ObjectCopierRegistry.unregister(PrimitiveFoo.class, PrimitiveBar.class);
+    }
+
+    @Test
+    void find_shouldReturnNullForUnregisteredPair() {
+        assertThat(ObjectCopierRegistry.find(PrimitiveFoo.class, PartialBar.class)).isNull();
+    }
+
+    @Test
+    void register_shouldMakeCopierAvailableForExactPair() {
+        FixedAgeCopier copier = new FixedAgeCopier();
+
+        ObjectCopierRegistry.register(copier);
+
+        assertThat(ObjectCopierRegistry.find(PrimitiveFoo.class, PrimitiveBar.class)).isSameAs(copier);
+        assertThat(ObjectCopierRegistry.find(PrimitiveBar.class, PrimitiveFoo.class)).isNull();
+    }
+
+    @Test
+    void find_shouldDiscoverCopiersDeclaredToTheSourceClassLoader(@TempDir Path services) throws Exception {
+        Path declaration = services.resolve("META-INF/services/" + ObjectCopier.class.getName());
+        Files.createDirectories(declaration.getParent());
+        Files.writeString(declaration, PayloadCopier.class.getName() + "\n");
+        URL classes = ObjectCopierRegistryTest.class.getProtectionDomain().getCodeSource().getLocation();
+
+        try (URLClassLoader loader = new ChildFirstLoader(new URL[]{services.toUri().toURL(), classes})) {
+            Class<?> payload = loader.loadClass(Payload.class.getName());
+
+            ObjectCopier<Object, Object> copier = ObjectCopierRegistry.find(payload, payload);
+
+            assertThat(copier).isNotNull();
+            assertThat(copier.getClass().getClassLoader()).isSameAs(loader);
+            assertThat(copier.sourceType()).isSameAs(payload);
+        }
+        assertThat(ObjectCopierRegistry.find(Payload.class, Payload.class)).isNull();
+    }
+
+    @Test
+    void register_shouldNotPinTheClassLoaderOfTheCopiedClasses() throws Exception {
+        WeakReference<ClassLoader> loader = registerCopierOfThrowawayLoader();
+
+        for (int attempt = 0; attempt < 50 && loader.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertThat(loader.get()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WeakReference<ClassLoader> registerCopierOfThrowawayLoader() throws Exception {
+        URL classes = ObjectCopierRegistryTest.class.getProtectionDomain().getCodeSource().getLocation();
+        URLClassLoader loader = new URLClassLoader(new URL[]{classes}, null);
+        Class<Object> type = (Class<Object>) loader.loadClass(Payload.class.getName());
+        SameClassCopier copier = new SameClassCopier(type);
+
+        ObjectCopierRegistry.register(copier);
+
+        assertThat(ObjectCopierRegistry.find(type, type)).isSameAs(copier);
+        loader.close();
+        return new WeakReference<>(loader);
+    }
+
+    @Test
+    void createFromObject_shouldPreferRegisteredCopier() {
+        ObjectCopierRegistry.register(new FixedAgeCopier());
+
+        PrimitiveBar bar = ObjectFactoryUtil.createFromObject(PrimitiveFoo.builder().intValue(42).build(), PrimitiveBar.class);
+
+        assertThat(bar.getIVal()).isEqualTo(-1);
+    }
+
+    @Test
+    void delegate_shouldCopyOnlyNamedFieldsThroughCopyPlan() {
+        PrimitiveFoo source = PrimitiveFoo.builder().intValue(42).longValue(7L).boolValue(true).build();
+        PrimitiveBar dest = new PrimitiveBar();
+
+        ObjectCopierSupport.delegate(PrimitiveFoo.class, PrimitiveBar.class, "intValue", "unknown").copy(source, dest);
+
+        assertThat(dest.getIVal()).isEqualTo(42);
+        assertThat(dest.getLongValue()).isZero();
+        assertThat(dest.isBoolValue()).isFalse();
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.factory.FactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.config.TestSerializerConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestDest;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestSource;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {
+        FactoryUtil.class,
+        TestSerializerConfiguration.class
+})
+class ArrayClonerTest {
+
+    @Test
+    void cloneArray_shouldReturnNull_whenSourceIsNull() {
+        assertThat(ArrayCloner.cloneArray(null, int[].class)).isNull();
+    }
+
+    @Test
+    void cloneArray_shouldCopyByteArray() {
+        byte[] source = {1, 2, 3};
+
+        byte[] copy = (byte[]) ArrayCloner.cloneArray(source, byte[].class);
+
+        assertThat(copy)
+                .containsExactly(1, 2, 3)
+                .isNotSameAs(source);
+    }
+
+    @Test
+    void cloneArray_shouldShareImmutableElements() {
+        String[] source = {"a", "b"};
+
+        String[] copy = (String[]) ArrayCloner.cloneArray(source, String[].class);
+
+        assertThat(copy).isNotSameAs(source).containsExactly("a", "b");
+        assertThat(copy[0]).isSameAs(source[0]);
+    }
+
+    @Test
+    void cloneArray_shouldBoxAndUnboxPrimitiveArrays() {
+        Integer[] boxed = (Integer[]) ArrayCloner.cloneArray(new int[]{1, 2}, Integer[].class);
+        int[] unboxed = (int[]) ArrayCloner.cloneArray(new Integer[]{3, null}, int[].class);
+        Character[] chars = (Character[]) ArrayCloner.cloneArray(new char[]{'x'}, Character[].class);
+
+        assertThat(boxed).containsExactly(1, 2);
+        assertThat(unboxed).containsExactly(3, 0);
+        assertThat(chars).containsExactly('x');
+    }
+
+    @Test
+    void cloneArray_shouldWidenPrimitiveArrays() {
+        long[] copy = (long[]) ArrayCloner.cloneArray(new int[]{1, 2}, long[].class);
+
+        assertThat(copy).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void cloneArray_shouldThrowApiException_whenComponentsAreIncompatible() {
+        int[] source = {1};
+
+        assertThatThrownBy(() -> ArrayCloner.cloneArray(source, boolean[].class))
+                .isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void cloneArray_shouldCopyMultiDimensionalArrays() {
+        int[][] source = {{1, 2}, {3}};
+
+        int[][] copy = (int[][]) ArrayCloner.cloneArray(source, int[][].class);
+
+        assertThat(copy).isNotSameAs(source).hasNumberOfRows(2);
+        assertThat(copy[0]).containsExactly(1, 2).isNotSameAs(source[0]);
+        assertThat(copy[1]).containsExactly(3);
+    }
+
+    @Test
+    void cloneArray_shouldDeepCopyAndConvertObjectElements() {
+        ObjectFoo foo = ObjectFoo.builder().integerValue(7).build();
+        Date date = new Date(0);
+
+        ObjectFoo[] fooCopy = (ObjectFoo[]) ArrayCloner.cloneArray(new ObjectFoo[]{foo, null}, ObjectFoo[].class);
+        ObjectBar[] barCopy = (ObjectBar[]) ArrayCloner.cloneArray(new ObjectFoo[]{foo}, ObjectBar[].class);
+        Object[] mixedCopy = (Object[]) ArrayCloner.cloneArray(new Object[]{"text", date}, Object[].class);
+
+        assertThat(fooCopy[0]).isNotSameAs(foo);
+        assertThat(fooCopy[0].getIntegerValue()).isEqualTo(7);
+        assertThat(fooCopy[1]).isNull();
+        assertThat(barCopy[0].getIntegerValue()).isEqualTo(7);
+        assertThat(mixedCopy[0]).isEqualTo("text");
+        assertThat(mixedCopy[1]).isEqualTo(date).isNotSameAs(date);
+    }
+
+    @Test
+    void cloneArray_shouldConvertEnumArrays() {
+        StatusTestDest[] copy = (StatusTestDest[]) ArrayCloner.cloneArray(
+                new StatusTestSource[]{StatusTestSource.INACTIVE}, StatusTestDest[].class);
+
+        assertThat(copy).containsExactly(StatusTestDest.INACTIVE);
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.factory.FactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.config.TestSerializerConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {
+        FactoryUtil.class,
+        TestSerializerConfiguration.class
+})
+class AsyncCopierTest {
+
+    private final List<Runnable> deferred = new ArrayList<>();
+
+    @AfterEach
+    void resetSettings() {
+        ObjectFactoryUtilSettings.setAsyncCopyExecutor(null);
+    }
+
+    @Test
+    void supplyAsync_shouldRunOnVirtualThreadsByDefault() {
+        Boolean virtual = AsyncCopier.supplyAsync(() -> Thread.currentThread().isVirtual()).join();
+
+        assertThat(virtual).isTrue();
+    }
+
+    @Test
+    void createFromObjectAsync_shouldCopyOnConfiguredExecutor() {
+        ObjectFactoryUtilSettings.setAsyncCopyExecutor(deferred::add);
+        PrimitiveFoo original = PrimitiveFoo.builder().intValue(7).longValue(8L).build();
+
+        CompletableFuture<PrimitiveFoo> future = ObjectFactoryUtil.createFromObjectAsync(original);
+        assertThat(future).isNotDone();
+        deferred.forEach(Runnable::run);
+
+        assertThat(future.join())
+                .isNotSameAs(original)
+                .satisfies(copy -> assertThat(copy.getLongValue()).isEqualTo(8L));
+    }
+
+    @Test
+    void copyAllObjectsFromCollectionAsync_shouldCopyInOrder() {
+        List<PrimitiveFoo> sources = IntStream.range(0, 500)
+                .mapToObj(i -> PrimitiveFoo.builder().longValue(i).build())
+                .toList();
+
+        List<PrimitiveBar> copies = ObjectFactoryUtil.copyAllObjectsFromCollectionAsync(sources, PrimitiveBar.class)
+                .orTimeout(30, TimeUnit.SECONDS)
+                .join();
+
+        assertThat(copies).hasSize(500);
+        assertThat(copies.getLast().getLongValue()).isEqualTo(499L);
+    }
+
+    @Test
+    void supplyAsync_shouldSkipCopy_whenCancelledBeforeItStarts() {
+        ObjectFactoryUtilSettings.setAsyncCopyExecutor(deferred::add);
+        AtomicBoolean started = new AtomicBoolean();
+
+        CompletableFuture<Object> future = AsyncCopier.supplyAsync(() -> {
+            started.set(true);
+            return new Object();
+        });
+        future.cancel(true);
+        deferred.forEach(Runnable::run);
+
+        assertThat(started).isFalse();
+        assertThat(future).isCancelled();
+    }
+
+    @Test
+    void supplyAsync_shouldFailWithTimeout_whenDeadlinePasses() {
+        ObjectFactoryUtilSettings.setAsyncCopyExecutor(deferred::add);
+
+        CompletableFuture<PrimitiveFoo> future = ObjectFactoryUtil.createFromObjectAsync(new PrimitiveFoo())
+                .orTimeout(10, TimeUnit.MILLISECONDS);
+
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void supplyAsync_shouldFail_whenExecutorRejectsTheCopy() {
+        ObjectFactoryUtilSettings.setAsyncCopyExecutor(task -> {
+            throw new RejectedExecutionException("saturated");
+        });
+
+        CompletableFuture<PrimitiveFoo> future = ObjectFactoryUtil.createFromObjectAsync(new PrimitiveFoo());
+
+        assertThat(future).isCompletedExceptionally();
+    }
+
+    @Test
+    void checkCancelled_shouldStopCollectionCopyOfCancelledAsyncCopy() {
+        CompletableFuture<Object> cancelled = new CompletableFuture<>();
+        cancelled.cancel(false);
+        List<PrimitiveFoo> sources = List.of(new PrimitiveFoo(), new PrimitiveFoo());
+
+        assertThatThrownBy(() -> AsyncCopier.runBound(cancelled, () -> BulkCopier.copyAll(sources, null)))
+                .isInstanceOf(CancellationException.class);
+        assertThat(AsyncCopier.current()).isNull();
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.factory.FactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.config.TestSerializerConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.GraphNode;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {
+        FactoryUtil.class,
+        TestSerializerConfiguration.class
+})
+class BulkCopierTest {
+
+    @AfterEach
+    void resetSettings() {
+        ObjectFactoryUtilSettings.setBulkParallelCostThreshold(ObjectFactoryUtilSettings.DEFAULT_BULK_PARALLEL_COST_THRESHOLD);
+        ObjectFactoryUtilSettings.setBulkCopyExecutor(null);
+        ObjectFactoryUtilSettings.setBatchIdentityScopeEnabled(false);
+    }
+
+    @Test
+    void shouldSplit_shouldKeepSmallOrCheapCollectionsSequential() {
+        List<PrimitiveFoo> small = primitiveFoos(BulkCopier.MIN_CHUNK_SIZE);
+        List<PrimitiveFoo> large = primitiveFoos(4 * BulkCopier.MIN_CHUNK_SIZE);
+
+        assertThat(BulkCopier.shouldSplit(small, PrimitiveBar.class)).isFalse();
+        assertThat(BulkCopier.shouldSplit(large, PrimitiveBar.class)).isFalse();
+
+        ObjectFactoryUtilSettings.setBulkParallelCostThreshold(1);
+        assertThat(BulkCopier.shouldSplit(small, PrimitiveBar.class)).isFalse();
+        assertThat(BulkCopier.shouldSplit(large, PrimitiveBar.class)).isTrue();
+    }
+
+    @Test
+    void shouldSplit_shouldSampleBeyondTheFirstElement() {
+        ObjectFactoryUtilSettings.setBulkParallelCostThreshold(1);
+        List<PrimitiveFoo> sources = new ArrayList<>(primitiveFoos(4 * BulkCopier.MIN_CHUNK_SIZE));
+        sources.set(0, null);
+
+        assertThat(BulkCopier.shouldSplit(sources, PrimitiveBar.class)).isTrue();
+    }
+
+    @Test
+    void copyAll_shouldAddParallelChunksToTheTargetInOrder() {
+        ObjectFactoryUtilSettings.setBulkParallelCostThreshold(1);
+        List<PrimitiveFoo> sources = primitiveFoos(4 * BulkCopier.MIN_CHUNK_SIZE);
+        ArrayDeque<PrimitiveBar> target = new ArrayDeque<>();
+
+        ArrayDeque<PrimitiveBar> copies = BulkCopier.copyAll(sources, PrimitiveBar.class, target);
+
+        assertThat(copies).isSameAs(target).hasSize(sources.size());
+        assertThat(copies.getFirst().getLongValue()).isZero();
+        assertThat(copies.getLast().getLongValue()).isEqualTo(sources.size() - 1);
+    }
+
+    @Test
+    void copyAll_shouldPreserveOrderWhenCopiedInParallelChunks() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        Executor recording = task -> pool.execute(() -> {
+            threads.add(Thread.currentThread());
+            task.run();
+        });
+        ObjectFactoryUtilSettings.setBulkParallelCostThreshold(1);
+        ObjectFactoryUtilSettings.setBulkCopyExecutor(recording);
+        try {
+            List<PrimitiveFoo> sources = primitiveFoos(1_000);
+
+            List<PrimitiveBar> copies = ObjectFactoryUtil.copyAllObjectsFromCollection(sources, PrimitiveBar.class);
+
+            assertThat(copies).hasSize(sources.size());
+            for (int i = 0; i < sources.size(); i++) {
+                assertThat(copies.get(i).getLongValue()).isEqualTo(i);
+            }
+            assertThat(threads).isNotEmpty();
+            assertThat(copies).isInstanceOf(ArrayList.class);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void copyAll_shouldCopyNonRandomAccessAndMixedCollectionsSequentially() {
+        ObjectFactoryUtilSettings.setBulkParallelCostThreshold(1);
+        LinkedList<Object> sources = new LinkedList<>(primitiveFoos(3 * BulkCopier.MIN_CHUNK_SIZE));
+        sources.add(1, new GraphNode("node"));
+
+        List<Object> copies = BulkCopier.copyAll(sources, null);
+
+        assertThat(copies).hasSize(sources.size());
+        assertThat(copies.get(1)).isInstanceOf(GraphNode.class).isNotSameAs(sources.get(1));
+        assertThat(((GraphNode) copies.get(1)).getName()).isEqualTo("node");
+        assertThat(((PrimitiveFoo) copies.get(2)).getIntValue()).isEqualTo(1);
+    }
+
+    @Test
+    void copyAll_shouldShareBatchScopeAcrossChunks() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ObjectFactoryUtilSettings.setBulkParallelCostThreshold(1);
+        ObjectFactoryUtilSettings.setBulkCopyExecutor(pool);
+        ObjectFactoryUtilSettings.setBatchIdentityScopeEnabled(true);
+        try {
+            GraphNode shared = new GraphNode("shared");
+            List<GraphNode> sources = IntStream.range(0, 4 * BulkCopier.MIN_CHUNK_SIZE)
+                    .mapToObj(i -> {
+                        GraphNode node = new GraphNode("node-" + i);
+                        node.setPartner(shared);
+                        return node;
+                    })
+                    .toList();
+
+            List<GraphNode> copies = ObjectFactoryUtil.copyAllObjectsFromCollection(sources);
+
+            GraphNode sharedCopy = copies.getFirst().getPartner();
+            assertThat(sharedCopy).isNotSameAs(shared);
+            assertThat(copies).allSatisfy(copy -> assertThat(copy.getPartner()).isSameAs(sharedCopy));
+            assertThat(copies.getLast().getName()).isEqualTo("node-" + (sources.size() - 1));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void copyAll_shouldRejectNullElementsInParallelChunks() {
+        ObjectFactoryUtilSettings.setBulkParallelCostThreshold(1);
+        List<PrimitiveFoo> sources = new ArrayList<>(primitiveFoos(4 * BulkCopier.MIN_CHUNK_SIZE));
+        sources.set(sources.size() - 1, null);
+
+        assertThatThrownBy(() -> BulkCopier.copyAll(sources, PrimitiveBar.class))
+                .isInstanceOf(ApiException.class);
+    }
+
+    private static List<PrimitiveFoo> primitiveFoos(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> PrimitiveFoo.builder().intValue(i).longValue(i).build())
+                .toList();
+    }
+}
@@ -6,7 +6,11 @@ import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
 import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
 import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
 import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestDest;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestSource;
 import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -15,9 +19,21 @@ import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -52,6 +68,33 @@ class CollectionMapClonerTest {
     private List<Number> numberList;
     @SuppressWarnings("unused")
     private Map<String, Number> stringNumberMap;
+    @SuppressWarnings("unused")
+    private Set<StatusTestDest> statusSet;
+    @SuppressWarnings("unused")
+    private List<Object> objectList;
+    @SuppressWarnings("unused")
+    private SortedSet<String> sortedStringSet;
+    @SuppressWarnings("unused")
+    private TreeSet<PrimitiveFoo> primitiveFooTreeSet;
+    @SuppressWarnings("unused")
+    private ConcurrentSkipListSet<String> skipListStringSet;
+    @SuppressWarnings("unused")
+    private PriorityQueue<String> stringPriorityQueue;
+    @SuppressWarnings("unused")
+    private TreeMap<String, String> treeStringMap;
+    @SuppressWarnings("unused")
+    private ConcurrentSkipListMap<String, String> skipListStringMap;
+    @SuppressWarnings("unused")
+    private ConcurrentNavigableMap<String, String> navigableStringMap;
+    @SuppressWarnings({"unused", "rawtypes"})
+    private EnumSet rawEnumSet;
+    @SuppressWarnings({"unused", "rawtypes"})
+    private EnumMap rawEnumMap;
+
+    @AfterEach
+    void resetSettings() {
+        ObjectFactoryUtilSettings.setImmutableSharingEnabled(false);
+    }
 
     private Type genericTypeOf(String fieldName) throws NoSuchFieldException {
         Field f = CollectionMapClonerTest.class.getDeclaredField(fieldName);
@@ -354,4 +397,186 @@ class CollectionMapClonerTest {
         assertThat(cloned).containsKeys("a", "b");
     }
 
+    // ==================== element-wise copy ====================
+
+    @Test
+    void serializingCloneCollectionMap_shouldCopyHeterogeneousElementsIndividually() throws Exception {
+        ObjectFoo foo = ObjectFoo.builder().integerValue(1).build();
+        List<Object> source = new ArrayList<>(List.of("text", 42, foo));
+        Type type = genericTypeOf("objectList");
+
+        @SuppressWarnings("unchecked")
+        List<Object> cloned = (List<Object>) CollectionMapCloner.serializingCloneCollectionMap(source, type);
+
+        assertThat(cloned).hasSize(3);
+        assertThat(cloned.get(0)).isSameAs(source.get(0));
+        assertThat(cloned.get(1)).isSameAs(source.get(1));
+        assertThat(cloned.get(2))
+                .isInstanceOf(ObjectFoo.class)
+                .isNotSameAs(foo);
+        assertThat(((ObjectFoo) cloned.get(2)).getIntegerValue()).isEqualTo(1);
+    }
+
+    @Test
+    void serializingCloneCollectionMap_shouldConvertEnumElementsIntoDeclaredSet() throws Exception {
+        Set<StatusTestSource> source = new LinkedHashSet<>(List.of(StatusTestSource.INACTIVE, StatusTestSource.ACTIVE));
+        Type type = genericTypeOf("statusSet");
+
+        Object result = CollectionMapCloner.serializingCloneCollectionMap(source, type);
+
+        assertThat(result).isInstanceOf(LinkedHashSet.class);
+        @SuppressWarnings("unchecked")
+        Set<Object> cloned = (Set<Object>) result;
+        assertThat(cloned).containsExactly(StatusTestDest.INACTIVE, StatusTestDest.ACTIVE);
+    }
+
+    @Test
+    void serializingCloneCollectionMap_shouldBuildSortedSetForSortedDeclaredType() throws Exception {
+        SortedSet<String> source = new TreeSet<>(List.of("b", "a"));
+        Type type = genericTypeOf("sortedStringSet");
+
+        Object result = CollectionMapCloner.serializingCloneCollectionMap(source, type);
+
+        assertThat(result)
+                .isInstanceOf(TreeSet.class)
+                .isNotSameAs(source);
+        @SuppressWarnings("unchecked")
+        Set<Object> cloned = (Set<Object>) result;
+        assertThat(cloned).containsExactly("a", "b");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void serializingCloneCollectionMap_shouldKeepTheComparatorOfConcreteSortedSets() throws Exception {
+        TreeSet<PrimitiveFoo> source = new TreeSet<>(Comparator.comparingInt(PrimitiveFoo::getIntValue).reversed());
+        source.add(PrimitiveFoo.builder().intValue(1).build());
+        source.add(PrimitiveFoo.builder().intValue(2).build());
+        ConcurrentSkipListSet<String> skipList = new ConcurrentSkipListSet<>(Comparator.reverseOrder());
+        skipList.addAll(List.of("a", "b"));
+
+        Object tree = CollectionMapCloner.serializingCloneCollectionMap(source, genericTypeOf("primitiveFooTreeSet"));
+        Object concurrent = CollectionMapCloner.serializingCloneCollectionMap(skipList, genericTypeOf("skipListStringSet"));
+
+        assertThat(tree).isInstanceOf(TreeSet.class).isNotSameAs(source);
+        assertThat(((TreeSet<PrimitiveFoo>) tree).comparator()).isSameAs(source.comparator());
+        assertThat((TreeSet<PrimitiveFoo>) tree).extracting(PrimitiveFoo::getIntValue).containsExactly(2, 1);
+        assertThat(concurrent).isInstanceOf(ConcurrentSkipListSet.class);
+        assertThat((Set<String>) concurrent).containsExactly("b", "a");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void serializingCloneCollectionMap_shouldKeepTheComparatorOfPriorityQueues() throws Exception {
+        PriorityQueue<String> source = new PriorityQueue<>(Comparator.reverseOrder());
+        source.addAll(List.of("a", "c", "b"));
+
+        Object result = CollectionMapCloner.serializingCloneCollectionMap(source, genericTypeOf("stringPriorityQueue"));
+
+        assertThat(result).isInstanceOf(PriorityQueue.class).isNotSameAs(source);
+        PriorityQueue<String> cloned = (PriorityQueue<String>) result;
+        assertThat(cloned.comparator()).isSameAs(source.comparator());
+        assertThat(cloned.poll()).isEqualTo("c");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void serializingCloneCollectionMap_shouldKeepTheComparatorOfSortedMaps() throws Exception {
+        TreeMap<String, String> tree = new TreeMap<>(Comparator.reverseOrder());
+        tree.putAll(Map.of("a", "1", "b", "2"));
+        ConcurrentSkipListMap<String, String> skipList = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+        skipList.putAll(tree);
+
+        Object treeCopy = CollectionMapCloner.serializingCloneCollectionMap(tree, genericTypeOf("treeStringMap"));
+        Object skipListCopy = CollectionMapCloner.serializingCloneCollectionMap(skipList, genericTypeOf("skipListStringMap"));
+        Object navigableCopy = CollectionMapCloner.serializingCloneCollectionMap(skipList, genericTypeOf("navigableStringMap"));
+
+        assertThat(treeCopy).isInstanceOf(TreeMap.class).isNotSameAs(tree);
+        assertThat(((TreeMap<String, String>) treeCopy).keySet()).containsExactly("b", "a");
+        assertThat(skipListCopy).isInstanceOf(ConcurrentSkipListMap.class).isNotSameAs(skipList);
+        assertThat(((ConcurrentSkipListMap<String, String>) skipListCopy).keySet()).containsExactly("b", "a");
+        assertThat(navigableCopy).isInstanceOf(ConcurrentSkipListMap.class).isNotSameAs(skipList);
+        assertThat(((ConcurrentSkipListMap<String, String>) navigableCopy).comparator()).isSameAs(skipList.comparator());
+    }
+
+    @Test
+    void serializingCloneCollectionMap_shouldTakeTheEnumTypeOfAnUndeclaredEnumSetFromTheSource() throws Exception {
+        EnumSet<StatusTestSource> source = EnumSet.of(StatusTestSource.ACTIVE);
+        EnumSet<StatusTestSource> empty = EnumSet.noneOf(StatusTestSource.class);
+
+        Object result = CollectionMapCloner.serializingCloneCollectionMap(source, genericTypeOf("rawEnumSet"));
+        Object emptyResult = CollectionMapCloner.serializingCloneCollectionMap(empty, genericTypeOf("rawEnumSet"));
+
+        assertThat(result).isInstanceOf(EnumSet.class).isNotSameAs(source).isEqualTo(source);
+        assertThat(emptyResult).isInstanceOf(EnumSet.class).isNotSameAs(empty).isEqualTo(empty);
+    }
+
+    @Test
+    void serializingCloneCollectionMap_shouldTakeTheEnumTypeOfAnUndeclaredEnumMapFromTheSource() throws Exception {
+        EnumMap<StatusTestSource, String> source = new EnumMap<>(Map.of(StatusTestSource.ACTIVE, "on"));
+        EnumMap<StatusTestSource, String> empty = new EnumMap<>(StatusTestSource.class);
+
+        Object result = CollectionMapCloner.serializingCloneCollectionMap(source, genericTypeOf("rawEnumMap"));
+        Object emptyResult = CollectionMapCloner.serializingCloneCollectionMap(empty, genericTypeOf("rawEnumMap"));
+
+        assertThat(result).isInstanceOf(EnumMap.class).isNotSameAs(source).isEqualTo(source);
+        assertThat(emptyResult).isInstanceOf(EnumMap.class).isNotSameAs(empty);
+        @SuppressWarnings("unchecked")
+        EnumMap<StatusTestSource, String> emptyCopy = (EnumMap<StatusTestSource, String>) emptyResult;
+        emptyCopy.put(StatusTestSource.INACTIVE, "off");
+        assertThat(emptyCopy).containsEntry(StatusTestSource.INACTIVE, "off");
+    }
+
+    @Test
+    void serializingCloneCollectionMap_shouldKeepNullElements() throws Exception {
+        List<PrimitiveFoo> source = new ArrayList<>();
+        source.add(null);
+        source.add(new PrimitiveFoo());
+        Type type = genericTypeOf("primitiveFooList");
+
+        @SuppressWarnings("unchecked")
+        List<PrimitiveFoo> cloned = (List<PrimitiveFoo>) CollectionMapCloner.serializingCloneCollectionMap(source, type);
+
+        assertThat(cloned).hasSize(2);
+        assertThat(cloned.getFirst()).isNull();
+        assertThat(cloned.get(1)).isNotNull().isNotSameAs(source.get(1));
+    }
+
+    // ==================== immutable sharing ====================
+
+    @Test
+    void serializingCloneCollectionMap_shouldShareImmutableCollections_whenSharingEnabled() throws Exception {
+        ObjectFactoryUtilSettings.setImmutableSharingEnabled(true);
+        List<String> list = List.of("a", "b");
+        Map<String, String> map = Map.of("key", "value");
+        List<String> singleton = Collections.singletonList("a");
+
+        assertThat(CollectionMapCloner.serializingCloneCollectionMap(list, genericTypeOf("stringList"))).isSameAs(list);
+        assertThat(CollectionMapCloner.serializingCloneCollectionMap(map, genericTypeOf("stringStringMap"))).isSameAs(map);
+        assertThat(CollectionMapCloner.serializingCloneCollectionMap(singleton, genericTypeOf("stringList")))
+                .isSameAs(singleton);
+    }
+
+    @Test
+    void serializingCloneCollectionMap_shouldCopyImmutableCollections_whenSharingDisabled() throws Exception {
+        List<String> list = List.of("a", "b");
+
+        Object result = CollectionMapCloner.serializingCloneCollectionMap(list, genericTypeOf("stringList"));
+
+        assertThat(result).isNotSameAs(list).isEqualTo(list);
+    }
+
+    @Test
+    void serializingCloneCollectionMap_shouldCopyCollectionsWithMutableParts_whenSharingEnabled() throws Exception {
+        ObjectFactoryUtilSettings.setImmutableSharingEnabled(true);
+        List<PrimitiveFoo> mutableElements = List.of(PrimitiveFoo.builder().intValue(1).build());
+        List<String> view = Collections.unmodifiableList(new ArrayList<>(List.of("a")));
+        List<List<PrimitiveFoo>> nested = List.of(mutableElements);
+
+        assertThat(CollectionMapCloner.serializingCloneCollectionMap(mutableElements, genericTypeOf("primitiveFooList")))
+                .isNotSameAs(mutableElements);
+        assertThat(CollectionMapCloner.serializingCloneCollectionMap(view, genericTypeOf("stringList")))
+                .isNotSameAs(view);
+        assertThat(CollectionMapCloner.serializingCloneCollectionMap(nested, genericTypeOf("nestedPrimitiveFooList")))
+                .isNotSameAs(nested);
+    }
 }
@@ -0,0 +1,144 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.factory.FactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.config.TestSerializerConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.CopyConstructor;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.exception.ErrorMessages;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {
+        FactoryUtil.class,
+        TestSerializerConfiguration.class
+})
+class ConstructorBindingTest {
+
+    public static class PersonEntity {
+        private String name;
+        private int age;
+        private List<String> tags = new ArrayList<>();
+    }
+
+    record PersonView(String name, int age, List<String> tags) {
+    }
+
+    record Node(String name, List<Node> children) {
+    }
+
+    public static class Price {
+        private final String currency;
+        private final long cents;
+        private String note;
+
+        @CopyConstructor({"currency", "cents"})
+        Price(String currency, long cents) {
+            this.currency = currency;
+            this.cents = cents;
+        }
+    }
+
+    public static class Discount {
+        private final String currency;
+        private final long cents;
+
+        @CopyConstructor({"currency", "cents"})
+        Discount(String currency, long cents) {
+            this.currency = currency;
+            this.cents = cents;
+        }
+    }
+
+    public static class Ambiguous {
+        private final String value;
+
+        @CopyConstructor({"value"})
+        Ambiguous(String value) {
+            this.value = value;
+        }
+
+        @CopyConstructor({"value"})
+        Ambiguous(StringBuilder value) {
+            this.value = value.toString();
+        }
+    }
+
+    public static class Mismatched {
+        private final String value;
+
+        @CopyConstructor({"missing"})
+        Mismatched(String value) {
+            this.value = value;
+        }
+    }
+
+    @Test
+    void of_shouldBindCanonicalConstructorOfRecords() {
+        ConstructorBinding binding = ConstructorBinding.of(PersonView.class);
+
+        assertThat(binding).isNotNull();
+        assertThat(binding.parameterCount()).isEqualTo(3);
+        assertThat(binding.parameterField(1).getName()).isEqualTo("age");
+        assertThat(ConstructorBinding.of(PersonEntity.class)).isNull();
+    }
+
+    @Test
+    void createFromObject_shouldConstructRecordDestinations() {
+        PersonEntity entity = new PersonEntity();
+        entity.name = "ana";
+        entity.age = 30;
+        entity.tags.add("admin");
+
+        PersonView view = ObjectFactoryUtil.createFromObject(entity, PersonView.class);
+        PersonView copy = ObjectFactoryUtil.createFromObject(view);
+
+        assertThat(view).isEqualTo(new PersonView("ana", 30, List.of("admin")));
+        assertThat(view.tags()).isNotSameAs(entity.tags);
+        assertThat(copy).isEqualTo(view).isNotSameAs(view);
+    }
+
+    @Test
+    void createFromObject_shouldConstructAnnotatedDestinationsAndWriteRemainingFields() {
+        Price price = new Price("EUR", 1999);
+        price.note = "promo";
+
+        Price copy = ObjectFactoryUtil.createFromObject(price);
+        Discount discount = ObjectFactoryUtil.createFromObject(new PersonEntity(), Discount.class);
+
+        assertThat(copy).isNotSameAs(price);
+        assertThat(copy.currency).isEqualTo("EUR");
+        assertThat(copy.cents).isEqualTo(1999);
+        assertThat(copy.note).isEqualTo("promo");
+        assertThat(discount.currency).isNull();
+        assertThat(discount.cents).isZero();
+    }
+
+    @Test
+    void of_shouldRejectInvalidAnnotatedConstructors() {
+        assertThatThrownBy(() -> ConstructorBinding.of(Ambiguous.class))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining(ErrorMessages.COPY_CONSTRUCTOR_INVALID);
+        assertThatThrownBy(() -> ConstructorBinding.of(Mismatched.class))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining(ErrorMessages.COPY_CONSTRUCTOR_INVALID);
+    }
+
+    @Test
+    void createFromObject_shouldRejectCyclesThroughConstructedObjects() {
+        List<Node> children = new ArrayList<>();
+        Node root = new Node("root", children);
+        children.add(root);
+
+        assertThatThrownBy(() -> ObjectFactoryUtil.createFromObject(root))
+                .isInstanceOf(ApiException.class)
+                .rootCause()
+                .hasMessageContaining(ErrorMessages.COPY_CONSTRUCTOR_CYCLE);
+    }
+}
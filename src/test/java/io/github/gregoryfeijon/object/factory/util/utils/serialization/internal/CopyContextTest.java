@@ -0,0 +1,112 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CopyContextTest {
+
+    @Test
+    void within_shouldBindContextOnlyDuringOperation() {
+        assertThat(CopyContext.current()).isNull();
+
+        CopyContext bound = CopyContext.within(CopyContext::current);
+
+        assertThat(bound).isNotNull();
+        assertThat(CopyContext.current()).isNull();
+    }
+
+    @Test
+    void within_shouldReuseContextWhenNested() {
+        CopyContext.within(() -> {
+            CopyContext outer = CopyContext.current();
+            assertThat(CopyContext.within(CopyContext::current)).isSameAs(outer);
+            return null;
+        });
+    }
+
+    @Test
+    void register_shouldMatchSourceByIdentityAndTargetType() {
+        CopyContext.within(() -> {
+            CopyContext context = CopyContext.current();
+            List<String> source = new ArrayList<>();
+            Object copy = new Object();
+
+            assertThat(context.register(source, String.class, copy)).isNull();
+
+            assertThat(context.lookup(source, String.class)).isSameAs(copy);
+            assertThat(context.lookup(new ArrayList<>(), String.class)).isNull();
+            assertThat(context.lookup(source, Integer.class)).isNull();
+            assertThat(context.register(source, String.class, new Object())).isSameAs(copy);
+            assertThat(context.size()).isEqualTo(1);
+            return null;
+        });
+    }
+
+    @Test
+    void register_shouldKeepNestedCopiesAcrossShare() {
+        CopyContext.within(() -> {
+            CopyContext context = CopyContext.current();
+            Object root = new Object();
+            Object nested = new Object();
+            Object rootCopy = new Object();
+            Object nestedCopy = new Object();
+
+            context.register(root, Object.class, rootCopy);
+            context.register(nested, Object.class, nestedCopy);
+            context.share();
+            Object forked = new Object();
+            Object forkedCopy = new Object();
+            CompletableFuture.runAsync(() -> CopyContext.runBound(context,
+                    () -> context.register(forked, Object.class, forkedCopy))).join();
+
+            assertThat(context.lookup(root, Object.class)).isSameAs(rootCopy);
+            assertThat(context.lookup(nested, Object.class)).isSameAs(nestedCopy);
+            assertThat(context.lookup(forked, Object.class)).isSameAs(forkedCopy);
+            assertThat(context.register(nested, Object.class, new Object())).isSameAs(nestedCopy);
+            assertThat(context.size()).isEqualTo(3);
+            return null;
+        });
+    }
+
+    @Test
+    void beginConstruction_shouldDetectOnlyTheSameOngoingConstruction() {
+        CopyContext.within(() -> {
+            CopyContext context = CopyContext.current();
+            Object outer = new Object();
+            Object inner = new Object();
+
+            assertThat(context.beginConstruction(outer, Object.class)).isTrue();
+            assertThat(context.beginConstruction(inner, Object.class)).isTrue();
+            assertThat(context.beginConstruction(outer, Object.class)).isFalse();
+            assertThat(context.beginConstruction(inner, Object.class)).isFalse();
+
+            context.endConstruction(inner, Object.class);
+            context.endConstruction(outer, Object.class);
+
+            assertThat(context.beginConstruction(outer, Object.class)).isTrue();
+            assertThat(context.beginConstruction(inner, Object.class)).isTrue();
+            return null;
+        });
+    }
+
+    @Test
+    void runBound_shouldBindContextOnOtherThreads() {
+        CopyContext.within(() -> {
+            CopyContext context = CopyContext.current();
+            CopyContext seen = CompletableFuture.supplyAsync(() -> {
+                CopyContext[] holder = new CopyContext[1];
+                CopyContext.runBound(context, () -> holder[0] = CopyContext.current());
+                assertThat(CopyContext.current()).isNull();
+                return holder[0];
+            }).join();
+
+            assertThat(seen).isSameAs(context);
+            return null;
+        });
+    }
+}
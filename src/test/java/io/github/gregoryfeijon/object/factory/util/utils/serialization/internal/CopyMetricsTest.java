@@ -0,0 +1,115 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.factory.FactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.config.TestSerializerConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CacheStatistics;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyMetricsListener;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {
+        FactoryUtil.class,
+        TestSerializerConfiguration.class
+})
+class CopyMetricsTest {
+
+    private final RecordingListener listener = new RecordingListener();
+
+    @AfterEach
+    void resetSettings() {
+        ObjectFactoryUtilSettings.setMetricsListener(null);
+    }
+
+    @Test
+    void copy_shouldReportLatencyAndPaths() {
+        ObjectFactoryUtilSettings.setMetricsListener(listener);
+        FooWrapper source = FooWrapper.builder()
+                .primitiveFoo(PrimitiveFoo.builder().intValue(1).build())
+                .objectFoo(ObjectFoo.builder().stringValue("foo").build())
+                .primitiveFooList(List.of(PrimitiveFoo.builder().longValue(2L).build()))
+                .build();
+
+        ObjectFactoryUtil.createFromObject(source, BarWrapper.class);
+
+        assertThat(listener.copies).contains(FooWrapper.class.getSimpleName() + "->" + BarWrapper.class.getSimpleName());
+        assertThat(listener.paths.keySet())
+                .contains(CopyPath.DIRECT, CopyPath.NESTED_COPY, CopyPath.COLLECTION_CLONE);
+    }
+
+    @Test
+    void copy_shouldReportNothingWithoutListener() {
+        ObjectFactoryUtil.createFromObject(PrimitiveFoo.builder().intValue(1).build());
+
+        assertThat(listener.copies).isEmpty();
+        assertThat(listener.paths).isEmpty();
+    }
+
+    @Test
+    void serializingClones_shouldReportSerializedSize() {
+        ObjectFactoryUtilSettings.setMetricsListener(listener);
+
+        ObjectCloner.cloneToBinaryFormat(BigInteger.TEN);
+        ObjectCloner.cloneToJsonFormat(ObjectFoo.builder().stringValue("foo").build(), ObjectFoo.class);
+
+        assertThat(listener.serializedBytes.get(CopyPath.BINARY_CLONE).sum()).isPositive();
+        assertThat(listener.serializedBytes.get(CopyPath.JSON_CLONE).sum()).isPositive();
+        assertThat(listener.paths.keySet()).contains(CopyPath.BINARY_CLONE, CopyPath.JSON_CLONE);
+    }
+
+    @Test
+    void cacheStatistics_shouldCountHitsWhileListenerIsInstalled() {
+        ObjectFactoryUtilSettings.setMetricsListener(listener);
+        CacheStatistics copyPlans = CacheStatistics.all().stream()
+                .filter(statistics -> statistics.name().equals("copyPlan"))
+                .findFirst()
+                .orElseThrow();
+        long hitsBefore = copyPlans.hitCount();
+
+        ObjectFactoryUtil.createFromObject(PrimitiveFoo.builder().intValue(1).build());
+        ObjectFactoryUtil.createFromObject(PrimitiveFoo.builder().intValue(2).build());
+
+        assertThat(copyPlans.hitCount()).isGreaterThan(hitsBefore);
+        assertThat(copyPlans.size()).isPositive();
+        assertThat(CacheStatistics.all()).extracting(CacheStatistics::name).doesNotHaveDuplicates().hasSize(16);
+    }
+
+    private static final class RecordingListener implements CopyMetricsListener {
+
+        private final Queue<String> copies = new ConcurrentLinkedQueue<>();
+        private final Map<CopyPath, LongAdder> paths = new ConcurrentHashMap<>();
+        private final Map<CopyPath, LongAdder> serializedBytes = new ConcurrentHashMap<>();
+
+        @Override
+        public void copyCompleted(Class<?> sourceClass, Class<?> destClass, long nanos) {
+            copies.add(sourceClass.getSimpleName() + "->" + destClass.getSimpleName());
+        }
+
+        @Override
+        public void pathTaken(CopyPath path) {
+            paths.computeIfAbsent(path, key -> new LongAdder()).increment();
+        }
+
+        @Override
+        public void serialized(CopyPath path, Class<?> type, long bytes) {
+            serializedBytes.computeIfAbsent(path, key -> new LongAdder()).add(bytes);
+        }
+    }
+}
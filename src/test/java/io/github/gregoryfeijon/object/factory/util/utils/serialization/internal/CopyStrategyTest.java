@@ -0,0 +1,45 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestDest;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestSource;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CopyStrategyTest {
+
+    static Stream<Arguments> resolveProvider() {
+        return Stream.of(
+                Arguments.of(int.class, int.class, CopyStrategy.PRIMITIVE),
+                Arguments.of(StatusTestSource.class, StatusTestSource.class, CopyStrategy.PRIMITIVE),
+                Arguments.of(String.class, String.class, CopyStrategy.WRAPPER),
+                Arguments.of(BigDecimal.class, BigDecimal.class, CopyStrategy.WRAPPER),
+                Arguments.of(Integer.class, int.class, CopyStrategy.WRAPPER_TO_PRIMITIVE),
+                Arguments.of(int.class, Integer.class, CopyStrategy.PRIMITIVE_TO_WRAPPER),
+                Arguments.of(StatusTestSource.class, StatusTestDest.class, CopyStrategy.ENUM),
+                Arguments.of(String.class, StatusTestDest.class, CopyStrategy.ENUM),
+                Arguments.of(List.class, List.class, CopyStrategy.COLLECTION),
+                Arguments.of(Map.class, Map.class, CopyStrategy.COLLECTION),
+                Arguments.of(List.class, Set.class, CopyStrategy.IGNORED),
+                Arguments.of(PrimitiveFoo.class, PrimitiveFoo.class, CopyStrategy.NESTED),
+                Arguments.of(byte[].class, byte[].class, CopyStrategy.ARRAY),
+                Arguments.of(int[].class, Integer[].class, CopyStrategy.ARRAY),
+                Arguments.of(String.class, Object.class, CopyStrategy.WRAPPER)
+        );
+    }
+
+    @ParameterizedTest(name = "{0} -> {1} resolves to {2}")
+    @MethodSource("resolveProvider")
+    void resolve_shouldPreDecideStrategyFromDeclaredTypes(Class<?> sourceType, Class<?> destType, CopyStrategy expected) {
+        assertThat(CopyStrategy.resolve(sourceType, destType)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestDest;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ElementStrategyTest {
+
+    @Test
+    void resolve_shouldShareImmutableElementsAssignableToDeclaredType() {
+        ElementStrategy strategy = ElementStrategy.resolve(Integer.class, Number.class);
+
+        assertThat(strategy.kind()).isEqualTo(ElementStrategy.Kind.SHARE);
+        assertThat(strategy.targetType()).isEqualTo(Integer.class);
+    }
+
+    @Test
+    void resolve_shouldConvertEnumsByConstantName() {
+        ElementStrategy toEnum = ElementStrategy.resolve(StatusTestSource.class, StatusTestDest.class);
+        ElementStrategy toString = ElementStrategy.resolve(StatusTestSource.class, String.class);
+
+        assertThat(toEnum.apply(StatusTestSource.ACTIVE)).isEqualTo(StatusTestDest.ACTIVE);
+        assertThat(toString.apply(StatusTestSource.INACTIVE)).isEqualTo("INACTIVE");
+    }
+
+    @Test
+    void resolve_shouldKeepRuntimeClassForAssignableMutableElements() {
+        ElementStrategy strategy = ElementStrategy.resolve(Date.class, Object.class);
+
+        assertThat(strategy.kind()).isEqualTo(ElementStrategy.Kind.CLONE);
+        assertThat(strategy.targetType()).isEqualTo(Date.class);
+    }
+
+    @Test
+    void resolve_shouldConvertIntoDeclaredTypeWhenNotAssignable() {
+        ElementStrategy strategy = ElementStrategy.resolve(ObjectFoo.class, ObjectBar.class);
+
+        assertThat(strategy.kind()).isEqualTo(ElementStrategy.Kind.CLONE);
+        assertThat(strategy.targetType()).isEqualTo(ObjectBar.class);
+    }
+}
@@ -14,6 +14,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class EnumConverterTest {
 
+    enum Level {
+        LOW {
+            @Override
+            public String toString() {
+                return "ACTIVE";
+            }
+        },
+        HIGH
+    }
+
     @SuppressWarnings("unused")
     private StatusTestSource sourceEnum = StatusTestSource.ACTIVE;
     @SuppressWarnings("unused")
@@ -92,4 +102,21 @@ class EnumConverterTest {
 
         assertThat(result).isNull();
     }
+
+    @Test
+    void translate_shouldMatchConstantsByToStringAndMapMissingOnesToNull() {
+        assertThat(EnumConverter.translate(Level.LOW, StatusTestDest.class)).isEqualTo(StatusTestDest.ACTIVE);
+        assertThat(EnumConverter.translate(Level.HIGH, StatusTestDest.class)).isNull();
+    }
+
+    @Test
+    void nameOf_shouldReturnCachedToString() {
+        assertThat(EnumConverter.nameOf(Level.LOW)).isEqualTo("ACTIVE");
+        assertThat(EnumConverter.nameOf(StatusTestSource.INACTIVE)).isEqualTo("INACTIVE");
+    }
+
+    @Test
+    void findEnumConstantEquivalent_shouldReturnNullForNullValue() {
+        assertThat(EnumConverter.findEnumConstantEquivalent(StatusTestDest.class, null)).isNull();
+    }
 }
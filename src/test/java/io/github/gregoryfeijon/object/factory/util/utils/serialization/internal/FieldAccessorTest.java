@@ -0,0 +1,97 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FieldAccessorTest {
+
+    @SuppressWarnings("unused")
+    static class AccessorHolder {
+        static String staticValue = "static";
+        final String finalValue = "final";
+        private long longValue;
+        private char charValue;
+        private double doubleValue;
+        private String text;
+    }
+
+    private FieldAccessor accessor(Class<?> clazz, String name) throws NoSuchFieldException {
+        return FieldAccessor.of(clazz.getDeclaredField(name));
+    }
+
+    @Test
+    void of_shouldReturnCachedAccessor() throws Exception {
+        Field field = PrimitiveFoo.class.getDeclaredField("intValue");
+
+        assertThat(FieldAccessor.of(field)).isSameAs(FieldAccessor.of(field));
+    }
+
+    @Test
+    void getAndSet_shouldReadAndWritePrivateField() throws Exception {
+        AccessorHolder holder = new AccessorHolder();
+        FieldAccessor accessor = accessor(AccessorHolder.class, "text");
+
+        accessor.set(holder, "value");
+
+        assertThat(accessor.get(holder)).isEqualTo("value");
+        assertThat(holder.text).isEqualTo("value");
+    }
+
+    @Test
+    void set_shouldWidenBoxedPrimitive() throws Exception {
+        AccessorHolder holder = new AccessorHolder();
+
+        accessor(AccessorHolder.class, "longValue").set(holder, 7);
+
+        assertThat(holder.longValue).isEqualTo(7L);
+    }
+
+    @Test
+    void copyPrimitive_shouldCopyBetweenMatchedFields() throws Exception {
+        PrimitiveFoo source = PrimitiveFoo.builder().intValue(42).longValue(7L).boolValue(true).build();
+        PrimitiveBar dest = new PrimitiveBar();
+
+        accessor(PrimitiveFoo.class, "intValue").copyPrimitive(source, dest, accessor(PrimitiveBar.class, "iVal"));
+        accessor(PrimitiveFoo.class, "longValue").copyPrimitive(source, dest, accessor(PrimitiveBar.class, "longValue"));
+        accessor(PrimitiveFoo.class, "boolValue").copyPrimitive(source, dest, accessor(PrimitiveBar.class, "boolValue"));
+
+        assertThat(dest.getIVal()).isEqualTo(42);
+        assertThat(dest.getLongValue()).isEqualTo(7L);
+        assertThat(dest.isBoolValue()).isTrue();
+    }
+
+    @Test
+    void copyPrimitive_shouldHandleCharAndDouble() throws Exception {
+        AccessorHolder source = new AccessorHolder();
+        source.charValue = 'x';
+        source.doubleValue = 1.5d;
+        AccessorHolder dest = new AccessorHolder();
+
+        FieldAccessor charAccessor = accessor(AccessorHolder.class, "charValue");
+        FieldAccessor doubleAccessor = accessor(AccessorHolder.class, "doubleValue");
+        charAccessor.copyPrimitive(source, dest, charAccessor);
+        doubleAccessor.copyPrimitive(source, dest, doubleAccessor);
+
+        assertThat(dest.charValue).isEqualTo('x');
+        assertThat(dest.doubleValue).isEqualTo(1.5d);
+    }
+
+    @Test
+    void get_shouldFallBackToReflection_forStaticField() throws Exception {
+        FieldAccessor accessor = accessor(AccessorHolder.class, "staticValue");
+
+        assertThat(accessor.get(new AccessorHolder())).isEqualTo("static");
+    }
+
+    @Test
+    void get_shouldReadFinalField() throws Exception {
+        FieldAccessor accessor = accessor(AccessorHolder.class, "finalValue");
+
+        assertThat(accessor.get(new AccessorHolder())).isEqualTo("final");
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.factory.FactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.config.TestSerializerConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {
+        FactoryUtil.class,
+        TestSerializerConfiguration.class
+})
+class FieldCopySchedulerTest {
+
+    @AfterEach
+    void resetSettings() {
+        ObjectFactoryUtilSettings.setParallelCostThreshold(ObjectFactoryUtilSettings.DEFAULT_PARALLEL_COST_THRESHOLD);
+        ObjectFactoryUtilSettings.setCopyPool(null);
+    }
+
+    @Test
+    void estimatedCost_shouldWeighFieldsByStrategy() {
+        CopyPlan plan = FieldResolver.resolveCopyPlan(FooWrapper.class, BarWrapper.class);
+
+        int expected = 0;
+        for (int i = 0; i < plan.size(); i++) {
+            expected += plan.strategy(i).cost();
+        }
+        assertThat(plan.estimatedCost()).isEqualTo(expected);
+        assertThat(plan.estimatedCost(0, 1)).isEqualTo(plan.strategy(0).cost());
+    }
+
+    @Test
+    void shouldFork_shouldKeepCheapPlansSequential() {
+        CopyPlan plan = FieldResolver.resolveCopyPlan(PrimitiveFoo.class, PrimitiveBar.class);
+
+        Boolean fork = CopyContext.within(() -> FieldCopyScheduler.shouldFork(plan, CopyContext.current()));
+
+        assertThat(fork).isFalse();
+    }
+
+    @Test
+    void shouldFork_shouldForkExpensivePlansOnlyOutsideParallelCopies() {
+        ObjectFactoryUtilSettings.setParallelCostThreshold(1);
+        CopyPlan plan = FieldResolver.resolveCopyPlan(FooWrapper.class, BarWrapper.class);
+
+        CopyContext.within(() -> {
+            CopyContext context = CopyContext.current();
+            assertThat(FieldCopyScheduler.shouldFork(plan, context)).isTrue();
+            context.fork(() -> assertThat(FieldCopyScheduler.shouldFork(plan, context)).isFalse());
+            return null;
+        });
+        assertThat(FieldCopyScheduler.shouldFork(plan, null)).isFalse();
+    }
+
+    @Test
+    void shouldFork_shouldStaySequentialOnForkJoinWorkers() {
+        ObjectFactoryUtilSettings.setParallelCostThreshold(1);
+        CopyPlan plan = FieldResolver.resolveCopyPlan(FooWrapper.class, BarWrapper.class);
+
+        Boolean fork = ForkJoinPool.commonPool().submit(() ->
+                CopyContext.within(() -> FieldCopyScheduler.shouldFork(plan, CopyContext.current()))).join();
+
+        assertThat(fork).isFalse();
+    }
+
+    @Test
+    void copyFields_shouldCopyInParallelOnConfiguredPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ObjectFactoryUtilSettings.setParallelCostThreshold(1);
+        ObjectFactoryUtilSettings.setCopyPool(pool);
+        try {
+            FooWrapper original = FooWrapper.builder()
+                    .objectFoo(ObjectFoo.builder().stringValue("nested").integerValue(3).build())
+                    .primitiveFoo(new PrimitiveFoo())
+                    .build();
+
+            FooWrapper copy = ObjectFactoryUtil.createFromObject(original);
+
+            assertThat(copy.getObjectFoo()).isNotSameAs(original.getObjectFoo());
+            assertThat(copy.getObjectFoo().getStringValue()).isEqualTo("nested");
+            assertThat(copy.getPrimitiveFoo()).isNotNull();
+            assertThat(pool.getStealCount() + pool.getPoolSize()).isPositive();
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
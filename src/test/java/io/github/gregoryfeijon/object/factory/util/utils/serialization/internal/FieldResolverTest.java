@@ -15,6 +15,7 @@ import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -151,4 +152,59 @@ class FieldResolverTest {
 
         assertThat(fieldMap).isEmpty();
     }
+
+    @Test
+    void resolveCopyPlan_shouldReturnSameCachedInstance() {
+        CopyPlan first = FieldResolver.resolveCopyPlan(PrimitiveFoo.class, PrimitiveBar.class);
+        CopyPlan second = FieldResolver.resolveCopyPlan(PrimitiveFoo.class, PrimitiveBar.class);
+
+        assertThat(first).isSameAs(second);
+        assertThat(first.getSourceClass()).isEqualTo(PrimitiveFoo.class);
+        assertThat(first.getDestClass()).isEqualTo(PrimitiveBar.class);
+    }
+
+    @Test
+    void resolveCopyPlan_shouldAlignFieldsAndStrategies() throws Exception {
+        CopyPlan plan = FieldResolver.resolveCopyPlan(PrimitiveFoo.class, PrimitiveBar.class);
+
+        assertThat(plan.size()).isEqualTo(3);
+        for (int i = 0; i < plan.size(); i++) {
+            assertThat(plan.strategy(i)).isEqualTo(CopyStrategy.PRIMITIVE);
+        }
+        assertThat(plan.toFieldMap())
+                .containsEntry(PrimitiveFoo.class.getDeclaredField("intValue"), PrimitiveBar.class.getDeclaredField("iVal"));
+    }
+
+    @Test
+    void resolveCopyPlan_shouldBeEmptyForNoMatch() {
+        CopyPlan plan = FieldResolver.resolveCopyPlan(MismatchSource.class, MismatchTarget.class);
+
+        assertThat(plan.isEmpty()).isTrue();
+        assertThat(plan.toFieldMap()).isEmpty();
+    }
+
+    @Test
+    void resolveCopyPlan_shouldPreDecideNestedAndCollectionStrategies() {
+        CopyPlan plan = FieldResolver.resolveCopyPlan(FooWrapper.class, BarWrapper.class);
+
+        Map<String, CopyStrategy> strategiesByName = new HashMap<>();
+        for (int i = 0; i < plan.size(); i++) {
+            strategiesByName.put(plan.sourceField(i).getName(), plan.strategy(i));
+        }
+
+        assertThat(strategiesByName)
+                .containsEntry("primitiveFoo", CopyStrategy.NESTED)
+                .containsEntry("primitiveFooList", CopyStrategy.COLLECTION)
+                .containsEntry("objectFooMap", CopyStrategy.COLLECTION)
+                .doesNotContainKey("fieldExcluded");
+    }
+
+    @Test
+    void getDeclaredFieldsHierarchy_shouldSkipSyntheticFields() {
+        List<Field> fields = FieldResolver.getDeclaredFieldsHierarchy(PrimitiveFoo.class);
+
+        assertThat(fields)
+                .extracting(Field::getName)
+                .containsExactly("intValue", "longValue", "boolValue");
+    }
 }
@@ -0,0 +1,118 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.TestEnum;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeneratedCopierFactoryTest {
+
+    @SuppressWarnings("unused")
+    static class MixedHolder {
+        private byte byteValue;
+        private short shortValue;
+        private char charValue;
+        private float floatValue;
+        private double doubleValue;
+        private TestEnum enumValue;
+        private String text;
+        private ObjectFoo nested;
+        private List<String> names;
+        private final String constant = "constant";
+    }
+
+    @Test
+    void resolve_shouldGenerateCachedHiddenClassInSourcePackage() {
+        CopyPlan plan = FieldResolver.resolveCopyPlan(PrimitiveFoo.class, PrimitiveBar.class);
+
+        GeneratedCopier copier = GeneratedCopierFactory.resolve(plan);
+
+        assertThat(copier).isNotNull().isSameAs(GeneratedCopierFactory.resolve(plan));
+        assertThat(copier.getClass().isHidden()).isTrue();
+        assertThat(copier.getClass().getPackageName()).isEqualTo(PrimitiveFoo.class.getPackageName());
+    }
+
+    @Test
+    void resolve_shouldKeepGeneratedCopiersBeyondTheMetadataCacheBound() {
+        CopyPlan plan = FieldResolver.resolveCopyPlan(PrimitiveFoo.class, PrimitiveBar.class);
+        GeneratedCopier copier = GeneratedCopierFactory.resolve(plan);
+        ObjectFactoryUtilSettings.setMetadataCacheMaxEntries(1);
+        try {
+            GeneratedCopierFactory.resolve(FieldResolver.resolveCopyPlan(PrimitiveBar.class, PrimitiveFoo.class));
+            GeneratedCopierFactory.resolve(FieldResolver.resolveCopyPlan(PrimitiveFoo.class, PrimitiveFoo.class));
+            GeneratedCopierFactory.resolve(FieldResolver.resolveCopyPlan(MixedHolder.class, MixedHolder.class));
+
+            assertThat(GeneratedCopierFactory.resolve(plan)).isSameAs(copier);
+        } finally {
+            ObjectFactoryUtilSettings.setMetadataCacheMaxEntries(0);
+        }
+    }
+
+    @Test
+    void copy_shouldCopyPrimitivesBetweenMatchedFields() {
+        PrimitiveFoo source = PrimitiveFoo.builder().intValue(42).longValue(7L).boolValue(true).build();
+        PrimitiveBar dest = new PrimitiveBar();
+
+        GeneratedCopierFactory.resolve(FieldResolver.resolveCopyPlan(PrimitiveFoo.class, PrimitiveBar.class))
+                .copy(source, dest);
+
+        assertThat(dest.getIVal()).isEqualTo(42);
+        assertThat(dest.getLongValue()).isEqualTo(7L);
+        assertThat(dest.isBoolValue()).isTrue();
+    }
+
+    @Test
+    void copy_shouldInlineSimpleFieldsAndDelegateTheRest() {
+        MixedHolder source = new MixedHolder();
+        source.byteValue = 1;
+        source.shortValue = 2;
+        source.charValue = 'c';
+        source.floatValue = 1.5f;
+        source.doubleValue = 2.5d;
+        source.enumValue = TestEnum.ANOTHER_VALUE;
+        source.text = "text";
+        source.nested = ObjectFoo.builder().integerValue(1).stringValue("nested").bigDecimalValue(BigDecimal.TEN).build();
+        source.names = new ArrayList<>(List.of("a", "b"));
+        MixedHolder dest = new MixedHolder();
+
+        GeneratedCopierFactory.resolve(FieldResolver.resolveCopyPlan(MixedHolder.class, MixedHolder.class))
+                .copy(source, dest);
+
+        assertThat(dest.byteValue).isEqualTo((byte) 1);
+        assertThat(dest.shortValue).isEqualTo((short) 2);
+        assertThat(dest.charValue).isEqualTo('c');
+        assertThat(dest.floatValue).isEqualTo(1.5f);
+        assertThat(dest.doubleValue).isEqualTo(2.5d);
+        assertThat(dest.enumValue).isEqualTo(TestEnum.ANOTHER_VALUE);
+        assertThat(dest.text).isEqualTo("text");
+        assertThat(dest.nested).isNotSameAs(source.nested)
+                .usingRecursiveComparison().isEqualTo(source.nested);
+        assertThat(dest.names).isNotSameAs(source.names).containsExactly("a", "b");
+    }
+
+    @Test
+    void isInlinable_shouldOnlyAcceptSameTypeSimpleWritableFields() {
+        CopyPlan plan = FieldResolver.resolveCopyPlan(MixedHolder.class, MixedHolder.class);
+
+        for (int i = 0; i < plan.size(); i++) {
+            String name = plan.sourceField(i).getName();
+            boolean expected = !List.of("nested", "names", "constant").contains(name);
+            assertThat(GeneratedCopierFactory.isInlinable(plan, i)).as(name).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void resolve_shouldReturnNullWhenSourceClassCannotBeOpened() {
+        CopyPlan plan = FieldResolver.resolveCopyPlan(Object.class, Object.class);
+
+        assertThat(GeneratedCopierFactory.resolve(plan)).isNull();
+    }
+}
@@ -0,0 +1,213 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.factory.FactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.config.TestSerializerConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.model.MergeReport;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {
+        FactoryUtil.class,
+        TestSerializerConfiguration.class
+})
+class IncrementalMergerTest {
+
+    public static class Address {
+        private String city;
+        private int number;
+    }
+
+    record Money(String currency, BigDecimal amount) {
+    }
+
+    public static class Contact {
+        private long id;
+        private String name;
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Contact contact && contact.id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(id);
+        }
+    }
+
+    public static class Account {
+        private long id;
+        private String owner;
+        private Integer version;
+        private Address address;
+        private Money balance;
+        private List<String> tags = new ArrayList<>();
+        private Account parent;
+        private List<Address> addresses = new ArrayList<>();
+        private Map<String, Contact> contacts = new LinkedHashMap<>();
+    }
+
+    private static Account account() {
+        Address address = new Address();
+        address.city = "Lisbon";
+        address.number = 10;
+        Account account = new Account();
+        account.id = 1L;
+        account.owner = "ana";
+        account.version = 3;
+        account.address = address;
+        account.balance = new Money("EUR", new BigDecimal("10.00"));
+        account.tags.add("gold");
+        Address billing = new Address();
+        billing.city = "Porto";
+        billing.number = 5;
+        account.addresses.add(billing);
+        Contact contact = new Contact();
+        contact.id = 9L;
+        contact.name = "rui";
+        account.contacts.put("home", contact);
+        return account;
+    }
+
+    @Test
+    void mergeFromObject_shouldReportNothing_whenDestinationIsUpToDate() {
+        Account source = account();
+        Account snapshot = ObjectFactoryUtil.createFromObject(source);
+        Address address = snapshot.address;
+        List<String> tags = snapshot.tags;
+
+        MergeReport report = ObjectFactoryUtil.mergeFromObject(source, snapshot);
+
+        assertThat(report.hasChanges()).isFalse();
+        assertThat(snapshot.address).isSameAs(address);
+        assertThat(snapshot.tags).isSameAs(tags);
+    }
+
+    @Test
+    void mergeFromObject_shouldWriteOnlyChangedFieldsAndDescendIntoNestedObjects() {
+        Account source = account();
+        Account snapshot = ObjectFactoryUtil.createFromObject(source);
+        Address address = snapshot.address;
+        List<String> tags = snapshot.tags;
+        source.owner = "bia";
+        source.address.number = 12;
+        source.balance = new Money("EUR", new BigDecimal("12.50"));
+
+        MergeReport report = ObjectFactoryUtil.mergeFromObject(source, snapshot);
+
+        assertThat(report.changedFields()).containsExactly("owner", "address.number", "balance");
+        assertThat(snapshot.owner).isEqualTo("bia");
+        assertThat(snapshot.address).isSameAs(address);
+        assertThat(snapshot.address.number).isEqualTo(12);
+        assertThat(snapshot.balance).isEqualTo(source.balance);
+        assertThat(snapshot.tags).isSameAs(tags);
+    }
+
+    @Test
+    void mergeFromObject_shouldDeepCopyChangedCollectionsAndNulls() {
+        Account source = account();
+        Account snapshot = ObjectFactoryUtil.createFromObject(source);
+        source.tags.add("vip");
+        source.address = null;
+        source.version = null;
+
+        MergeReport report = ObjectFactoryUtil.mergeFromObject(source, snapshot);
+
+        assertThat(report.changedFields()).containsExactly("version", "address", "tags");
+        assertThat(snapshot.tags).containsExactly("gold", "vip").isNotSameAs(source.tags);
+        assertThat(snapshot.address).isNull();
+        assertThat(snapshot.version).isNull();
+    }
+
+    @Test
+    void mergeFromObject_shouldCopyNestedObjectsMissingFromTheDestination() {
+        Account source = account();
+        Account destination = new Account();
+        destination.id = 1L;
+
+        MergeReport report = ObjectFactoryUtil.mergeFromObject(source, destination);
+
+        assertThat(report.changedFields()).containsExactly("owner", "version", "address", "balance", "tags", "addresses",
+                "contacts");
+        assertThat(destination.address).isNotSameAs(source.address);
+        assertThat(destination.address.city).isEqualTo("Lisbon");
+    }
+
+    @Test
+    void mergeFromObject_shouldReportNothing_whenBeanListIsUpToDate() {
+        Account source = account();
+        Account snapshot = ObjectFactoryUtil.createFromObject(source);
+        List<Address> addresses = snapshot.addresses;
+        Address billing = snapshot.addresses.getFirst();
+
+        MergeReport report = ObjectFactoryUtil.mergeFromObject(source, snapshot);
+
+        assertThat(report.changedFields()).isEmpty();
+        assertThat(snapshot.addresses).isSameAs(addresses);
+        assertThat(snapshot.addresses.getFirst()).isSameAs(billing);
+    }
+
+    @Test
+    void mergeFromObject_shouldMergeElementsInPlace_evenWhenEqualsComparesOnlyTheId() {
+        Account source = account();
+        Account snapshot = ObjectFactoryUtil.createFromObject(source);
+        Address billing = snapshot.addresses.getFirst();
+        Contact contact = snapshot.contacts.get("home");
+        source.addresses.getFirst().number = 6;
+        source.contacts.get("home").name = "rita";
+
+        MergeReport report = ObjectFactoryUtil.mergeFromObject(source, snapshot);
+
+        assertThat(report.changedFields()).containsExactly("addresses[0].number", "contacts[home].name");
+        assertThat(snapshot.addresses.getFirst()).isSameAs(billing);
+        assertThat(billing.number).isEqualTo(6);
+        assertThat(snapshot.contacts.get("home")).isSameAs(contact);
+        assertThat(contact.name).isEqualTo("rita");
+    }
+
+    @Test
+    void mergeFromObject_shouldReplaceCollectionsWhoseShapeChanged() {
+        Account source = account();
+        Account snapshot = ObjectFactoryUtil.createFromObject(source);
+        source.addresses.add(new Address());
+        source.contacts.clear();
+
+        MergeReport report = ObjectFactoryUtil.mergeFromObject(source, snapshot);
+
+        assertThat(report.changedFields()).containsExactly("addresses", "contacts");
+        assertThat(snapshot.addresses).hasSize(2).isNotSameAs(source.addresses);
+        assertThat(snapshot.contacts).isEmpty();
+    }
+
+    @Test
+    void mergeFromObject_shouldTerminateOnCycles() {
+        Account source = account();
+        source.parent = source;
+        Account snapshot = ObjectFactoryUtil.createFromObject(source);
+        source.owner = "bia";
+
+        MergeReport report = ObjectFactoryUtil.mergeFromObject(source, snapshot);
+
+        assertThat(report.changedFields()).containsExactly("owner");
+        assertThat(snapshot.parent).isSameAs(snapshot);
+    }
+
+    @Test
+    void mergeFromObject_shouldRejectNullArguments() {
+        assertThatThrownBy(() -> ObjectFactoryUtil.mergeFromObject(null, new Account()))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> ObjectFactoryUtil.mergeFromObject(account(), null))
+                .isInstanceOf(ApiException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanInstantiationException;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstantiatorTest {
+
+    public static class PublicBean {
+        private String name = "default";
+    }
+
+    static final class PrivateConstructorBean {
+        private PrivateConstructorBean() {
+        }
+    }
+
+    static class ArgumentOnlyBean {
+        ArgumentOnlyBean(String ignored) {
+        }
+    }
+
+    static class FailingBean {
+        FailingBean() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    @Test
+    void newInstance_shouldCreateApplicationClasses() {
+        assertThat(Instantiator.newInstance(PublicBean.class).name).isEqualTo("default");
+        assertThat(Instantiator.newInstance(PrivateConstructorBean.class)).isNotNull();
+    }
+
+    @Test
+    void newInstance_shouldCreateJdkCollections() {
+        assertThat(Instantiator.newInstance(ArrayList.class)).isEmpty();
+        assertThat(Instantiator.newInstance(LinkedHashMap.class)).isEmpty();
+    }
+
+    @Test
+    void newInstance_shouldReturnDistinctInstances() {
+        assertThat(Instantiator.newInstance(PublicBean.class)).isNotSameAs(Instantiator.newInstance(PublicBean.class));
+    }
+
+    @Test
+    void isInstantiable_shouldRejectClassesWithoutUsableNoArgConstructor() {
+        assertThat(Instantiator.isInstantiable(ArgumentOnlyBean.class)).isFalse();
+        assertThat(Instantiator.isInstantiable(AbstractList.class)).isFalse();
+        assertThat(Instantiator.isInstantiable(Runnable.class)).isFalse();
+        assertThat(Instantiator.isInstantiable(int.class)).isFalse();
+        assertThat(Instantiator.isInstantiable(PublicBean.class)).isTrue();
+    }
+
+    @Test
+    void newInstance_shouldThrowBeanInstantiationException_whenNotInstantiable() {
+        assertThatThrownBy(() -> Instantiator.newInstance(ArgumentOnlyBean.class))
+                .isInstanceOf(BeanInstantiationException.class);
+    }
+
+    @Test
+    void newInstance_shouldWrapConstructorFailures() {
+        assertThatThrownBy(() -> Instantiator.newInstance(FailingBean.class))
+                .isInstanceOf(BeanInstantiationException.class)
+                .hasRootCauseMessage("boom");
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetadataCacheTest {
+
+    public static class Payload {
+    }
+
+    @AfterEach
+    void resetSettings() {
+        ObjectFactoryUtilSettings.setMetadataCacheMaxEntries(0);
+    }
+
+    @Test
+    void getOrCompute_shouldComputeClassPairOnce() {
+        MetadataCache<String> cache = new MetadataCache<>("test");
+        AtomicInteger computations = new AtomicInteger();
+
+        String first = cache.getOrCompute(PrimitiveFoo.class, PrimitiveBar.class,
+                (source, dest) -> computations.incrementAndGet() + source.getSimpleName() + dest.getSimpleName());
+        String second = cache.getOrCompute(PrimitiveFoo.class, PrimitiveBar.class,
+                (source, dest) -> computations.incrementAndGet() + "");
+
+        assertThat(second).isSameAs(first).isEqualTo("1PrimitiveFooPrimitiveBar");
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    void getOrCompute_shouldKeepPairDirectionsApartWhenOwnedByDestination() {
+        MetadataCache<String> cache = new MetadataCache<>("test");
+
+        String toApp = cache.getOrCompute(String.class, PrimitiveBar.class, (source, dest) -> "string->bar");
+        String fromApp = cache.getOrCompute(PrimitiveBar.class, String.class, (source, dest) -> "bar->string");
+
+        assertThat(cache.getOrCompute(String.class, PrimitiveBar.class, (source, dest) -> "recomputed"))
+                .isEqualTo(toApp).isEqualTo("string->bar");
+        assertThat(cache.getOrCompute(PrimitiveBar.class, String.class, (source, dest) -> "recomputed"))
+                .isEqualTo(fromApp).isEqualTo("bar->string");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void getOrCompute_shouldNotCacheNull() {
+        MetadataCache<String> cache = new MetadataCache<>("test");
+
+        assertThat(cache.getOrCompute(PrimitiveFoo.class, type -> null)).isNull();
+        assertThat(cache.getOrCompute(PrimitiveFoo.class, Class::getSimpleName)).isEqualTo("PrimitiveFoo");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void getOrCompute_shouldEvictBeyondTheConfiguredBound() {
+        ObjectFactoryUtilSettings.setMetadataCacheMaxEntries(4);
+        MetadataCache<String> cache = new MetadataCache<>("test");
+
+        for (int i = 0; i < 100; i++) {
+            cache.getOrCompute(PrimitiveFoo.class, i, String::valueOf);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void getOrCompute_shouldBoundTheKeyedValuesOfAClassPair() {
+        ObjectFactoryUtilSettings.setMetadataCacheMaxEntries(4);
+        MetadataCache<String> cache = new MetadataCache<>("test");
+
+        for (int i = 0; i < 100; i++) {
+            cache.getOrCompute(PrimitiveFoo.class, PrimitiveBar.class, i, String::valueOf);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(4);
+        assertThat(cache.getOrCompute(PrimitiveFoo.class, PrimitiveBar.class, 99, key -> "recomputed"))
+                .isEqualTo("99");
+        assertThat(cache.getOrCompute(PrimitiveBar.class, PrimitiveFoo.class, 99, key -> "reverse"))
+                .isEqualTo("reverse");
+    }
+
+    @Test
+    void getOrCompute_shouldGiveRecentlyReadEntriesASecondChance() {
+        ObjectFactoryUtilSettings.setMetadataCacheMaxEntries(2);
+        MetadataCache<String> cache = new MetadataCache<>("test");
+        AtomicInteger computations = new AtomicInteger();
+        Function<Integer, String> compute = key -> {
+            computations.incrementAndGet();
+            return String.valueOf(key);
+        };
+
+        cache.getOrCompute(PrimitiveFoo.class, 1, compute);
+        cache.getOrCompute(PrimitiveFoo.class, 2, compute);
+        cache.getOrCompute(PrimitiveFoo.class, 1, compute);
+        cache.getOrCompute(PrimitiveFoo.class, 3, compute);
+        cache.getOrCompute(PrimitiveFoo.class, 1, compute);
+
+        assertThat(computations).hasValue(3);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void getOrCompute_shouldNotPinTheDestinationLoaderOfASiblingPair() throws Exception {
+        MetadataCache<Object> cache = new MetadataCache<>("test");
+        URL classes = MetadataCacheTest.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader sourceLoader = new URLClassLoader(new URL[]{classes}, null)) {
+            Class<?> sourceClass = sourceLoader.loadClass(Payload.class.getName());
+
+            WeakReference<ClassLoader> destLoader = cachePairWithSiblingLoader(cache, sourceClass, classes);
+
+            for (int attempt = 0; attempt < 50 && destLoader.get() != null; attempt++) {
+                System.gc();
+                Thread.sleep(20);
+            }
+            assertThat(destLoader.get()).isNull();
+            assertThat(cache.getOrCompute(sourceClass, Payload.class, (source, dest) -> "recomputed"))
+                    .isEqualTo("recomputed");
+        }
+    }
+
+    @Test
+    void size_shouldDropEntriesOfUnloadedClassesQueuedBehindLiveOnes() throws Exception {
+        MetadataCache<String> cache = new MetadataCache<>("test");
+        cache.getOrCompute(PrimitiveFoo.class, type -> "live");
+
+        WeakReference<ClassLoader> loader = cacheClassOfThrowawayLoader(cache);
+
+        for (int attempt = 0; attempt < 50 && (loader.get() != null || cache.size() > 1); attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertThat(loader.get()).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private static WeakReference<ClassLoader> cacheClassOfThrowawayLoader(MetadataCache<String> cache)
+            throws Exception {
+        URL classes = MetadataCacheTest.class.getProtectionDomain().getCodeSource().getLocation();
+        URLClassLoader loader = new URLClassLoader(new URL[]{classes}, null);
+        cache.getOrCompute(loader.loadClass(Payload.class.getName()), type -> "unloaded");
+        assertThat(cache.size()).isEqualTo(2);
+        loader.close();
+        return new WeakReference<>(loader);
+    }
+
+    private static WeakReference<ClassLoader> cachePairWithSiblingLoader(MetadataCache<Object> cache,
+                                                                         Class<?> sourceClass, URL classes)
+            throws Exception {
+        URLClassLoader destLoader = new URLClassLoader(new URL[]{classes}, null);
+        Class<?> destClass = destLoader.loadClass(Payload.class.getName());
+        assertThat(destClass).isNotSameAs(sourceClass);
+
+        Object value = cache.getOrCompute(sourceClass, destClass, (source, dest) -> List.of(source, dest));
+
+        assertThat(cache.getOrCompute(sourceClass, destClass, (source, dest) -> "recomputed")).isSameAs(value);
+        destLoader.close();
+        return new WeakReference<>(destLoader);
+    }
+}
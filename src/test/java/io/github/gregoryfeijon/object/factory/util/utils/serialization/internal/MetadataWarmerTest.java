@@ -0,0 +1,161 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.factory.FactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.config.TestSerializerConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.CopyMapping;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.CopyWarmup;
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilWarmup;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.metrics.CopyMetricsListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {
+        FactoryUtil.class,
+        TestSerializerConfiguration.class
+})
+class MetadataWarmerTest {
+
+    public static class WarmSource {
+        private String name;
+    }
+
+    public static class WarmDest {
+        private String name;
+    }
+
+    public static class ColdSource {
+        private String name;
+    }
+
+    public static class ColdDest {
+        private String name;
+    }
+
+    public static class DeclaredSource {
+        private String name;
+    }
+
+    public static class DeclaredDest {
+        private String name;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class DeclaredWarmupConfiguration {
+
+        @Bean
+        @CopyWarmup(pairs = @CopyMapping(source = DeclaredSource.class, dest = DeclaredDest.class))
+        ObjectFactoryUtilWarmup objectFactoryUtilWarmup() {
+            return new ObjectFactoryUtilWarmup();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class DuplicatedWarmupConfiguration {
+
+        @Bean
+        @CopyWarmup(pairs = @CopyMapping(source = DeclaredSource.class, dest = DeclaredDest.class))
+        ObjectFactoryUtilWarmup objectFactoryUtilWarmup() {
+            return new ObjectFactoryUtilWarmup(List.of(),
+                    List.of(new ClassPairKey(DeclaredSource.class, DeclaredDest.class)));
+        }
+    }
+
+    private final Map<String, Boolean> firstCopies = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void resetSettings() {
+        ObjectFactoryUtilSettings.setMetricsListener(null);
+    }
+
+    @Test
+    void warmUp_shouldFollowNestedAndElementPairs() {
+        int warmed = ObjectFactoryUtil.warmUp(List.of(new ClassPairKey(FooWrapper.class, BarWrapper.class))).join();
+
+        assertThat(warmed).isGreaterThan(1);
+        assertThat(MetadataWarmer.isWarmedUp(FooWrapper.class, BarWrapper.class)).isTrue();
+        assertThat(MetadataWarmer.isWarmedUp(PrimitiveFoo.class, PrimitiveBar.class)).isTrue();
+        assertThat(MetadataWarmer.isWarmedUp(ObjectFoo.class, ObjectBar.class)).isTrue();
+    }
+
+    @Test
+    void warmUp_shouldRejectEmptyPairs() {
+        List<ClassPairKey> pairs = List.of();
+
+        assertThatThrownBy(() -> ObjectFactoryUtil.warmUp(pairs)).isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void firstCopy_shouldReportWhetherThePairWasWarmedUp() {
+        ObjectFactoryUtil.warmUp(List.of(new ClassPairKey(WarmSource.class, WarmDest.class))).join();
+        ObjectFactoryUtilSettings.setMetricsListener(new CopyMetricsListener() {
+            @Override
+            public void firstCopyCompleted(Class<?> sourceClass, Class<?> destClass, long nanos, boolean warmedUp) {
+                firstCopies.merge(sourceClass.getSimpleName(), warmedUp, (first, second) -> null);
+            }
+        });
+
+        ObjectFactoryUtil.createFromObject(new WarmSource(), WarmDest.class);
+        ObjectFactoryUtil.createFromObject(new WarmSource(), WarmDest.class);
+        ObjectFactoryUtil.createFromObject(new ColdSource(), ColdDest.class);
+
+        assertThat(firstCopies).containsExactlyInAnyOrderEntriesOf(Map.of(
+                WarmSource.class.getSimpleName(), true,
+                ColdSource.class.getSimpleName(), false));
+    }
+
+    @Test
+    void applicationWarmup_shouldScanAnnotatedClasses() {
+        ObjectFactoryUtilWarmup warmup = new ObjectFactoryUtilWarmup(
+                List.of(BarWrapper.class.getPackageName()), List.of());
+
+        int warmed = warmup.warmUp(getClass().getClassLoader()).join();
+
+        assertThat(warmed).isPositive();
+        assertThat(MetadataWarmer.isWarmedUp(BarWrapper.class, BarWrapper.class)).isTrue();
+        assertThat(MetadataWarmer.isWarmedUp(FooWrapper.class, FooWrapper.class)).isTrue();
+    }
+
+    @Test
+    void applicationWarmup_shouldReadItsCopyWarmupDeclaration() {
+        try (AnnotationConfigApplicationContext context =
+                     new AnnotationConfigApplicationContext(DeclaredWarmupConfiguration.class)) {
+            ObjectFactoryUtilWarmup warmup = context.getBean(ObjectFactoryUtilWarmup.class);
+
+            warmup.warmUp(getClass().getClassLoader()).join();
+        }
+
+        assertThat(MetadataWarmer.isWarmedUp(DeclaredSource.class, DeclaredDest.class)).isTrue();
+    }
+
+    @Test
+    void applicationWarmup_shouldRejectConstructorArgumentsNextToCopyWarmup() {
+        assertThatThrownBy(() -> new AnnotationConfigApplicationContext(DuplicatedWarmupConfiguration.class))
+                .hasRootCauseInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void applicationWarmup_shouldRequireCopyWarmupWithoutArguments() {
+        assertThatThrownBy(ObjectFactoryUtilWarmup::new).isInstanceOf(ApiException.class);
+    }
+}
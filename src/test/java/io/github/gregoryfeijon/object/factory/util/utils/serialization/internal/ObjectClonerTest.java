@@ -2,16 +2,24 @@ package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal
 
 import io.github.gregoryfeijon.object.factory.commons.utils.factory.FactoryUtil;
 import io.github.gregoryfeijon.object.factory.util.config.TestSerializerConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
 import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
 import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
 import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
 import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerAdapter;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest(classes = {
         FactoryUtil.class,
@@ -19,6 +27,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 })
 class ObjectClonerTest {
 
+    record Point(int x, int y) {
+    }
+
+    static class NoDefaultConstructor {
+        private final String value;
+
+        NoDefaultConstructor(String value) {
+            this.value = value;
+        }
+    }
+
     @Test
     void serializingClone_shouldReturnNull_whenSourceValueIsNull() {
         Object result = ObjectCloner.serializingClone(null, String.class);
@@ -27,12 +46,20 @@ class ObjectClonerTest {
     }
 
     @Test
-    void serializingClone_shouldCloneNonNullValue() {
+    void serializingClone_shouldShareImmutableValue() {
         String original = "test";
         Object result = ObjectCloner.serializingClone(original, String.class);
 
+        assertThat(result).isSameAs(original);
+    }
+
+    @Test
+    void serializingClone_shouldCloneMutableWrapperValue() {
+        Date original = new Date(0);
+        Object result = ObjectCloner.serializingClone(original, Date.class);
+
         assertThat(result)
-                .isEqualTo("test")
+                .isEqualTo(original)
                 .isNotSameAs(original);
     }
 
@@ -60,7 +87,7 @@ class ObjectClonerTest {
     }
 
     @Test
-    void serializingCloneObjects_shouldUseJsonSerialization_forSameType() {
+    void serializingCloneObjects_shouldCopyReflectively_forSameType() {
         ObjectFoo original = ObjectFoo.builder()
                 .integerValue(10)
                 .stringValue("test")
@@ -77,6 +104,50 @@ class ObjectClonerTest {
         assertThat(cloned.getStringValue()).isEqualTo("test");
     }
 
+    @Test
+    void serializingCloneObjects_shouldApplyCopyExclusions_forSameType() {
+        FooWrapper original = FooWrapper.builder()
+                .objectFoo(ObjectFoo.builder().stringValue("nested").build())
+                .fieldExcludedWithAnnotation("excluded")
+                .build();
+
+        FooWrapper cloned = (FooWrapper) ObjectCloner.serializingCloneObjects(original, FooWrapper.class);
+
+        assertThat(cloned.getObjectFoo()).isNotSameAs(original.getObjectFoo());
+        assertThat(cloned.getObjectFoo().getStringValue()).isEqualTo("nested");
+        assertThat(cloned.getFieldExcludedWithAnnotation()).isNull();
+    }
+
+    @Test
+    void serializingCloneObjects_shouldUseJsonSerialization_forRegisteredJsonType() {
+        FooWrapper original = FooWrapper.builder()
+                .fieldExcludedWithAnnotation("excluded")
+                .build();
+
+        ObjectFactoryUtilSettings.addJsonCopiedType(FooWrapper.class);
+        try {
+            FooWrapper cloned = (FooWrapper) ObjectCloner.serializingCloneObjects(original, FooWrapper.class);
+
+            assertThat(cloned).isNotSameAs(original);
+            assertThat(cloned.getFieldExcludedWithAnnotation()).isEqualTo("excluded");
+        } finally {
+            ObjectFactoryUtilSettings.removeJsonCopiedType(FooWrapper.class);
+        }
+    }
+
+    @Test
+    void canCopyReflectively_shouldRejectTypesWithoutFieldCopySupport() {
+        assertThat(ObjectCloner.canCopyReflectively(ObjectFoo.class)).isTrue();
+        assertThat(ObjectCloner.canCopyReflectively(StringBuilder.class)).isFalse();
+        assertThat(ObjectCloner.canCopyReflectively(ArrayList.class)).isFalse();
+        assertThat(ObjectCloner.canCopyReflectively(NoDefaultConstructor.class)).isFalse();
+    }
+
+    @Test
+    void canCopyReflectively_shouldAcceptRecords() {
+        assertThat(ObjectCloner.canCopyReflectively(Point.class)).isTrue();
+    }
+
     @Test
     void serializingCloneObjects_shouldUseCreateFromObject_forDifferentType() {
         ObjectFoo original = ObjectFoo.builder()
@@ -104,6 +175,28 @@ class ObjectClonerTest {
                 .isNotSameAs(original);
     }
 
+    @Test
+    void cloneToBinaryFormat_shouldUsePublicCloneOfCloneableJdkValues() {
+        Calendar original = Calendar.getInstance();
+        original.setTimeInMillis(1_000L);
+
+        Object result = ObjectCloner.cloneToBinaryFormat(original);
+
+        assertThat(result)
+                .isEqualTo(original)
+                .isNotSameAs(original);
+        assertThat(CopyCache.getOrComputePublicClone(original.getClass(), type -> Optional.empty()))
+                .isPresent();
+    }
+
+    @Test
+    void cloneToBinaryFormat_shouldThrowApiException_whenValueIsNotSerializable() {
+        Object original = new Object();
+
+        assertThatThrownBy(() -> ObjectCloner.cloneToBinaryFormat(original))
+                .isInstanceOf(ApiException.class);
+    }
+
     @Test
     void cloneToJsonFormat_shouldCloneViaJson() {
         PrimitiveFoo original = PrimitiveFoo.builder()
@@ -131,10 +224,18 @@ class ObjectClonerTest {
     }
 
     @Test
-    void serializingCloneObjects_shouldHandleBigDecimalAsBinarySerialization() {
+    void serializingCloneObjects_shouldShareBigDecimal() {
         BigDecimal original = new BigDecimal("123.45");
         Object result = ObjectCloner.serializingCloneObjects(original, BigDecimal.class);
 
-        assertThat(result).isEqualTo(new BigDecimal("123.45"));
+        assertThat(result).isSameAs(original);
+    }
+
+    @Test
+    void serializingCloneObjects_shouldShareImmutableRecord() {
+        Point original = new Point(1, 2);
+        Object result = ObjectCloner.serializingCloneObjects(original, Point.class);
+
+        assertThat(result).isSameAs(original);
     }
 }
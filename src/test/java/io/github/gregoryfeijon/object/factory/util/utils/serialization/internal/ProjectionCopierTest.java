@@ -0,0 +1,166 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.factory.FactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.config.TestSerializerConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyProjection;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.exception.ErrorMessages;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {
+        FactoryUtil.class,
+        TestSerializerConfiguration.class
+})
+class ProjectionCopierTest {
+
+    public static class Customer {
+        private String name;
+        private String email;
+        private List<String> addresses = new ArrayList<>();
+    }
+
+    public static class Line {
+        private String sku;
+        private int quantity;
+    }
+
+    public static class Order {
+        private Long id;
+        private String status;
+        private Customer customer;
+        private List<Line> lines = new ArrayList<>();
+        private Line[] archivedLines;
+        private List<String> notes = new ArrayList<>();
+    }
+
+    record OrderRow(Long id, String status, Customer customer) {
+    }
+
+    private static Order order() {
+        Customer customer = new Customer();
+        customer.name = "ana";
+        customer.email = "ana@example.com";
+        customer.addresses.add("main street");
+        Line line = new Line();
+        line.sku = "SKU-1";
+        line.quantity = 3;
+        Order order = new Order();
+        order.id = 7L;
+        order.status = "OPEN";
+        order.customer = customer;
+        order.lines.add(line);
+        order.archivedLines = new Line[]{line, null};
+        order.notes.add("fragile");
+        return order;
+    }
+
+    @Test
+    void of_shouldMergePathsAndCompareByStructure() {
+        CopyProjection projection = CopyProjection.of("id", "Customer.name", "lines[].sku", "customer.email");
+
+        assertThat(projection.fields()).containsOnlyKeys("id", "customer", "lines");
+        assertThat(projection.fields().get("customer").fields()).containsOnlyKeys("name", "email");
+        assertThat(projection.fields().get("id").isWhole()).isTrue();
+        assertThat(projection).isEqualTo(CopyProjection.of("lines.sku", "customer.email", "customer.name", "id"));
+        assertThat(CopyProjection.of("customer", "customer.name").fields().get("customer").isWhole()).isTrue();
+    }
+
+    @Test
+    void of_shouldRejectMalformedPaths() {
+        assertThatThrownBy(CopyProjection::of)
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining(ErrorMessages.PROJECTION_PATH_INVALID);
+        assertThatThrownBy(() -> CopyProjection.of("customer..name"))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining(ErrorMessages.PROJECTION_PATH_INVALID);
+    }
+
+    @Test
+    void createFromObject_shouldCopyOnlyProjectedPaths() {
+        Order source = order();
+
+        Order copy = ObjectFactoryUtil.createFromObject(source, Order.class,
+                CopyProjection.of("id", "status", "customer.name", "lines[].sku", "archivedLines[].quantity"));
+
+        assertThat(copy.id).isEqualTo(7L);
+        assertThat(copy.status).isEqualTo("OPEN");
+        assertThat(copy.customer).isNotSameAs(source.customer);
+        assertThat(copy.customer.name).isEqualTo("ana");
+        assertThat(copy.customer.email).isNull();
+        assertThat(copy.customer.addresses).isEmpty();
+        assertThat(copy.lines).hasSize(1);
+        assertThat(copy.lines.getFirst().sku).isEqualTo("SKU-1");
+        assertThat(copy.lines.getFirst().quantity).isZero();
+        assertThat(copy.archivedLines).hasSize(2);
+        assertThat(copy.archivedLines[0].quantity).isEqualTo(3);
+        assertThat(copy.archivedLines[0].sku).isNull();
+        assertThat(copy.archivedLines[1]).isNull();
+        assertThat(copy.notes).isEmpty();
+    }
+
+    @Test
+    void createFromObject_shouldDeepCopyWholeProjectedFields() {
+        Order source = order();
+
+        Order copy = ObjectFactoryUtil.createFromObject(source, Order.class, CopyProjection.of("customer", "notes"));
+
+        assertThat(copy.customer).isNotSameAs(source.customer);
+        assertThat(copy.customer.email).isEqualTo("ana@example.com");
+        assertThat(copy.customer.addresses).containsExactly("main street").isNotSameAs(source.customer.addresses);
+        assertThat(copy.notes).containsExactly("fragile").isNotSameAs(source.notes);
+        assertThat(copy.lines).isEmpty();
+    }
+
+    @Test
+    void createFromObject_shouldProjectIntoConstructorBoundDestinations() {
+        OrderRow row = ObjectFactoryUtil.createFromObject(order(), OrderRow.class,
+                CopyProjection.of("id", "customer.email"));
+
+        assertThat(row.id()).isEqualTo(7L);
+        assertThat(row.status()).isNull();
+        assertThat(row.customer().email).isEqualTo("ana@example.com");
+        assertThat(row.customer().name).isNull();
+    }
+
+    @Test
+    void copyAllObjectsFromCollection_shouldProjectEveryElement() {
+        List<OrderRow> rows = ObjectFactoryUtil.copyAllObjectsFromCollection(List.of(order(), order()),
+                OrderRow.class, CopyProjection.of("id", "status"));
+
+        assertThat(rows).extracting(OrderRow::status).containsExactly("OPEN", "OPEN");
+        assertThat(rows).extracting(OrderRow::customer).containsOnlyNulls();
+    }
+
+    @Test
+    void createFromObject_shouldRejectPathsNotMatchingTheClasses() {
+        Order source = order();
+
+        assertThatThrownBy(() -> ObjectFactoryUtil.createFromObject(source, Order.class, CopyProjection.of("total")))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining(ErrorMessages.PROJECTION_PATH_INVALID);
+        assertThatThrownBy(() -> ObjectFactoryUtil.createFromObject(source, Order.class,
+                CopyProjection.of("status.value")))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining(ErrorMessages.PROJECTION_PATH_INVALID);
+        assertThatThrownBy(() -> ObjectFactoryUtil.createFromObject(source, Order.class, null))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining(ErrorMessages.PROJECTION_NULL);
+    }
+
+    @Test
+    void resolve_shouldCachePlansPerProjectionStructure() {
+        ProjectionPlan plan = ProjectionPlan.resolve(Order.class, Order.class, CopyProjection.of("id", "lines.sku"));
+
+        assertThat(ProjectionPlan.resolve(Order.class, Order.class, CopyProjection.of("lines[].sku", "id")))
+                .isSameAs(plan);
+        assertThat(plan.size()).isEqualTo(2);
+    }
+}
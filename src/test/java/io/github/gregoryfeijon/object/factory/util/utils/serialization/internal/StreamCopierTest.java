@@ -0,0 +1,143 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.factory.FactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.config.TestSerializerConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtilSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {
+        FactoryUtil.class,
+        TestSerializerConfiguration.class
+})
+class StreamCopierTest {
+
+    @AfterEach
+    void resetSettings() {
+        ObjectFactoryUtilSettings.setBulkParallelCostThreshold(ObjectFactoryUtilSettings.DEFAULT_BULK_PARALLEL_COST_THRESHOLD);
+        ObjectFactoryUtilSettings.setBulkCopyExecutor(null);
+    }
+
+    @Test
+    void copyStream_shouldCopyLazily() {
+        AtomicInteger read = new AtomicInteger();
+        Stream<PrimitiveFoo> unbounded = Stream.iterate(0L, i -> i + 1)
+                .peek(i -> read.incrementAndGet())
+                .map(i -> PrimitiveFoo.builder().longValue(i).build());
+
+        List<PrimitiveBar> firstThree = ObjectFactoryUtil.copyStream(unbounded, PrimitiveBar.class).limit(3).toList();
+
+        assertThat(firstThree).extracting(PrimitiveBar::getLongValue).containsExactly(0L, 1L, 2L);
+        assertThat(read).hasValue(3);
+    }
+
+    @Test
+    void copyStream_shouldReadOneChunkAtATime() {
+        AtomicInteger read = new AtomicInteger();
+        Stream<PrimitiveFoo> unbounded = Stream.iterate(0L, i -> i + 1)
+                .peek(i -> read.incrementAndGet())
+                .map(i -> PrimitiveFoo.builder().longValue(i).build());
+
+        Iterator<PrimitiveBar> copies = ObjectFactoryUtil.copyStream(unbounded, PrimitiveBar.class, 10).iterator();
+
+        assertThat(copies.next().getLongValue()).isZero();
+        assertThat(read).hasValue(10);
+        for (int i = 1; i <= 10; i++) {
+            assertThat(copies.next().getLongValue()).isEqualTo(i);
+        }
+        assertThat(read).hasValue(20);
+    }
+
+    @Test
+    void copyStream_shouldKeepOrderWhenChunksAreCopiedInParallel() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        ObjectFactoryUtilSettings.setBulkParallelCostThreshold(1);
+        ObjectFactoryUtilSettings.setBulkCopyExecutor(pool);
+        try {
+            Stream<PrimitiveFoo> sources = LongStream.range(0, 2_000)
+                    .mapToObj(i -> PrimitiveFoo.builder().longValue(i).build());
+
+            List<PrimitiveBar> copies = ObjectFactoryUtil.copyStream(sources, PrimitiveBar.class, 512).toList();
+
+            assertThat(copies).hasSize(2_000);
+            for (int i = 0; i < copies.size(); i++) {
+                assertThat(copies.get(i).getLongValue()).isEqualTo(i);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void copyIterator_shouldCopyOnNext() {
+        List<PrimitiveFoo> sources = List.of(PrimitiveFoo.builder().longValue(1L).build(),
+                PrimitiveFoo.builder().longValue(2L).build());
+
+        Iterator<PrimitiveBar> copies = ObjectFactoryUtil.copyIterator(sources.iterator(), PrimitiveBar.class);
+
+        assertThat(copies.next().getLongValue()).isEqualTo(1L);
+        assertThat(copies.next().getLongValue()).isEqualTo(2L);
+        assertThat(copies.hasNext()).isFalse();
+    }
+
+    @Test
+    void copyFunction_shouldCopyEachObjectIntoTargetType() {
+        Function<Object, PrimitiveBar> copy = ObjectFactoryUtil.copyFunction(PrimitiveBar.class);
+
+        List<PrimitiveBar> copies = LongStream.range(0, 1_000)
+                .parallel()
+                .mapToObj(i -> PrimitiveFoo.builder().longValue(i).build())
+                .map(copy)
+                .toList();
+
+        assertThat(copies).extracting(PrimitiveBar::getLongValue)
+                .containsExactlyElementsOf(LongStream.range(0, 1_000).boxed().toList());
+    }
+
+    @Test
+    void copyStreamTo_shouldFeedSinkAndCloseSource() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<PrimitiveFoo> sources = LongStream.range(0, 25)
+                .mapToObj(i -> PrimitiveFoo.builder().longValue(i).build())
+                .onClose(() -> closed.set(true));
+        List<PrimitiveBar> sink = new ArrayList<>();
+
+        long count = ObjectFactoryUtil.copyStreamTo(sources, PrimitiveBar.class, 10, sink::add);
+
+        assertThat(count).isEqualTo(25);
+        assertThat(sink.getLast().getLongValue()).isEqualTo(24L);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void copyStream_shouldValidateArguments() {
+        Stream<PrimitiveFoo> sources = Stream.of(new PrimitiveFoo());
+
+        assertThatThrownBy(() -> ObjectFactoryUtil.copyStream(null, PrimitiveBar.class))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> ObjectFactoryUtil.copyStream(sources, null))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> ObjectFactoryUtil.copyStream(sources, PrimitiveBar.class, 0))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> ObjectFactoryUtil.copyStreamTo(sources, PrimitiveBar.class, 1, null))
+                .isInstanceOf(ApiException.class);
+    }
+}
@@ -1,17 +1,12 @@
 package io.github.gregoryfeijon.object.factory.util.utils.serialization.internal;
 
-import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
-import io.github.gregoryfeijon.serializer.provider.util.gson.GsonTypesUtil;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -22,156 +17,13 @@ class TypeResolverTest {
     @SuppressWarnings("unused")
     private Map<String, Integer> stringIntMap;
     @SuppressWarnings("unused")
-    private List<List<String>> nestedList;
-    @SuppressWarnings("unused")
-    private List<List<List<String>>> deepNestedList;
-    @SuppressWarnings("unused")
     private Map<String, List<Integer>> mapOfLists;
-    @SuppressWarnings("unused")
-    private Map<String, Runnable> stringRunnableMap;
-    @SuppressWarnings("unused")
-    private Map<Integer, PrimitiveFoo> intPrimitiveFooMap;
-    @SuppressWarnings("unused")
-    private List<Number> numberList;
-    @SuppressWarnings("unused")
-    private Map<String, Number> stringNumberMap;
 
     private Type genericTypeOf(String fieldName) throws NoSuchFieldException {
         Field f = TypeResolverTest.class.getDeclaredField(fieldName);
         return f.getGenericType();
     }
 
-    @Test
-    void verifyAndExtractTypes_shouldExtractSingleTypeFromList() throws Exception {
-        Type genericType = genericTypeOf("stringList");
-
-        Class<?>[] types = TypeResolver.verifyAndExtractTypes(genericType);
-
-        assertThat(types).hasSize(1);
-        assertThat(types[0]).isEqualTo(String.class);
-    }
-
-    @Test
-    void verifyAndExtractTypes_shouldExtractTwoTypesFromMap() throws Exception {
-        Type genericType = genericTypeOf("stringIntMap");
-
-        Class<?>[] types = TypeResolver.verifyAndExtractTypes(genericType);
-
-        assertThat(types).hasSize(2);
-        assertThat(types[0]).isEqualTo(String.class);
-        assertThat(types[1]).isEqualTo(Integer.class);
-    }
-
-    @Test
-    void verifyType_shouldNotThrowForValidType() throws Exception {
-        Type genericType = genericTypeOf("stringList");
-
-        TypeResolver.verifyType(genericType);
-    }
-
-    @Test
-    void extractElementClass_shouldReturnClassForPlainClass() throws Exception {
-        Class<?> result = TypeResolver.extractElementClass(String.class);
-
-        assertThat(result).isEqualTo(String.class);
-    }
-
-    @Test
-    void extractElementClass_shouldReturnInnermostTypeForParameterizedType() throws Exception {
-        Type genericType = genericTypeOf("nestedList");
-        ParameterizedType paramType = (ParameterizedType) genericType;
-        Type innerType = paramType.getActualTypeArguments()[0]; // List<String>
-
-        Class<?> result = TypeResolver.extractElementClass(innerType);
-
-        assertThat(result).isEqualTo(String.class);
-    }
-
-    @Test
-    void extractElementClass_shouldHandleDeepNesting() throws Exception {
-        Type genericType = genericTypeOf("deepNestedList");
-        ParameterizedType paramType = (ParameterizedType) genericType;
-        // List<List<List<String>>> -> get first arg: List<List<String>>
-        Type level2 = paramType.getActualTypeArguments()[0];
-
-        Class<?> result = TypeResolver.extractElementClass(level2);
-
-        assertThat(result).isEqualTo(String.class);
-    }
-
-    @Test
-    void extractCollectionElementType_shouldReturnElementType() throws Exception {
-        Type genericType = genericTypeOf("stringList");
-
-        Class<?> result = TypeResolver.extractCollectionElementType(genericType);
-
-        assertThat(result).isEqualTo(String.class);
-    }
-
-    @Test
-    void extractMapValueType_shouldReturnValueType() throws Exception {
-        Type genericType = genericTypeOf("stringIntMap");
-
-        Class<?> result = TypeResolver.extractMapValueType(genericType);
-
-        assertThat(result).isEqualTo(Integer.class);
-    }
-
-    @Test
-    void getInnermostElementType_shouldReturnObjectClassForNull() {
-        Class<?> result = TypeResolver.getInnermostElementType(null);
-
-        assertThat(result).isEqualTo(Object.class);
-    }
-
-    @Test
-    void getInnermostElementType_shouldReturnObjectClassForEmptyCollection() {
-        Class<?> result = TypeResolver.getInnermostElementType(new ArrayList<>());
-
-        assertThat(result).isEqualTo(Object.class);
-    }
-
-    @Test
-    void getInnermostElementType_shouldReturnObjectClassForEmptyMap() {
-        Class<?> result = TypeResolver.getInnermostElementType(new HashMap<>());
-
-        assertThat(result).isEqualTo(Object.class);
-    }
-
-    @Test
-    void getInnermostElementType_shouldReturnElementClassForSimpleCollection() {
-        List<String> list = List.of("test");
-
-        Class<?> result = TypeResolver.getInnermostElementType(list);
-
-        assertThat(result).isEqualTo(String.class);
-    }
-
-    @Test
-    void getInnermostElementType_shouldReturnInnermostClassForNestedCollection() {
-        List<List<String>> nested = List.of(List.of("test"));
-
-        Class<?> result = TypeResolver.getInnermostElementType(nested);
-
-        assertThat(result).isEqualTo(String.class);
-    }
-
-    @Test
-    void getInnermostElementType_shouldReturnValueClassForMap() {
-        Map<String, Integer> map = Map.of("key", 42);
-
-        Class<?> result = TypeResolver.getInnermostElementType(map);
-
-        assertThat(result).isEqualTo(Integer.class);
-    }
-
-    @Test
-    void getInnermostElementType_shouldReturnClassForPlainObject() {
-        Class<?> result = TypeResolver.getInnermostElementType("test");
-
-        assertThat(result).isEqualTo(String.class);
-    }
-
     @Test
     void getNestedGenericType_shouldReturnTypeAtIndex() throws Exception {
         Type genericType = genericTypeOf("stringIntMap");
@@ -199,75 +51,6 @@ class TypeResolverTest {
         assertThat(result).isEqualTo(Object.class);
     }
 
-    @Test
-    void verifyAndExtractTypes_shouldNotThrowForInstantiableNestedType() throws Exception {
-        Type genericType = genericTypeOf("mapOfLists");
-        ParameterizedType paramType = (ParameterizedType) genericType;
-        // Get List<Integer> from Map<String, List<Integer>>
-        Type listType = paramType.getActualTypeArguments()[1]; // List<Integer>
-        // Integer is instantiable, so no exception
-        Class<?>[] types = TypeResolver.verifyAndExtractTypes(listType);
-        assertThat(types).hasSize(1);
-        assertThat(types[0]).isEqualTo(Integer.class);
-    }
-
-    @Test
-    void getInnermostElementType_shouldHandleNestedMap() {
-        Map<String, Map<String, Integer>> nestedMap = Map.of("outer", Map.of("inner", 42));
-
-        Class<?> result = TypeResolver.getInnermostElementType(nestedMap);
-
-        assertThat(result).isEqualTo(Integer.class);
-    }
-
-    // ==================== abstract / interface type handling ====================
-
-    @Test
-    void verifyAndExtractTypes_shouldNotThrow_andReturnType_forInterfaceType() throws Exception {
-        // Runnable is an interface — previously threw BeanInstantiationException, now skips instantiation check
-        Type type = GsonTypesUtil.getType(List.class, Runnable.class);
-
-        Class<?>[] types = TypeResolver.verifyAndExtractTypes(type);
-
-        assertThat(types).hasSize(1);
-        assertThat(types[0]).isEqualTo(Runnable.class);
-    }
-
-    @Test
-    void verifyAndExtractTypes_shouldNotThrow_andReturnType_forAbstractType() throws Exception {
-        Type type = GsonTypesUtil.getType(List.class, Number.class);
-
-        Class<?>[] types = TypeResolver.verifyAndExtractTypes(type);
-
-        assertThat(types).hasSize(1);
-        assertThat(types[0]).isEqualTo(Number.class);
-    }
-
-    @Test
-    void verifyType_shouldNotThrow_forInterfaceType() {
-        Type type = GsonTypesUtil.getType(List.class, Runnable.class);
-
-        org.junit.jupiter.api.Assertions.assertDoesNotThrow(() -> TypeResolver.verifyType(type));
-    }
-
-    @Test
-    void extractCollectionElementType_shouldReturnType_forInterfaceElementType() throws Exception {
-        Type type = GsonTypesUtil.getType(List.class, Runnable.class);
-
-        Class<?> result = TypeResolver.extractCollectionElementType(type);
-
-        assertThat(result).isEqualTo(Runnable.class);
-    }
-
-    @Test
-    void extractMapValueType_shouldReturnType_forInterfaceValueType() throws Exception {
-        Type type = genericTypeOf("stringRunnableMap");
-
-        Class<?> result = TypeResolver.extractMapValueType(type);
-
-        assertThat(result).isEqualTo(Runnable.class);
-    }
-
     // ==================== resolveEffectiveType ====================
 
     @Test
@@ -319,83 +102,6 @@ class TypeResolverTest {
         assertThat(result).isEqualTo(Integer.class);
     }
 
-    // ==================== primitive/enum/wrapper skip instantiation ====================
-
-    @Test
-    void verifyAndExtractTypes_shouldSkipInstantiation_forPrimitiveType() throws Exception {
-        Type type = GsonTypesUtil.getType(List.class, int.class);
-
-        Class<?>[] types = TypeResolver.verifyAndExtractTypes(type);
-
-        assertThat(types).hasSize(1);
-        assertThat(types[0]).isEqualTo(int.class);
-    }
-
-    @Test
-    void verifyAndExtractTypes_shouldSkipInstantiation_forEnumType() throws Exception {
-        Type type = GsonTypesUtil.getType(List.class, Thread.State.class);
-
-        Class<?>[] types = TypeResolver.verifyAndExtractTypes(type);
-
-        assertThat(types).hasSize(1);
-        assertThat(types[0]).isEqualTo(Thread.State.class);
-    }
-
-    @Test
-    void verifyAndExtractTypes_shouldSucceed_forInstantiableComplexType() throws Exception {
-        Type type = GsonTypesUtil.getType(List.class, PrimitiveFoo.class);
-
-        Class<?>[] types = TypeResolver.verifyAndExtractTypes(type);
-
-        assertThat(types).hasSize(1);
-        assertThat(types[0]).isEqualTo(PrimitiveFoo.class);
-    }
-
-    // ==================== extractElementClass edge cases ====================
-
-    @Test
-    void extractElementClass_shouldReturnRawType_forParameterizedTypeWithNoArgs() throws Exception {
-        // GsonTypesUtil.getType(List.class) creates a ParameterizedType - but it always has args.
-        // Use a custom Type to simulate zero args edge case
-        ParameterizedType zeroArgsType = new ParameterizedType() {
-            @Override
-            public Type[] getActualTypeArguments() {
-                return new Type[0];
-            }
-
-            @Override
-            public Type getRawType() {
-                return ArrayList.class;
-            }
-
-            @Override
-            public Type getOwnerType() {
-                return null;
-            }
-        };
-
-        Class<?> result = TypeResolver.extractElementClass(zeroArgsType);
-
-        assertThat(result).isEqualTo(ArrayList.class);
-    }
-
-    @Test
-    void extractElementClass_shouldResolveClassName_forNonClassNonParameterizedType() throws Exception {
-        // Simulate a Type that is not Class or ParameterizedType
-        Type customType = new Type() {
-            @Override
-            public String getTypeName() {
-                return "java.lang.String";
-            }
-        };
-
-        Class<?> result = TypeResolver.extractElementClass(customType);
-
-        assertThat(result).isEqualTo(String.class);
-    }
-
-    // ==================== additional edge cases ====================
-
     @Test
     void getNestedGenericType_shouldReturnNestedParameterizedType() throws Exception {
         Type genericType = genericTypeOf("mapOfLists");
@@ -406,42 +112,4 @@ class TypeResolverTest {
         ParameterizedType paramValueType = (ParameterizedType) valueType;
         assertThat(paramValueType.getRawType()).isEqualTo(List.class);
     }
-
-    @Test
-    void getInnermostElementType_shouldHandleCollectionOfMaps() {
-        List<Map<String, Integer>> listOfMaps = List.of(Map.of("key", 42));
-
-        Class<?> result = TypeResolver.getInnermostElementType(listOfMaps);
-
-        assertThat(result).isEqualTo(Integer.class);
-    }
-
-    @Test
-    void getInnermostElementType_shouldHandleDeepNestedCollection() {
-        List<List<List<String>>> deep = List.of(List.of(List.of("deep")));
-
-        Class<?> result = TypeResolver.getInnermostElementType(deep);
-
-        assertThat(result).isEqualTo(String.class);
-    }
-
-    @Test
-    void extractCollectionElementType_shouldReturnElementType_forSetType() throws Exception {
-        Type type = GsonTypesUtil.getType(Set.class, String.class);
-
-        Class<?> result = TypeResolver.extractCollectionElementType(type);
-
-        assertThat(result).isEqualTo(String.class);
-    }
-
-    @Test
-    void verifyAndExtractTypes_shouldHandleMapWithPrimitiveKeyAndComplexValue() throws Exception {
-        Type type = genericTypeOf("intPrimitiveFooMap");
-
-        Class<?>[] types = TypeResolver.verifyAndExtractTypes(type);
-
-        assertThat(types).hasSize(2);
-        assertThat(types[0]).isEqualTo(Integer.class);
-        assertThat(types[1]).isEqualTo(PrimitiveFoo.class);
-    }
 }